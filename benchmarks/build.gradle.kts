@@ -0,0 +1,28 @@
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.common)
+}
+
+tasks {
+    jar {
+        enabled = false
+    }
+
+    javadoc {
+        enabled = false
+    }
+}
+
+// Run with "./gradlew :benchmarks:jmh", optionally filtered with "-PjmhIncludes=<regex>" e.g. "-PjmhIncludes=ParseBenchmark"
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList()))
+    profilers.add("gc") // Reports allocation rate per operation
+    resultFormat.set("JSON")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
@@ -0,0 +1,66 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.VersionBatchResult;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how bulk parsing scales with the number of threads, against parsing in a loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BatchParseBenchmark {
+    private static final int SIZE = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private String[] input;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        // Mostly valid versions with some invalid strings mixed in, like a registry dump
+        final String[] valid = VersionCorpus.PRE_RELEASE.strings(SIZE);
+        final String[] invalid = VersionCorpus.INVALID.strings(SIZE / 20);
+        final Random random = new Random(SIZE);
+        input = valid.clone();
+        for (String string : invalid)
+            input[random.nextInt(SIZE)] = string;
+
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void loop(Blackhole blackhole) {
+        for (String string : input)
+            blackhole.consume(VersionParser.tryParse(string));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public VersionBatchResult parseAll() {
+        return VersionParser.parseAll(input, pool);
+    }
+}
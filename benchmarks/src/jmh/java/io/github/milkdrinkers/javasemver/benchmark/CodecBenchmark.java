@@ -0,0 +1,78 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCodec;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares round-tripping versions through {@link VersionCodec} against formatting and parsing version strings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+    private static final int SIZE = 10_000;
+
+    @Param({"PLAIN", "PRE_RELEASE", "META"})
+    public VersionCorpus corpus;
+
+    private Version[] versions;
+    private List<Version> batch;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        versions = corpus.versions(SIZE);
+        batch = Arrays.asList(versions);
+        buffer = ByteBuffer.allocate(SIZE * 64);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void codec(Blackhole blackhole) {
+        buffer.clear();
+        for (Version version : versions)
+            VersionCodec.encode(version, buffer);
+        buffer.flip();
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(VersionCodec.decode(buffer));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void codecBatch(Blackhole blackhole) {
+        blackhole.consume(VersionCodec.decodeBatch(VersionCodec.encodeBatch(batch)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void string(Blackhole blackhole) {
+        buffer.clear();
+        for (Version version : versions) {
+            final byte[] bytes = version.getVersionFull().getBytes(StandardCharsets.UTF_8);
+            buffer.put((byte) bytes.length).put(bytes);
+        }
+        buffer.flip();
+        for (int i = 0; i < SIZE; i++) {
+            final byte[] bytes = new byte[buffer.get()];
+            buffer.get(bytes);
+            blackhole.consume(VersionParser.parse(new String(bytes, StandardCharsets.UTF_8)));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCompare;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of comparing versions pairwise and of sorting a list of versions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CompareBenchmark {
+    private static final int PAIRS = 1024;
+
+    @Param({"PLAIN", "PRE_RELEASE", "META"})
+    public VersionCorpus corpus;
+
+    @Param({"10000"})
+    public int sortSize;
+
+    private Version[] left;
+    private Version[] right;
+    private Version[] unsorted;
+
+    @Setup
+    public void setup() {
+        final Version[] versions = corpus.versions(PAIRS * 2);
+        left = Arrays.copyOfRange(versions, 0, PAIRS);
+        right = Arrays.copyOfRange(versions, PAIRS, PAIRS * 2);
+        unsorted = corpus.versions(sortSize);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void compare(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++)
+            blackhole.consume(VersionCompare.compare(left[i], right[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void comparePrecedence(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++)
+            blackhole.consume(VersionCompare.comparePrecedence(left[i], right[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void compareTo(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++)
+            blackhole.consume(left[i].compareTo(right[i]));
+    }
+
+    @Benchmark
+    public Version[] sort() {
+        final Version[] versions = unsorted.clone();
+        Arrays.sort(versions);
+        return versions;
+    }
+}
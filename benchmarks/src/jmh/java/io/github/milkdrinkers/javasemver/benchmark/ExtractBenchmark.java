@@ -0,0 +1,62 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.VersionExtractor;
+import io.github.milkdrinkers.javasemver.VersionMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares finding the versions in a changelog-like text against a regex with {@link Matcher#find()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ExtractBenchmark {
+    private static final int LINES = 10_000;
+    private static final String[] WORDS = {"Fixed", "crash", "when", "loading", "chunks", "on", "Java", "17", "build", "#4521", "API", "(see", "PR)", "v2", "x86_64"};
+    private static final Pattern PATTERN = Pattern.compile("(?<![\\w.])[vV]?(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)(?:-((?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?(?:\\+([0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?(?![\\w])(?!\\.\\d)");
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(LINES);
+        final String[] versions = VersionCorpus.PRE_RELEASE.strings(LINES);
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            builder.append("- ");
+            for (int w = 0; w < 8; w++)
+                builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            if (random.nextInt(3) == 0)
+                builder.append("since ").append(versions[i]);
+            builder.append('\n');
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public List<VersionMatch> extractor() {
+        return VersionExtractor.findAll(text);
+    }
+
+    @Benchmark
+    public List<String> regex() {
+        final List<String> matches = new ArrayList<>();
+        final Matcher matcher = PATTERN.matcher(text);
+        while (matcher.find())
+            matches.add(matcher.group());
+        return matches;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.VersionFileReader;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a newline-delimited version file through the memory-mapped reader against a {@link BufferedReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FileReadBenchmark {
+    private static final int LINES = 1_000_000;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("versions", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (String version : VersionCorpus.PRE_RELEASE.strings(LINES)) {
+                writer.write(version);
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void bufferedReader(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null)
+                blackhole.consume(VersionParser.tryParse(line.trim()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void mapped(Blackhole blackhole) throws IOException {
+        VersionFileReader.forEach(file, (offset, version) -> blackhole.consume(version));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void mappedParallel(Blackhole blackhole) throws IOException {
+        VersionFileReader.parallelForEach(file, (offset, version) -> blackhole.consume(version));
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of constructing versions and formatting them back into strings, and of serializing versions into
+ * shared buffers through {@link Version#toString()} compared to {@link Version#writeTo(StringBuilder)} and
+ * {@link Version#writeTo(ByteBuffer)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"PLAIN", "PRE_RELEASE", "META"})
+    public VersionCorpus corpus;
+
+    private Version[] versions;
+    private Version[] fresh;
+    private StringBuilder builder;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        versions = corpus.versions(SIZE);
+        builder = new StringBuilder(SIZE * 64);
+        buffer = ByteBuffer.allocateDirect(SIZE * 64);
+    }
+
+    /**
+     * Copies the versions before each invocation, so serializing never finds a version string cached by an earlier invocation.
+     */
+    @Setup(Level.Invocation)
+    public void copy() {
+        fresh = new Version[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            fresh[i] = Version.of(versions[i].getMajor(), versions[i].getMinor(), versions[i].getPatch(), versions[i].getPreRelease(), versions[i].getBuildMetadata());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void construct(Blackhole blackhole) {
+        for (Version version : versions)
+            blackhole.consume(Version.of(version.getMajor(), version.getMinor(), version.getPatch(), version.getPreRelease(), version.getBuildMetadata()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void constructAndFormat(Blackhole blackhole) {
+        for (Version version : versions)
+            blackhole.consume(Version.of(version.getMajor(), version.getMinor(), version.getPatch(), version.getPreRelease(), version.getBuildMetadata()).toString());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public StringBuilder toStringToBuilder() {
+        builder.setLength(0);
+        for (Version version : fresh)
+            builder.append(version.toString()).append('\n');
+        return builder;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public StringBuilder writeToBuilder() {
+        builder.setLength(0);
+        for (Version version : fresh)
+            version.writeTo(builder).append('\n');
+        return builder;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ByteBuffer toStringToBuffer() {
+        buffer.clear();
+        for (Version version : fresh)
+            buffer.put(version.toString().getBytes(StandardCharsets.US_ASCII)).put((byte) '\n');
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ByteBuffer writeToBuffer() {
+        buffer.clear();
+        for (Version version : fresh)
+            version.writeTo(buffer).put((byte) '\n');
+        return buffer;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionEquivalence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grouping versions in a {@link HashMap}, by equality and by precedence.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HashBenchmark {
+    private static final int SIZE = 100_000;
+
+    @Param({"PLAIN", "PRE_RELEASE", "META"})
+    public VersionCorpus corpus;
+
+    private Version[] versions;
+
+    @Setup
+    public void setup() {
+        // Versions repeat like reports from a fleet, sharing instances
+        final Version[] distinct = corpus.versions(SIZE / 100);
+        final Random random = new Random(SIZE);
+        versions = new Version[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            versions[i] = distinct[random.nextInt(distinct.length)];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Map<Version, Integer> groupByEquality() {
+        final Map<Version, Integer> counts = new HashMap<>();
+        for (Version version : versions)
+            counts.merge(version, 1, Integer::sum);
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Map<VersionEquivalence.Key, Integer> groupByPrecedence() {
+        final Map<VersionEquivalence.Key, Integer> counts = new HashMap<>();
+        for (Version version : versions)
+            counts.merge(VersionEquivalence.PRECEDENCE.wrap(version), 1, Integer::sum);
+        return counts;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionInterner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of interning versions, and of comparing interned versions against uninterned ones.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class InternBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"PLAIN", "PRE_RELEASE", "META"})
+    public VersionCorpus corpus;
+
+    private Version[] versions;
+    private Version[] interned;
+    private VersionInterner interner;
+
+    @Setup
+    public void setup() {
+        versions = corpus.versions(SIZE);
+        interner = new VersionInterner();
+        interned = new Version[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            interned[i] = interner.intern(versions[i]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void intern(Blackhole blackhole) {
+        for (Version version : versions)
+            blackhole.consume(interner.intern(version));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compareInterned(Blackhole blackhole) {
+        for (Version version : interned)
+            blackhole.consume(version.compareTo(interner.intern(version)));
+    }
+}
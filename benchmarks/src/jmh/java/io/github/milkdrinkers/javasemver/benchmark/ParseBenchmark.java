@@ -0,0 +1,82 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCache;
+import io.github.milkdrinkers.javasemver.VersionParseResult;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import io.github.milkdrinkers.javasemver.VersionSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parse throughput over corpora of plain, pre-release, build-metadata and invalid version strings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"PLAIN", "PRE_RELEASE", "META", "INVALID"})
+    public VersionCorpus corpus;
+
+    private String[] strings;
+    private VersionCache cache;
+    private Version threshold;
+    private VersionSlot slot;
+
+    @Setup
+    public void setup() {
+        strings = corpus.strings(SIZE);
+        cache = new VersionCache(SIZE * 2);
+        threshold = Version.of("1.10.0");
+        slot = new VersionSlot();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void tryParse(Blackhole blackhole) {
+        for (String string : strings)
+            blackhole.consume(VersionParser.tryParse(string));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void ofOptional(Blackhole blackhole) {
+        for (String string : strings)
+            blackhole.consume(Version.ofOptional(string));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void cachedTryParse(Blackhole blackhole) {
+        for (String string : strings)
+            blackhole.consume(cache.tryParse(string));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void tryParseAndCompare(Blackhole blackhole) {
+        for (String string : strings) {
+            final VersionParseResult result = VersionParser.tryParse(string);
+            blackhole.consume(result.isSuccess() && result.getVersion().compareTo(threshold) >= 0);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void slotTryParseAndCompare(Blackhole blackhole) {
+        for (String string : strings)
+            blackhole.consume(slot.tryParse(string) && slot.compareTo(threshold) >= 0);
+    }
+}
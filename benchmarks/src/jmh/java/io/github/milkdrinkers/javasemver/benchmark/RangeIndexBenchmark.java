@@ -0,0 +1,110 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.VersionRangeIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the ranges containing a version, and the versions within a range, using an index against a linear scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RangeIndexBenchmark {
+    private static final int QUERIES = 64;
+
+    @Param({"1000", "50000"})
+    public int rangeCount;
+
+    private VersionRange[] ranges;
+    private VersionRangeIndex<VersionRange> index;
+    private Version[] queries;
+    private List<Version> catalog;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(rangeCount);
+        ranges = new VersionRange[rangeCount];
+        for (int i = 0; i < rangeCount; i++)
+            ranges[i] = VersionRange.parse(range(random));
+
+        index = VersionRangeIndex.of(Arrays.asList(ranges), range -> range);
+        queries = VersionCorpus.PLAIN.versions(QUERIES);
+
+        final Version[] versions = VersionCorpus.PRE_RELEASE.versions(rangeCount);
+        Arrays.sort(versions);
+        catalog = Arrays.asList(versions);
+    }
+
+    /**
+     * Generates a compatibility range like "^1.20", "~2.3.1" or ">=1.8 <1.21 || 2.x".
+     */
+    private static String range(Random random) {
+        final int major = random.nextInt(4);
+        final int minor = random.nextInt(25);
+        switch (random.nextInt(4)) {
+            case 0:
+                return "^" + major + "." + minor;
+            case 1:
+                return "~" + major + "." + minor + "." + random.nextInt(12);
+            case 2:
+                return ">=" + major + "." + minor + " <" + major + "." + (minor + 1 + random.nextInt(5));
+            default:
+                return major + "." + minor + ".x || " + (major + 1) + ".x";
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void indexQuery(Blackhole blackhole) {
+        for (Version query : queries)
+            index.forEach(query, blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void linearQuery(Blackhole blackhole) {
+        for (Version query : queries) {
+            for (VersionRange range : ranges) {
+                if (range.contains(query))
+                    blackhole.consume(range);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void indexSelect(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++)
+            blackhole.consume(VersionRangeIndex.select(catalog, ranges[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void linearSelect(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            final List<Version> matches = new ArrayList<>();
+            for (Version version : catalog) {
+                if (ranges[i].contains(version))
+                    matches.add(version);
+            }
+            blackhole.consume(matches);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookup and publish throughput under a mixed read/write load, against a synchronized map of sorted lists.
+ * <p>
+ * Writers keep the number of versions per artifact steady by retracting the oldest version for each one they publish.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+public class RegistryBenchmark {
+    private static final int ARTIFACTS = 64;
+    private static final int VERSIONS = 200;
+
+    private String[] keys;
+    private VersionRegistry<String> registry;
+    private Map<String, List<Version>> synchronizedMap;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        keys = new String[ARTIFACTS];
+        registry = new VersionRegistry<>();
+        synchronizedMap = new HashMap<>();
+        for (int i = 0; i < ARTIFACTS; i++) {
+            keys[i] = "artifact-" + i;
+            final List<Version> versions = new ArrayList<>();
+            for (int v = 0; v < VERSIONS; v++)
+                versions.add(Version.of("1." + v + ".0"));
+            registry.publishAll(keys[i], versions);
+            synchronizedMap.put(keys[i], versions);
+        }
+    }
+
+    /**
+     * Per-writer state, publishing ever newer versions.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+        private int next = VERSIONS;
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(ARTIFACTS)];
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(7)
+    public Version registryLookup() {
+        return registry.latest(randomKey());
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(1)
+    public void registryPublish(Writer writer) {
+        final String key = randomKey();
+        final int next = writer.next++;
+        registry.publish(key, Version.of("2." + next + ".0"));
+        registry.update(key, catalog -> catalog.without(catalog.first()));
+    }
+
+    @Benchmark
+    @Group("synchronizedMap")
+    @GroupThreads(7)
+    public Version synchronizedLookup() {
+        synchronized (synchronizedMap) {
+            final List<Version> versions = synchronizedMap.get(randomKey());
+            return versions.get(versions.size() - 1);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedMap")
+    @GroupThreads(1)
+    public void synchronizedPublish(Writer writer) {
+        final String key = randomKey();
+        final Version version = Version.of("2." + writer.next++ + ".0");
+        synchronized (synchronizedMap) {
+            final List<Version> versions = synchronizedMap.get(key);
+            int index = Collections.binarySearch(versions, version);
+            versions.add(index < 0 ? -index - 1 : index, version);
+            versions.remove(0);
+        }
+    }
+}
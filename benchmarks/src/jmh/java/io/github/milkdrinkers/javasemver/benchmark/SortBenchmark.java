@@ -0,0 +1,76 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link VersionSorter} against sorting by {@link Version#compareTo(Version)} with {@link Arrays#sort(Object[])}.
+ *
+ * @implNote The arrays share 100000 distinct versions, so 100M elements fit in the heap given to the fork
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SortBenchmark {
+    private static final int DISTINCT = 100_000;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    private Version[] input;
+    private Version[] versions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Version[] distinct = VersionCorpus.PRE_RELEASE.versions(DISTINCT / 2);
+        final Version[] releases = VersionCorpus.PLAIN.versions(DISTINCT / 2);
+        final Random random = new Random(size);
+        input = new Version[size];
+        for (int i = 0; i < size; i++)
+            input[i] = random.nextBoolean() ? distinct[random.nextInt(distinct.length)] : releases[random.nextInt(releases.length)];
+    }
+
+    @Setup(Level.Iteration)
+    public void copy() {
+        versions = input.clone();
+    }
+
+    @Benchmark
+    public Version[] comparison() {
+        Arrays.sort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public Version[] parallelComparison() {
+        Arrays.parallelSort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public Version[] radix() {
+        VersionSorter.sort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public Version[] parallelRadix() {
+        VersionSorter.parallelSort(versions);
+        return versions;
+    }
+}
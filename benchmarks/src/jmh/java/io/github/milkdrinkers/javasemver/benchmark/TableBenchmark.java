@@ -0,0 +1,69 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCheckResult;
+import io.github.milkdrinkers.javasemver.VersionCompare;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.VersionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares analytic queries over a {@link VersionTable} against scanning a list of versions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TableBenchmark {
+    private static final int SIZE = 5_000_000;
+
+    private final Version pivot = Version.of("1.12.0");
+    private final VersionRange range = VersionRange.parse(">=1.5.0 <2.0.0");
+    private List<Version> list;
+    private VersionTable table;
+
+    @Setup
+    public void setup() {
+        list = Arrays.asList(VersionCorpus.PRE_RELEASE.versions(SIZE));
+        table = VersionTable.of(list);
+    }
+
+    @Benchmark
+    public long listNewerThan() {
+        long count = 0;
+        for (Version version : list) {
+            if (VersionCompare.compare(version, pivot) == VersionCheckResult.NEWER)
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long tableNewerThan() {
+        return table.countNewerThan(pivot);
+    }
+
+    @Benchmark
+    public long listRange() {
+        long count = 0;
+        for (Version version : list) {
+            if (range.contains(version))
+                count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long tableRange() {
+        return table.count(range);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.milkdrinkers.javasemver.benchmark;
+
+import io.github.milkdrinkers.javasemver.Version;
+
+import java.util.Random;
+
+/**
+ * Generates deterministic corpora of version strings resembling real-world input.
+ */
+public enum VersionCorpus {
+    /**
+     * Release versions like "1.20.4".
+     */
+    PLAIN {
+        @Override
+        String next(Random random) {
+            return release(random);
+        }
+    },
+    /**
+     * Versions with pre-release identifiers like "2.3.0-SNAPSHOT" or "1.0.0-rc.2".
+     */
+    PRE_RELEASE {
+        @Override
+        String next(Random random) {
+            return release(random) + "-" + pick(random, PRE_RELEASES) + (random.nextBoolean() ? "." + random.nextInt(20) : "");
+        }
+    },
+    /**
+     * Versions with build-metadata like "1.4.2+build.5114f85".
+     */
+    META {
+        @Override
+        String next(Random random) {
+            return release(random) + (random.nextBoolean() ? "-" + pick(random, PRE_RELEASES) : "") + "+build." + Integer.toHexString(random.nextInt()) + "." + random.nextInt(1000);
+        }
+    },
+    /**
+     * Strings that are not valid versions, like user-agent fragments and malformed versions.
+     */
+    INVALID {
+        @Override
+        String next(Random random) {
+            return pick(random, INVALID_STRINGS) + (random.nextBoolean() ? random.nextInt(100) : "");
+        }
+    };
+
+    private static final String[] PRE_RELEASES = {"SNAPSHOT", "alpha", "beta", "rc", "dev", "pre", "RC-3", "build"};
+    private static final String[] INVALID_STRINGS = {"Mozilla/5.0", "1.20", "1.02.3", "v1.2.3.4", "1.2.3-alpha..1", "1.2.3-beta_", "unknown", "git-5114f85", "1.2.x"};
+
+    /**
+     * Generates a corpus of version strings.
+     *
+     * @param size the number of strings
+     * @return the strings
+     */
+    public String[] strings(int size) {
+        final Random random = new Random(ordinal() * 31L + size);
+        final String[] strings = new String[size];
+        for (int i = 0; i < size; i++)
+            strings[i] = next(random);
+        return strings;
+    }
+
+    /**
+     * Generates a corpus of parsed versions, only valid for corpora of valid versions.
+     *
+     * @param size the number of versions
+     * @return the versions
+     */
+    public Version[] versions(int size) {
+        final String[] strings = strings(size);
+        final Version[] versions = new Version[size];
+        for (int i = 0; i < size; i++)
+            versions[i] = Version.of(strings[i]);
+        return versions;
+    }
+
+    abstract String next(Random random);
+
+    private static String release(Random random) {
+        // Skewed towards small numbers like real-world versions
+        return random.nextInt(random.nextInt(4) + 1) + "." + random.nextInt(25) + "." + random.nextInt(12);
+    }
+
+    private static String pick(Random random, String[] strings) {
+        return strings[random.nextInt(strings.length)];
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only {@link CharSequence} view over ASCII bytes, mapping each byte to the char of the same value.
+ *
+ * @implNote Indexes are the absolute indexes of the underlying array or buffer, nothing is copied until {@link #toString(int, int)} is called.
+ * Bytes above {@code 0x7F} map to chars above {@code 0x7F}, so UTF-8 encoded input never scans as a valid version.
+ */
+@ApiStatus.Internal
+final class AsciiCharSequence implements CharSequence {
+    private byte[] array; // The backing array, null if reading from the buffer
+    private int base; // The offset of index 0 in the backing array
+    private ByteBuffer buffer; // The backing buffer, null if reading from the array
+    private int length; // The length of the sequence
+
+    AsciiCharSequence() {
+    }
+
+    /**
+     * Point this view at a byte array.
+     *
+     * @param array the array
+     * @return this view
+     */
+    AsciiCharSequence wrap(byte[] array) {
+        this.array = array;
+        this.base = 0;
+        this.buffer = null;
+        this.length = array.length;
+        return this;
+    }
+
+    /**
+     * Point this view at a byte buffer, reading through its backing array if it has an accessible one.
+     *
+     * @param buffer the buffer
+     * @return this view
+     */
+    AsciiCharSequence wrap(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            this.array = buffer.array();
+            this.base = buffer.arrayOffset();
+            this.buffer = null;
+        } else {
+            this.array = null;
+            this.base = 0;
+            this.buffer = buffer;
+        }
+        this.length = buffer.limit();
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (array != null)
+            return (char) (array[base + index] & 0xFF);
+
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(int start, int end) {
+        return toString(start, end);
+    }
+
+    /**
+     * Copies a region of this view into a string.
+     *
+     * @param start the index of the first char, inclusive
+     * @param end   the index of the last char, exclusive
+     * @return the string
+     */
+    String toString(int start, int end) {
+        if (array != null)
+            return new String(array, base + start, end - start, StandardCharsets.ISO_8859_1);
+
+        final char[] chars = new char[end - start];
+        for (int i = start; i < end; i++)
+            chars[i - start] = (char) (buffer.get(i) & 0xFF);
+        return new String(chars);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return toString(0, length);
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.milkdrinkers.javasemver;
+
+import io.github.milkdrinkers.javasemver.exception.VersionBuildException;
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Contains logic for packing release versions, versions without pre-release or build-metadata, into a single {@code long}.
+ * <p>
+ * The major, minor and patch version each take 21 bits, from the most significant bits down, leaving the sign bit 0:
+ * <pre>{@code
+ * 0 | major (21 bits) | minor (21 bits) | patch (21 bits)
+ * }</pre>
+ * Each component is limited to {@link #MAX_COMPONENT}, 2097151. Packed versions compare by precedence with a single
+ * {@link Long#compare(long, long)}, and can be stored in {@code long[]} arrays and primitive collections.
+ *
+ * @apiNote Use {@link #fits(Version)} to check if a version can be packed losslessly.
+ */
+public abstract class PrimitiveVersion {
+    /**
+     * The largest major, minor or patch version that can be packed.
+     */
+    public static final long MAX_COMPONENT = (1L << 21) - 1;
+    /**
+     * The value returned by {@link #tryParse(CharSequence)} for input that can't be packed, never a packed version.
+     */
+    public static final long INVALID = -1L;
+
+    private static final int MAJOR_SHIFT = 42; // The position of the major version bits
+    private static final int MINOR_SHIFT = 21; // The position of the minor version bits
+    private static final String[] NO_IDENTIFIERS = new String[0]; // Identifiers of unpacked versions
+    private static final long[] NO_IDENTIFIER_KEYS = new long[0]; // Identifier keys of unpacked versions
+
+    /**
+     * Packs a release version.
+     *
+     * @param major the major version
+     * @param minor the minor version
+     * @param patch the patch version
+     * @return the packed version
+     * @throws VersionBuildException thrown if a component is negative or larger than {@link #MAX_COMPONENT}
+     */
+    public static long pack(long major, long minor, long patch) throws VersionBuildException {
+        check("Major", major);
+        check("Minor", minor);
+        check("Patch", patch);
+        return major << MAJOR_SHIFT | minor << MINOR_SHIFT | patch;
+    }
+
+    /**
+     * Packs a version.
+     *
+     * @param version the version
+     * @return the packed version
+     * @throws VersionBuildException thrown if the version does not fit, see {@link #fits(Version)}
+     */
+    public static long pack(@NotNull Version version) throws VersionBuildException {
+        if (version.hasPreRelease() || version.hasMeta())
+            throw new VersionBuildException(String.format("Version \"%s\" can't be packed as it has a pre-release or build-metadata.", version.getVersionFull()));
+
+        return pack(version.getMajor(), version.getMinor(), version.getPatch());
+    }
+
+    /**
+     * Checks if a version can be packed losslessly.
+     *
+     * @param version the version
+     * @return true if the version has no pre-release or build-metadata and all components are at most {@link #MAX_COMPONENT}
+     */
+    public static boolean fits(@NotNull Version version) {
+        return !version.hasPreRelease()
+            && !version.hasMeta()
+            && version.getMajor() <= MAX_COMPONENT
+            && version.getMinor() <= MAX_COMPONENT
+            && version.getPatch() <= MAX_COMPONENT;
+    }
+
+    /**
+     * Unpacks a packed version.
+     *
+     * @param packed the packed version
+     * @return the version
+     */
+    public static @NotNull Version toVersion(long packed) {
+        return new Version(getMajor(packed), getMinor(packed), getPatch(packed), "", NO_IDENTIFIERS, NO_IDENTIFIER_KEYS, "");
+    }
+
+    /**
+     * Gets the major version of a packed version.
+     *
+     * @param packed the packed version
+     * @return the major version
+     */
+    public static long getMajor(long packed) {
+        return packed >>> MAJOR_SHIFT & MAX_COMPONENT;
+    }
+
+    /**
+     * Gets the minor version of a packed version.
+     *
+     * @param packed the packed version
+     * @return the minor version
+     */
+    public static long getMinor(long packed) {
+        return packed >>> MINOR_SHIFT & MAX_COMPONENT;
+    }
+
+    /**
+     * Gets the patch version of a packed version.
+     *
+     * @param packed the packed version
+     * @return the patch version
+     */
+    public static long getPatch(long packed) {
+        return packed & MAX_COMPONENT;
+    }
+
+    /**
+     * Compares the precedence of two packed versions in ascending order.
+     *
+     * @param packed the first packed version
+     * @param other  the second packed version
+     * @return a negative integer, zero, or a positive integer as the first version is older than, equal to, or newer than the second version
+     */
+    public static int compare(long packed, long other) {
+        return Long.compare(packed, other);
+    }
+
+    /**
+     * Formats a packed version like {@link Version#getVersion()}, e.g. "1.20.4".
+     *
+     * @param packed the packed version
+     * @return the formatted version
+     */
+    public static @NotNull String format(long packed) {
+        return formatTo(packed, new StringBuilder(14)).toString();
+    }
+
+    /**
+     * Appends a packed version formatted like {@link Version#getVersion()} to a builder.
+     *
+     * @param packed  the packed version
+     * @param builder the builder
+     * @return the builder
+     */
+    public static @NotNull StringBuilder formatTo(long packed, @NotNull StringBuilder builder) {
+        return builder.append(getMajor(packed)).append('.').append(getMinor(packed)).append('.').append(getPatch(packed));
+    }
+
+    /**
+     * Parses a release version directly into a packed version, without creating a {@link Version}.
+     *
+     * @param input the version string
+     * @return the packed version
+     * @throws VersionParseException thrown if the input is not a valid version, or is a version that does not fit
+     */
+    public static long parse(@NotNull CharSequence input) throws VersionParseException {
+        final VersionScanner scanner = new VersionScanner();
+        if (!scanner.scan(input, 0, input.length()))
+            throw new VersionParseException(String.format("Version could not be parsed from version string \"%s\": %s at index %d.", input, scanner.error.getDescription(), scanner.errorIndex));
+
+        if (!fits(scanner))
+            throw new VersionParseException(String.format("Version \"%s\" can't be packed as it has a pre-release, build-metadata or a component larger than %d.", input, MAX_COMPONENT));
+
+        return scanner.major << MAJOR_SHIFT | scanner.minor << MINOR_SHIFT | scanner.patch;
+    }
+
+    /**
+     * Parses a release version directly into a packed version, without creating a {@link Version} or throwing.
+     *
+     * @param input the version string
+     * @return the packed version, or {@link #INVALID} if the input is not a valid version or is a version that does not fit
+     */
+    public static long tryParse(@NotNull CharSequence input) {
+        final VersionScanner scanner = new VersionScanner();
+        if (!scanner.scan(input, 0, input.length()) || !fits(scanner))
+            return INVALID;
+
+        return scanner.major << MAJOR_SHIFT | scanner.minor << MINOR_SHIFT | scanner.patch;
+    }
+
+    private static boolean fits(VersionScanner scanner) {
+        return scanner.preReleaseStart < 0
+            && scanner.metaStart < 0
+            && scanner.major <= MAX_COMPONENT
+            && scanner.minor <= MAX_COMPONENT
+            && scanner.patch <= MAX_COMPONENT;
+    }
+
+    private static void check(String name, long component) throws VersionBuildException {
+        if (component < 0 || component > MAX_COMPONENT)
+            throw new VersionBuildException(String.format("%s version \"%s\" must be between 0 and %d to be packed.", name, component, MAX_COMPONENT));
+    }
+}
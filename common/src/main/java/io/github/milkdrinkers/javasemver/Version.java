@@ -5,34 +5,34 @@ import io.github.milkdrinkers.javasemver.exception.VersionParseException;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 /**
  * A class representing a Semantic Version.
  */
 public class Version extends VersionCompare implements Comparable<Version> {
+    private static final String[] NO_IDENTIFIERS = new String[0]; // Shared identifiers of versions without a pre-release
+    private static final long[] NO_IDENTIFIER_KEYS = new long[0]; // Shared identifier keys of versions without a pre-release
+
+    private static final int QUALIFIERS_COMPUTED = 1 << 31; // Set in the lazily computed qualifier mask once it has been computed
+
     // Base fields
     private final long major; // The Major version
     private final long minor; // The Minor version
     private final long patch; // The Patch version
     private final String preRelease; // The pre-release data like "SNAPSHOT-1" or "RC-3"
     private final String[] preReleaseIdentifiers; // The pre-release data divided into strings by the seperator "."
+    private final long[] preReleaseKeys; // The comparison form of each pre-release identifier, see VersionCompare
     private final String meta; // The build-metadata
 
-    // Cached fields
-    private final boolean hasPreRelease;
-    private final boolean hasMeta;
-    private final String version; // The version consisting of only Major.Minor.Patch
-    private final String versionFull; // The entire version string
-
-    // Cached fields
-    private final boolean isAlpha; // Whether the a pre-release contains "alpha"
-    private final boolean isBeta; // Whether the a pre-release contains "beta"
-    private final boolean isDevelopment; // Whether the a pre-release contains "dev", "develop" or "development"
-    private final boolean isReleaseCandidate; // Whether the a pre-release contains "rc"
-    private final boolean isSnapshot; // Whether the a pre-release contains "snapshot"
+    // Lazily cached fields, racy single-check is safe as strings are immutable and ints are written atomically
+    private String version; // The version consisting of only Major.Minor.Patch
+    private String versionFull; // The entire version string
+    private int qualifiers; // The mask of the qualifiers of the pre-release, see VersionQualifier, 0 until computed
+    private int hash; // The hash code, 0 until computed
+    private int precedenceHash; // The hash code of the precedence, ignoring build-metadata, 0 until computed
 
     /**
      * Instantiates a new version object.
@@ -43,6 +43,7 @@ public class Version extends VersionCompare implements Comparable<Version> {
      * @param preRelease the pre-release version
      * @param meta       the build-meta
      * @implSpec Only to be used internally through builders/factories
+     * @implNote Only the pre-release identifiers and their comparison form are derived here, formatted strings and qualifier flags are derived when first requested
      */
     @ApiStatus.Internal
     Version(long major, long minor, long patch, String preRelease, String meta) {
@@ -51,22 +52,32 @@ public class Version extends VersionCompare implements Comparable<Version> {
         this.minor = minor;
         this.patch = patch;
         this.preRelease = preRelease;
-        this.preReleaseIdentifiers = Arrays.stream(preRelease.split("\\."))
-            .filter(string -> !string.isEmpty()) // Fixes bug where empty strings would count as identifiers
-            .toArray(String[]::new);
+        this.preReleaseIdentifiers = splitIdentifiers(preRelease);
+        this.preReleaseKeys = identifierKeys(preReleaseIdentifiers);
         this.meta = meta;
+    }
 
-        this.hasPreRelease = !getPreRelease().isEmpty();
-        this.hasMeta = !getBuildMetadata().isEmpty();
-        this.version = concatenateVersionString(this.major, this.minor, this.patch);
-        this.versionFull = concatenateVersionStringFull(this.major, this.minor, this.patch, this.preRelease, this.meta);
-
-        // Cached fields
-        this.isAlpha = preRelease.toLowerCase().contains("alpha");
-        this.isBeta = preRelease.toLowerCase().contains("beta");
-        this.isDevelopment = preRelease.toLowerCase().contains("dev") || preRelease.toLowerCase().contains("develop") || preRelease.toLowerCase().contains("development");
-        this.isReleaseCandidate = preRelease.toLowerCase().contains("rc");
-        this.isSnapshot = preRelease.toLowerCase().contains("snapshot");
+    /**
+     * Instantiates a new version object from already split pre-release identifiers.
+     *
+     * @param major                 the major version
+     * @param minor                 the minor version
+     * @param patch                 the patch version
+     * @param preRelease            the pre-release version
+     * @param preReleaseIdentifiers the identifiers of the pre-release, taken ownership of
+     * @param preReleaseKeys        the comparison form of the identifiers, taken ownership of
+     * @param meta                  the build-meta
+     * @implSpec Only to be used internally by decoders of canonical data, nothing is validated or derived
+     */
+    @ApiStatus.Internal
+    Version(long major, long minor, long patch, String preRelease, String[] preReleaseIdentifiers, long[] preReleaseKeys, String meta) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.preReleaseIdentifiers = preReleaseIdentifiers.length == 0 ? NO_IDENTIFIERS : preReleaseIdentifiers;
+        this.preReleaseKeys = preReleaseKeys.length == 0 ? NO_IDENTIFIER_KEYS : preReleaseKeys;
+        this.meta = meta;
     }
 
     /**
@@ -75,7 +86,7 @@ public class Version extends VersionCompare implements Comparable<Version> {
      * @param version a string containing a semantic version
      * @return a version object
      * @throws VersionParseException thrown if parsing the string into a version failed
-     * @apiNote Uses {@link VersionParser#parse(String)} internally
+     * @apiNote Uses {@link VersionParser#parse(String)} internally, use a {@link VersionCache} to share versions parsed from the same strings
      */
     public static @NotNull Version of(String version) throws VersionParseException {
         return VersionParser.parse(version);
@@ -86,14 +97,13 @@ public class Version extends VersionCompare implements Comparable<Version> {
      *
      * @param version a string containing a semantic version
      * @return a version object wrapped in a optional
-     * @apiNote Uses {@link VersionParser#parse(String)} internally
+     * @apiNote Uses {@link VersionParser#tryParse(String)} internally
      */
     public static @NotNull Optional<Version> ofOptional(String version) {
-        try {
-            return Optional.of(VersionParser.parse(version));
-        } catch (Exception ignored) {
+        if (version == null)
             return Optional.empty();
-        }
+
+        return VersionParser.tryParse(version).toOptional();
     }
 
     /**
@@ -192,6 +202,17 @@ public class Version extends VersionCompare implements Comparable<Version> {
         return preReleaseIdentifiers;
     }
 
+    /**
+     * Gets the comparison form of the pre-release identifiers, holding the value of each numeric identifier or a negative marker.
+     *
+     * @return the array of identifier keys, in the same order as {@link #getPreReleaseIdentifiers()}
+     * @implNote The returned array is shared and must not be modified
+     */
+    @ApiStatus.Internal
+    long[] getPreReleaseKeys() {
+        return preReleaseKeys;
+    }
+
     /**
      * Gets build-metadata.
      *
@@ -207,7 +228,7 @@ public class Version extends VersionCompare implements Comparable<Version> {
      * @return boolean
      */
     public boolean hasPreRelease() {
-        return hasPreRelease;
+        return !preRelease.isEmpty();
     }
 
     /**
@@ -216,7 +237,7 @@ public class Version extends VersionCompare implements Comparable<Version> {
      * @return boolean
      */
     public boolean hasMeta() {
-        return hasMeta;
+        return !meta.isEmpty();
     }
 
     /**
@@ -225,6 +246,9 @@ public class Version extends VersionCompare implements Comparable<Version> {
      * @return the version
      */
     public String getVersion() {
+        String version = this.version;
+        if (version == null)
+            this.version = version = appendVersionString(new StringBuilder(20), major, minor, patch).toString();
         return version;
     }
 
@@ -234,109 +258,301 @@ public class Version extends VersionCompare implements Comparable<Version> {
      * @return the full version
      */
     public String getVersionFull() {
+        String versionFull = this.versionFull;
+        if (versionFull == null)
+            this.versionFull = versionFull = appendVersionStringFull(new StringBuilder(20 + preRelease.length() + meta.length()), major, minor, patch, preRelease, meta).toString();
         return versionFull;
     }
 
+    /**
+     * Appends the full Semantic version string to a builder, like {@link #getVersionFull()} without creating a string.
+     *
+     * @param builder the builder
+     * @return the builder
+     * @implNote Appends the cached version string if it has already been created, otherwise appends the numbers directly
+     */
+    public @NotNull StringBuilder writeTo(@NotNull StringBuilder builder) {
+        final String versionFull = this.versionFull;
+        if (versionFull != null)
+            return builder.append(versionFull);
+
+        return appendVersionStringFull(builder, major, minor, patch, preRelease, meta);
+    }
+
+    /**
+     * Appends the full Semantic version string to an appendable, like {@link #getVersionFull()} without creating a string.
+     *
+     * @param appendable the appendable, like a {@link java.io.Writer}
+     * @param <A>        the type of the appendable
+     * @return the appendable
+     * @throws IOException thrown if the appendable throws
+     */
+    public <A extends Appendable> @NotNull A writeTo(@NotNull A appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            writeTo((StringBuilder) appendable);
+        } else {
+            VersionWriter.write(this, appendable);
+        }
+        return appendable;
+    }
+
+    /**
+     * Writes the full Semantic version string as ASCII bytes at the position of a buffer, like {@link #getVersionFull()}
+     * without creating a string, advancing the position past the written bytes.
+     *
+     * @param buffer the buffer
+     * @return the buffer
+     * @throws java.nio.BufferOverflowException thrown if the version does not fit in the remaining bytes, the buffer is left unchanged
+     * @throws java.nio.ReadOnlyBufferException thrown if the buffer is read-only
+     * @throws IllegalArgumentException         thrown if the pre-release or build-metadata has a char that is not ASCII, which
+     *                                          only versions built with {@link VersionBuilder} can have, the buffer is left unchanged
+     */
+    public @NotNull ByteBuffer writeTo(@NotNull ByteBuffer buffer) {
+        VersionWriter.write(this, buffer);
+        return buffer;
+    }
+
     /**
      * Is this version an alpha build.
      *
      * @return the boolean
-     * @apiNote Essentially returns whether the pre-release contains "alpha"
+     * @apiNote Returns whether the pre-release is tagged "alpha", see {@link VersionQualifier#ALPHA}
      */
     public boolean isAlpha() {
-        return isAlpha;
+        return hasQualifier(VersionQualifier.ALPHA);
     }
 
     /**
      * Is this version a beta build.
      *
      * @return the boolean
-     * @apiNote Essentially returns whether the pre-release contains "beta"
+     * @apiNote Returns whether the pre-release is tagged "beta", see {@link VersionQualifier#BETA}
      */
     public boolean isBeta() {
-        return isBeta;
+        return hasQualifier(VersionQualifier.BETA);
     }
 
     /**
      * Is this version a dev build.
      *
      * @return the boolean
-     * @apiNote Essentially returns whether the pre-release contains "dev", "develop" or "development"
+     * @apiNote Returns whether the pre-release is tagged "dev", "devel", "develop" or "development", see {@link VersionQualifier#DEVELOPMENT}
      */
     public boolean isDev() {
-        return isDevelopment;
+        return hasQualifier(VersionQualifier.DEVELOPMENT);
     }
 
     /**
      * Is this version a release candidate build.
      *
      * @return the boolean
-     * @apiNote Essentially returns whether the pre-release contains "rc"
+     * @apiNote Returns whether the pre-release is tagged "rc", see {@link VersionQualifier#RELEASE_CANDIDATE}
      */
     public boolean isRC() {
-        return isReleaseCandidate;
+        return hasQualifier(VersionQualifier.RELEASE_CANDIDATE);
     }
 
     /**
      * Is this version a snapshot build.
      *
      * @return the boolean
-     * @apiNote Essentially returns whether the pre-release contains "snapshot"
+     * @apiNote Returns whether the pre-release is tagged "snapshot", see {@link VersionQualifier#SNAPSHOT}
      */
     public boolean isSnapshot() {
-        return isSnapshot;
+        return hasQualifier(VersionQualifier.SNAPSHOT);
+    }
+
+    /**
+     * Checks if the pre-release of this version is tagged with a qualifier.
+     *
+     * @param qualifier the qualifier
+     * @return true if any word of the pre-release is a word of the qualifier
+     */
+    public boolean hasQualifier(@NotNull VersionQualifier qualifier) {
+        return (getQualifierMask() & qualifier.mask()) != 0;
     }
 
     /**
-     * Concatenates to a Semantic versioning string.
+     * Gets the mask of the qualifiers of the pre-release, classifying the pre-release on first use.
+     *
+     * @return the mask, with the bit {@link VersionQualifier#mask()} set for each qualifier
+     */
+    @ApiStatus.Internal
+    int getQualifierMask() {
+        int qualifiers = this.qualifiers;
+        if (qualifiers == 0)
+            this.qualifiers = qualifiers = VersionQualifier.classify(preReleaseIdentifiers) | QUALIFIERS_COMPUTED;
+        return qualifiers & ~QUALIFIERS_COMPUTED;
+    }
+
+    /**
+     * Splits a pre-release into its identifiers by the seperator ".", skipping empty identifiers.
+     */
+    private static String[] splitIdentifiers(String preRelease) {
+        if (preRelease.isEmpty())
+            return NO_IDENTIFIERS;
+
+        // Single identifier, reuse the pre-release string
+        if (preRelease.indexOf('.') < 0)
+            return new String[]{preRelease};
+
+        // Count identifiers first so the array is allocated once
+        int count = 0;
+        int start = 0;
+        for (int i = 0; i <= preRelease.length(); i++) {
+            if (i == preRelease.length() || preRelease.charAt(i) == '.') {
+                if (i > start) // Fixes bug where empty strings would count as identifiers
+                    count++;
+                start = i + 1;
+            }
+        }
+
+        final String[] identifiers = new String[count];
+        count = 0;
+        start = 0;
+        for (int i = 0; i <= preRelease.length(); i++) {
+            if (i == preRelease.length() || preRelease.charAt(i) == '.') {
+                if (i > start)
+                    identifiers[count++] = preRelease.substring(start, i);
+                start = i + 1;
+            }
+        }
+        return identifiers;
+    }
+
+    /**
+     * Computes the comparison form of pre-release identifiers, so comparisons never have to re-parse them.
+     */
+    private static long[] identifierKeys(String[] identifiers) {
+        if (identifiers.length == 0)
+            return NO_IDENTIFIER_KEYS;
+
+        final long[] keys = new long[identifiers.length];
+        for (int i = 0; i < identifiers.length; i++)
+            keys[i] = identifierKey(identifiers[i]);
+        return keys;
+    }
+
+    /**
+     * Computes the comparison form of a pre-release identifier.
+     *
+     * @return the value of a numeric identifier, {@link VersionCompare#OVERSIZED_NUMERIC} if it is too large for a long, or {@link VersionCompare#ALPHANUMERIC}
+     */
+    private static long identifierKey(String identifier) {
+        // Numeric identifiers consist of only digits with no leading zeros (except for "0" itself)
+        if (identifier.length() > 1 && identifier.charAt(0) == '0')
+            return ALPHANUMERIC;
+
+        long value = 0;
+        boolean oversized = false;
+        for (int i = 0; i < identifier.length(); i++) {
+            final char c = identifier.charAt(i);
+            if (c < '0' || c > '9')
+                return ALPHANUMERIC;
+
+            if (!oversized) {
+                final int digit = c - '0';
+                if (value > (Long.MAX_VALUE - digit) / 10)
+                    oversized = true;
+                else
+                    value = value * 10 + digit;
+            }
+        }
+        return oversized ? OVERSIZED_NUMERIC : value;
+    }
+
+    /**
+     * Appends a Semantic versioning string.
      */
-    private static String concatenateVersionString(long major, long minor, long patch) {
-        return String.format("%s.%s.%s", major, minor, patch);
+    private static StringBuilder appendVersionString(StringBuilder builder, long major, long minor, long patch) {
+        return builder.append(major).append('.').append(minor).append('.').append(patch);
     }
 
     /**
-     * Concatenates to a full Semantic versioning string.
+     * Appends a full Semantic versioning string.
      */
-    private static String concatenateVersionStringFull(long major, long minor, long patch, String preRelease, String meta) {
-        return String.format("%s%s%s", concatenateVersionString(major, minor, patch), (preRelease.isEmpty() ? "" : "-" + preRelease), (meta.isEmpty() ? "" : "+" + meta));
+    private static StringBuilder appendVersionStringFull(StringBuilder builder, long major, long minor, long patch, String preRelease, String meta) {
+        appendVersionString(builder, major, minor, patch);
+        if (!preRelease.isEmpty())
+            builder.append('-').append(preRelease);
+        if (!meta.isEmpty())
+            builder.append('+').append(meta);
+        return builder;
     }
 
     /**
-     * Compares this object with the specified object for order.  Returns a
-     * negative integer, zero, or a positive integer as this object is less
-     * than, equal to, or greater than the specified object.
+     * Compares the precedence of this version with another version, in ascending order from the oldest to the newest version.
      *
-     * @param other the object to be compared.
-     * @return a negative integer, zero, or a positive integer as this object
-     * is less than, equal to, or greater than the specified object.
-     * @throws NullPointerException if the specified object is null
-     * @throws ClassCastException   if the specified object's type prevents it
-     *                              from being compared to this object.
+     * @param other the other version
+     * @return a negative integer, zero, or a positive integer as this version is older than, equal to, or newer than the other version
+     * @throws NullPointerException if the other version is null
+     * @apiNote Build-metadata is ignored, so this is inconsistent with {@link #equals(Object)} for versions only differing in build-metadata.
+     * Sorting versions, or using them as keys of a {@link java.util.TreeMap}, orders them from the oldest to the newest version.
+     * @see VersionCompare#comparePrecedence(Version, Version)
      */
     @Override
     public int compareTo(@NotNull Version other) {
-        final VersionCheckResult result = VersionCompare.compare(this, other);
-
-        switch (result) {
-            case NEWER:
-                return -1;
-            case OLDER:
-                return 1;
-            default:
-                return 0;
-        }
+        return VersionCompare.comparePrecedence(this, other);
     }
 
+    /**
+     * Checks if this version is equal to another object.
+     *
+     * @param o the other object
+     * @return true if the other object is a version with the same major, minor and patch version, pre-release and build-metadata
+     * @apiNote Versions only differing in build-metadata have equal precedence but are not equal, use
+     * {@link VersionEquivalence#PRECEDENCE} to group versions by precedence.
+     */
     @Override
     public boolean equals(Object o) {
-        if (!(o instanceof Version)) return false;
-        Version version = (Version) o;
-        return getMajor() == version.getMajor() && getMinor() == version.getMinor() && getPatch() == version.getPatch() && Objects.equals(hasPreRelease(), version.hasPreRelease()) && Objects.equals(getBuildMetadata(), version.getBuildMetadata());
+        if (this == o)
+            return true;
+        if (!(o instanceof Version))
+            return false;
+
+        final Version other = (Version) o;
+        return hashCode() == other.hashCode() && isPrecedenceEqual(other) && meta.equals(other.meta);
     }
 
+    /**
+     * Gets the hash code of this version, computed once from the same fields as {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getMajor(), getMinor(), getPatch(), hasPreRelease(), getBuildMetadata());
+        int hash = this.hash;
+        if (hash == 0)
+            this.hash = hash = 31 * precedenceHashCode() + meta.hashCode();
+        return hash;
+    }
+
+    /**
+     * Checks if this version has the same precedence as another version, ignoring build-metadata.
+     *
+     * @param other the other version
+     * @return true if the versions have the same major, minor and patch version and pre-release
+     */
+    @ApiStatus.Internal
+    boolean isPrecedenceEqual(@NotNull Version other) {
+        return major == other.major && minor == other.minor && patch == other.patch && preRelease.equals(other.preRelease);
+    }
+
+    /**
+     * Gets the hash code of the precedence of this version, computed once, ignoring build-metadata.
+     *
+     * @return the hash code
+     */
+    @ApiStatus.Internal
+    int precedenceHashCode() {
+        int hash = this.precedenceHash;
+        if (hash == 0) {
+            hash = Long.hashCode(major);
+            hash = 31 * hash + Long.hashCode(minor);
+            hash = 31 * hash + Long.hashCode(patch);
+            this.precedenceHash = hash = 31 * hash + preRelease.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -0,0 +1,194 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses a batch of version strings split into contiguous chunks, each chunk parsed by one thread.
+ * <p>
+ * Chunks are contiguous so every thread reads its own stretch of the input and writes its own stretch of the output,
+ * instead of threads interleaving over the same cache lines.
+ */
+@ApiStatus.Internal
+final class VersionBatchParser {
+    private static final int MIN_CHUNK_SIZE = 1024; // The smallest chunk worth handing to another thread
+    private static final int CHUNKS_PER_THREAD = 4; // Spare chunks per thread, balancing chunks that parse slower
+
+    private final String[] input; // The unparsed version strings
+    private final Version[] versions; // The parsed versions, null where parsing failed
+    private final int chunkSize; // The number of inputs per chunk, the last chunk may be smaller
+    private final Failures[] failures; // The failures of each chunk, null if the chunk had none
+
+    private VersionBatchParser(String[] input, int parallelism) {
+        this.input = input;
+        this.versions = new Version[input.length];
+        this.chunkSize = Math.max(MIN_CHUNK_SIZE, input.length / (Math.max(1, parallelism) * CHUNKS_PER_THREAD) + 1);
+        this.failures = new Failures[(input.length + chunkSize - 1) / chunkSize];
+    }
+
+    /**
+     * Parses a batch on the calling thread, used for batches that fit in a single chunk.
+     */
+    static VersionBatchResult parse(String[] input) {
+        final VersionBatchParser parser = new VersionBatchParser(input, 1);
+        for (int chunk = 0; chunk < parser.failures.length; chunk++)
+            parser.parseChunk(chunk);
+        return parser.result();
+    }
+
+    /**
+     * Parses a batch on a fork-join pool, splitting the chunks between its threads.
+     */
+    static VersionBatchResult parse(String[] input, ForkJoinPool pool) {
+        if (input.length <= MIN_CHUNK_SIZE)
+            return parse(input);
+
+        final VersionBatchParser parser = new VersionBatchParser(input, pool.getParallelism());
+        pool.invoke(parser.new ChunkTask(0, parser.failures.length));
+        return parser.result();
+    }
+
+    /**
+     * Parses a batch on an executor, submitting one task per chunk and waiting for all of them.
+     */
+    static VersionBatchResult parse(String[] input, Executor executor, int parallelism) {
+        if (input.length <= MIN_CHUNK_SIZE)
+            return parse(input);
+
+        final VersionBatchParser parser = new VersionBatchParser(input, parallelism);
+        final CountDownLatch latch = new CountDownLatch(parser.failures.length);
+        final Throwable[] thrown = new Throwable[1];
+        for (int chunk = 0; chunk < parser.failures.length; chunk++) {
+            final int c = chunk;
+            executor.execute(() -> {
+                try {
+                    parser.parseChunk(c);
+                } catch (Throwable t) {
+                    synchronized (thrown) {
+                        thrown[0] = t;
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing versions.", e);
+        }
+
+        synchronized (thrown) {
+            if (thrown[0] != null)
+                throw new IllegalStateException("Parsing versions failed.", thrown[0]);
+        }
+        return parser.result();
+    }
+
+    /**
+     * Parses the inputs of a chunk, reusing one scanner for the whole chunk.
+     */
+    private void parseChunk(int chunk) {
+        final int from = chunk * chunkSize;
+        final int to = Math.min(input.length, from + chunkSize);
+        final VersionScanner scanner = new VersionScanner();
+
+        Failures chunkFailures = null;
+        for (int i = from; i < to; i++) {
+            final String unparsedVersion = input[i];
+            if (unparsedVersion == null) {
+                if (chunkFailures == null)
+                    chunkFailures = new Failures();
+                chunkFailures.add(i, VersionParseError.UNEXPECTED_END, 0);
+            } else if (scanner.scan(unparsedVersion, 0, unparsedVersion.length())) {
+                versions[i] = VersionParser.toVersion(scanner, unparsedVersion);
+            } else {
+                if (chunkFailures == null)
+                    chunkFailures = new Failures();
+                chunkFailures.add(i, scanner.error, scanner.errorIndex);
+            }
+        }
+        failures[chunk] = chunkFailures;
+    }
+
+    /**
+     * Merges the failures of all chunks, which are already ordered by input index.
+     */
+    private VersionBatchResult result() {
+        int count = 0;
+        for (Failures chunkFailures : failures) {
+            if (chunkFailures != null)
+                count += chunkFailures.size;
+        }
+
+        final int[] indexes = new int[count];
+        final byte[] errors = new byte[count];
+        final int[] errorIndexes = new int[count];
+        int offset = 0;
+        for (Failures chunkFailures : failures) {
+            if (chunkFailures == null)
+                continue;
+
+            System.arraycopy(chunkFailures.indexes, 0, indexes, offset, chunkFailures.size);
+            System.arraycopy(chunkFailures.errors, 0, errors, offset, chunkFailures.size);
+            System.arraycopy(chunkFailures.errorIndexes, 0, errorIndexes, offset, chunkFailures.size);
+            offset += chunkFailures.size;
+        }
+        return new VersionBatchResult(versions, indexes, errors, errorIndexes);
+    }
+
+    /**
+     * Recursively splits a range of chunks between fork-join threads.
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 5816291283436407723L;
+
+        private final int from; // The first chunk, inclusive
+        private final int to; // The last chunk, exclusive
+
+        private ChunkTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                parseChunk(from);
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, mid), new ChunkTask(mid, to));
+        }
+    }
+
+    /**
+     * The failures of a chunk, stored as growable parallel arrays.
+     */
+    private static final class Failures {
+        private int[] indexes = new int[8]; // The input index of each failure
+        private byte[] errors = new byte[8]; // The ordinal of the error of each failure
+        private int[] errorIndexes = new int[8]; // The char offset of each failure
+        private int size; // The number of failures
+
+        private void add(int index, VersionParseError error, int errorIndex) {
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+                errors = Arrays.copyOf(errors, size * 2);
+                errorIndexes = Arrays.copyOf(errorIndexes, size * 2);
+            }
+            indexes[size] = index;
+            errors[size] = (byte) error.ordinal();
+            errorIndexes[size] = errorIndex;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The result of parsing a batch of version strings without throwing, holding the parsed versions by input index and the
+ * failures of the inputs that could not be parsed.
+ *
+ * @implNote Failures are stored compactly as parallel arrays sorted by input index, so batches with few failures use
+ * little memory beyond the parsed versions themselves.
+ */
+public final class VersionBatchResult {
+    private static final VersionParseError[] ERRORS = VersionParseError.values();
+
+    private final Version[] versions; // The parsed version of each input, null where parsing failed
+    private final int[] failureIndexes; // The input index of each failure, ascending
+    private final byte[] failureErrors; // The ordinal of the VersionParseError of each failure
+    private final int[] failureErrorIndexes; // The char offset in the input each failure happened at
+
+    VersionBatchResult(Version[] versions, int[] failureIndexes, byte[] failureErrors, int[] failureErrorIndexes) {
+        this.versions = versions;
+        this.failureIndexes = failureIndexes;
+        this.failureErrors = failureErrors;
+        this.failureErrorIndexes = failureErrorIndexes;
+    }
+
+    /**
+     * Gets the number of inputs in the batch.
+     *
+     * @return the size
+     */
+    public int size() {
+        return versions.length;
+    }
+
+    /**
+     * Returns whether every input was parsed.
+     *
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return failureIndexes.length == 0;
+    }
+
+    /**
+     * Returns whether the input at an index was parsed.
+     *
+     * @param index the input index
+     * @return boolean
+     */
+    public boolean isSuccess(int index) {
+        return versions[index] != null;
+    }
+
+    /**
+     * Gets the version parsed from the input at an index.
+     *
+     * @param index the input index
+     * @return the version, or null if the input could not be parsed
+     */
+    public @Nullable Version getVersion(int index) {
+        return versions[index];
+    }
+
+    /**
+     * Gets the versions by input index.
+     *
+     * @return an unmodifiable list the size of the batch, holding null where an input could not be parsed
+     */
+    public @NotNull List<Version> getVersions() {
+        return new VersionList();
+    }
+
+    /**
+     * Gets the versions that were parsed, leaving out inputs that could not be parsed.
+     *
+     * @return the versions, in input order
+     */
+    public @NotNull List<Version> getParsedVersions() {
+        final List<Version> parsed = new ArrayList<>(versions.length - failureIndexes.length);
+        for (Version version : versions) {
+            if (version != null)
+                parsed.add(version);
+        }
+        return parsed;
+    }
+
+    /**
+     * Gets the result of parsing the input at an index.
+     *
+     * @param index the input index
+     * @return the result
+     */
+    public @NotNull VersionParseResult getResult(int index) {
+        final Version version = versions[index];
+        if (version != null)
+            return VersionParseResult.success(version);
+
+        final int failure = Arrays.binarySearch(failureIndexes, index);
+        return VersionParseResult.failure(getFailureError(failure), getFailureErrorIndex(failure));
+    }
+
+    /**
+     * Gets the number of inputs that could not be parsed.
+     *
+     * @return the failure count
+     */
+    public int getFailureCount() {
+        return failureIndexes.length;
+    }
+
+    /**
+     * Gets the input index of a failure.
+     *
+     * @param failure the failure, from 0 to {@link #getFailureCount()} in ascending input index
+     * @return the input index
+     */
+    public int getFailureIndex(int failure) {
+        return failureIndexes[failure];
+    }
+
+    /**
+     * Gets the reason a failure happened.
+     *
+     * @param failure the failure, from 0 to {@link #getFailureCount()} in ascending input index
+     * @return the error
+     */
+    public @NotNull VersionParseError getFailureError(int failure) {
+        return ERRORS[failureErrors[failure]];
+    }
+
+    /**
+     * Gets the char offset in the input a failure happened at.
+     *
+     * @param failure the failure, from 0 to {@link #getFailureCount()} in ascending input index
+     * @return the offset
+     */
+    public int getFailureErrorIndex(int failure) {
+        return failureErrorIndexes[failure];
+    }
+
+    @Override
+    public String toString() {
+        return "VersionBatchResult{size=" + size() + ", failures=" + getFailureCount() + "}";
+    }
+
+    /**
+     * A list view over the versions by input index.
+     */
+    private final class VersionList extends AbstractList<Version> implements RandomAccess {
+        @Override
+        public Version get(int index) {
+            return versions[index];
+        }
+
+        @Override
+        public int size() {
+            return versions.length;
+        }
+    }
+}
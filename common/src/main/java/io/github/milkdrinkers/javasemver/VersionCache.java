@@ -0,0 +1,245 @@
+package io.github.milkdrinkers.javasemver;
+
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of parsed {@link Version} objects keyed by their version string.
+ * <p>
+ * Repeatedly parsing the same version strings through this cache returns the same shared immutable {@link Version}
+ * instead of re-parsing and re-allocating it. The cache is opt-in, {@link Version#of(String)} never caches.
+ *
+ * @implNote The cache is split into independently locked segments, each evicting its least recently used entry when full.
+ * Strings that fail to parse are never cached.
+ */
+public final class VersionCache {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment[] segments; // The segments, a power of two in length
+    private final int segmentMask; // Mask selecting a segment from a hash
+    private final int maximumSize; // The maximum number of cached versions
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Instantiates a new version cache.
+     *
+     * @param maximumSize the maximum number of cached versions
+     * @throws IllegalArgumentException thrown if the maximum size is less than 1
+     */
+    public VersionCache(int maximumSize) {
+        this(maximumSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Instantiates a new version cache.
+     *
+     * @param maximumSize      the maximum number of cached versions
+     * @param concurrencyLevel the expected number of threads using the cache concurrently
+     * @throws IllegalArgumentException thrown if the maximum size or concurrency level is less than 1
+     */
+    public VersionCache(int maximumSize, int concurrencyLevel) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException(String.format("Maximum size \"%s\" can't be less than 1.", maximumSize));
+
+        if (concurrencyLevel < 1)
+            throw new IllegalArgumentException(String.format("Concurrency level \"%s\" can't be less than 1.", concurrencyLevel));
+
+        // Use a power of two segments, without making segments smaller than a handful of entries
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel && segmentCount * 8 <= maximumSize)
+            segmentCount <<= 1;
+
+        this.maximumSize = maximumSize;
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the maximum size over the segments so the total never exceeds it
+            final int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity, evictions);
+        }
+    }
+
+    /**
+     * Parse a {@link String} into a {@link Version}, returning a cached instance if the string was parsed before.
+     *
+     * @param unparsedVersion the unparsed version string
+     * @return the resulting {@link Version}
+     * @throws VersionParseException thrown if a valid semantic version could not be parsed from the string
+     * @apiNote Uses {@link VersionParser#parse(String)} internally
+     */
+    public @NotNull Version parse(@NotNull String unparsedVersion) throws VersionParseException {
+        final Version cached = get(unparsedVersion);
+        if (cached != null)
+            return cached;
+
+        return put(unparsedVersion, VersionParser.parse(unparsedVersion));
+    }
+
+    /**
+     * Parse a {@link String} into a {@link Version} without throwing on invalid input, returning a cached instance if the string was parsed before.
+     *
+     * @param unparsedVersion the unparsed version string
+     * @return a result holding either the resulting {@link Version}, or the reason parsing failed
+     * @apiNote Uses {@link VersionParser#tryParse(String)} internally
+     */
+    public @NotNull VersionParseResult tryParse(@NotNull String unparsedVersion) {
+        final Version cached = get(unparsedVersion);
+        if (cached != null)
+            return VersionParseResult.success(cached);
+
+        final VersionParseResult result = VersionParser.tryParse(unparsedVersion);
+        if (!result.isSuccess())
+            return result;
+
+        final Version version = put(unparsedVersion, result.getVersion());
+        return version == result.getVersion() ? result : VersionParseResult.success(version);
+    }
+
+    /**
+     * Looks up a cached version, counting the hit or miss.
+     */
+    private Version get(String unparsedVersion) {
+        final Version version = segment(unparsedVersion).get(unparsedVersion);
+        if (version != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return version;
+    }
+
+    /**
+     * Caches a parsed version, returning the version cached by another thread in the meantime if there is one.
+     */
+    private Version put(String unparsedVersion, Version version) {
+        return segment(unparsedVersion).putOrGet(unparsedVersion, version);
+    }
+
+    private Segment segment(String unparsedVersion) {
+        // Spread the hash so strings differing only in their last chars land in different segments
+        final int hash = unparsedVersion.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Gets the number of lookups that returned a cached version.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to parse the version string.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of versions evicted to stay within the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the maximum number of cached versions.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of cached versions.
+     *
+     * @return the size
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments)
+            size += segment.size();
+        return size;
+    }
+
+    /**
+     * Removes all cached versions, the hit, miss and eviction counts are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments)
+            segment.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "VersionCache{size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    /**
+     * A locked least recently used map making up part of the cache.
+     */
+    private static final class Segment extends LinkedHashMap<String, Version> {
+        private static final long serialVersionUID = -5234186385457113947L;
+
+        private final int capacity; // The maximum number of entries in this segment
+        private final transient LongAdder evictions; // The eviction count shared by all segments
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75F, true); // Access order makes the eldest entry the least recently used
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        public synchronized Version get(Object key) {
+            return super.get(key);
+        }
+
+        /**
+         * Puts a version unless one is already cached for the key.
+         *
+         * @return the cached version
+         */
+        synchronized Version putOrGet(String key, Version value) {
+            final Version existing = super.get(key);
+            if (existing != null)
+                return existing;
+
+            super.put(key, value);
+            return value;
+        }
+
+        @Override
+        public synchronized int size() {
+            return super.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Version> eldest) {
+            if (super.size() <= capacity)
+                return false;
+
+            evictions.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of versions sorted by ascending precedence, answering navigation queries like the latest release.
+ * <p>
+ * Versions of equal precedence, like versions only differing in build-metadata, keep the order they were given in.
+ *
+ * @implNote Navigation queries are binary searches taking logarithmic time. The latest stable and pre-release versions are
+ * precomputed for every prefix of the catalog, making them constant time, also on the views returned by
+ * {@link #major(long)} and {@link #minor(long, long)} which share the versions of the catalog instead of copying them.
+ */
+public final class VersionCatalog implements Iterable<Version> {
+    private static final VersionCatalog EMPTY = new VersionCatalog(new Version[0], new int[0], new int[0], 0, 0);
+
+    private final Version[] versions; // The versions in ascending precedence, shared with views
+    private final int[] latestStable; // The index of the last stable version at or before each index, or -1
+    private final int[] latestPreRelease; // The index of the last pre-release version at or before each index, or -1
+    private final int from; // The index of the first version of this view, inclusive
+    private final int to; // The index of the last version of this view, exclusive
+
+    private VersionCatalog(Version[] versions, int[] latestStable, int[] latestPreRelease, int from, int to) {
+        this.versions = versions;
+        this.latestStable = latestStable;
+        this.latestPreRelease = latestPreRelease;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates a catalog from a batch of versions in any order.
+     *
+     * @param versions the versions
+     * @return the catalog
+     * @implNote Batches that are already sorted are detected in linear time and not sorted again
+     */
+    public static @NotNull VersionCatalog of(@NotNull Collection<? extends Version> versions) {
+        return create(versions.toArray(new Version[0]));
+    }
+
+    /**
+     * Creates a catalog from a batch of versions in any order.
+     *
+     * @param versions the versions
+     * @return the catalog
+     */
+    public static @NotNull VersionCatalog of(@NotNull Version... versions) {
+        return create(versions.clone());
+    }
+
+    /**
+     * Gets the empty catalog.
+     *
+     * @return the catalog
+     */
+    public static @NotNull VersionCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a catalog, taking ownership of the array.
+     */
+    private static VersionCatalog create(Version[] versions) {
+        if (versions.length == 0)
+            return EMPTY;
+
+        for (Version version : versions) {
+            if (version == null)
+                throw new NullPointerException("Catalog versions can't be null.");
+        }
+
+        if (!isSorted(versions))
+            Arrays.sort(versions, VersionCompare::comparePrecedence);
+
+        return ofSorted(versions);
+    }
+
+    /**
+     * Creates a catalog from a sorted array, taking ownership of the array.
+     */
+    private static VersionCatalog ofSorted(Version[] versions) {
+        if (versions.length == 0)
+            return EMPTY;
+
+        final int[] latestStable = new int[versions.length];
+        final int[] latestPreRelease = new int[versions.length];
+        int stable = -1;
+        int preRelease = -1;
+        for (int i = 0; i < versions.length; i++) {
+            if (versions[i].hasPreRelease()) {
+                preRelease = i;
+            } else {
+                stable = i;
+            }
+            latestStable[i] = stable;
+            latestPreRelease[i] = preRelease;
+        }
+        return new VersionCatalog(versions, latestStable, latestPreRelease, 0, versions.length);
+    }
+
+    private static boolean isSorted(Version[] versions) {
+        for (int i = 1; i < versions.length; i++) {
+            if (VersionCompare.comparePrecedence(versions[i - 1], versions[i]) > 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates a catalog with a version added, after any versions of equal precedence.
+     *
+     * @param version the version
+     * @return the new catalog
+     * @implNote Takes linear time, the version is inserted into a copy of this catalog without sorting it again
+     */
+    public @NotNull VersionCatalog with(@NotNull Version version) {
+        final int index = upperBound(version) - from;
+        final Version[] copy = new Version[size() + 1];
+        System.arraycopy(versions, from, copy, 0, index);
+        copy[index] = version;
+        System.arraycopy(versions, from + index, copy, index + 1, size() - index);
+        return ofSorted(copy);
+    }
+
+    /**
+     * Creates a catalog with a batch of versions added, each after any versions of equal precedence.
+     *
+     * @param versions the versions, in any order
+     * @return the new catalog, or this catalog if the batch is empty
+     * @implNote Sorts the batch and merges it into a copy of this catalog in a single pass, taking linear time in the size
+     * of this catalog, instead of copying the catalog once per version
+     */
+    public @NotNull VersionCatalog withAll(@NotNull Collection<? extends Version> versions) {
+        final Version[] batch = versions.toArray(new Version[0]);
+        for (Version version : batch) {
+            if (version == null)
+                throw new NullPointerException("Catalog versions can't be null.");
+        }
+
+        if (!isSorted(batch))
+            Arrays.sort(batch, VersionCompare::comparePrecedence);
+
+        return merge(batch, false);
+    }
+
+    /**
+     * Merges a sorted batch of versions into a copy of this catalog, each after any versions of equal precedence.
+     *
+     * @param sortedBatch the versions, sorted by ascending precedence
+     * @param skipPresent whether versions of equal precedence to a version of this catalog are skipped
+     * @return the new catalog, or this catalog if no version was added
+     */
+    @ApiStatus.Internal
+    @NotNull VersionCatalog merge(@NotNull Version[] sortedBatch, boolean skipPresent) {
+        final Version[] merged = new Version[size() + sortedBatch.length];
+        int count = 0;
+        int added = 0;
+        int i = from;
+        for (Version version : sortedBatch) {
+            while (i < to && VersionCompare.comparePrecedence(versions[i], version) <= 0)
+                merged[count++] = versions[i++];
+
+            if (skipPresent && i > from && VersionCompare.comparePrecedence(versions[i - 1], version) == 0)
+                continue;
+
+            merged[count++] = version;
+            added++;
+        }
+        if (added == 0)
+            return this;
+
+        while (i < to)
+            merged[count++] = versions[i++];
+        return ofSorted(count == merged.length ? merged : Arrays.copyOf(merged, count));
+    }
+
+    /**
+     * Creates a catalog with all versions of equal precedence to a version removed.
+     *
+     * @param version the version
+     * @return the new catalog, or this catalog if it has no version of equal precedence
+     * @implNote Takes linear time
+     */
+    public @NotNull VersionCatalog without(@NotNull Version version) {
+        final int start = lowerBound(version) - from;
+        final int end = upperBound(version) - from;
+        if (start == end)
+            return this;
+
+        final Version[] copy = new Version[size() - (end - start)];
+        System.arraycopy(versions, from, copy, 0, start);
+        System.arraycopy(versions, from + end, copy, start, size() - end);
+        return ofSorted(copy);
+    }
+
+    /**
+     * Gets the number of versions in this catalog.
+     *
+     * @return the size
+     */
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * Returns whether this catalog has no versions.
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    /**
+     * Gets the version at an index.
+     *
+     * @param index the index, where 0 is the version of lowest precedence
+     * @return the version
+     * @throws IndexOutOfBoundsException thrown if the index is out of bounds
+     */
+    public @NotNull Version get(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for size %d.", index, size()));
+        return versions[from + index];
+    }
+
+    /**
+     * Gets the version of lowest precedence.
+     *
+     * @return the version, or null if this catalog is empty
+     */
+    public @Nullable Version first() {
+        return isEmpty() ? null : versions[from];
+    }
+
+    /**
+     * Gets the version of highest precedence, including pre-release versions.
+     *
+     * @return the version, or null if this catalog is empty
+     */
+    public @Nullable Version latest() {
+        return isEmpty() ? null : versions[to - 1];
+    }
+
+    /**
+     * Gets the stable version of highest precedence, which is the latest version without a pre-release.
+     *
+     * @return the version, or null if this catalog has no stable versions
+     */
+    public @Nullable Version latestStable() {
+        return isEmpty() ? null : latestAfter(latestStable[to - 1]);
+    }
+
+    /**
+     * Gets the pre-release version of highest precedence.
+     *
+     * @return the version, or null if this catalog has no pre-release versions
+     */
+    public @Nullable Version latestPreRelease() {
+        return isEmpty() ? null : latestAfter(latestPreRelease[to - 1]);
+    }
+
+    private @Nullable Version latestAfter(int index) {
+        return index >= from ? versions[index] : null;
+    }
+
+    /**
+     * Gets the version of highest precedence within a range.
+     *
+     * @param range the range
+     * @return the version, or null if no version is within the range
+     */
+    public @Nullable Version latest(@NotNull VersionRange range) {
+        final List<Version> list = asList();
+        for (int i = range.intervalCount() - 1; i >= 0; i--) {
+            final int end = VersionRangeIndex.upperIndex(list, range, i);
+            if (end > 0 && range.isAboveLower(i, list.get(end - 1)))
+                return list.get(end - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the versions within a range.
+     *
+     * @param range the range
+     * @return the matching versions, in ascending precedence
+     * @apiNote Uses {@link VersionRangeIndex#select(List, VersionRange)} internally
+     */
+    public @NotNull List<Version> select(@NotNull VersionRange range) {
+        return VersionRangeIndex.select(asList(), range);
+    }
+
+    /**
+     * Gets the last version with a precedence lower than or equal to a version.
+     *
+     * @param version the version
+     * @return the version, or null if there is none
+     */
+    public @Nullable Version floor(@NotNull Version version) {
+        return at(upperBound(version) - 1);
+    }
+
+    /**
+     * Gets the last version with a precedence lower than a version.
+     *
+     * @param version the version
+     * @return the version, or null if there is none
+     */
+    public @Nullable Version lower(@NotNull Version version) {
+        return at(lowerBound(version) - 1);
+    }
+
+    /**
+     * Gets the first version with a precedence higher than or equal to a version.
+     *
+     * @param version the version
+     * @return the version, or null if there is none
+     */
+    public @Nullable Version ceiling(@NotNull Version version) {
+        return at(lowerBound(version));
+    }
+
+    /**
+     * Gets the first version with a precedence higher than a version, like the next version to update to.
+     *
+     * @param version the version
+     * @return the version, or null if there is none
+     */
+    public @Nullable Version higher(@NotNull Version version) {
+        return at(upperBound(version));
+    }
+
+    /**
+     * Checks if this catalog has a version of equal precedence to a version.
+     *
+     * @param version the version
+     * @return true if a version of equal precedence is in this catalog
+     */
+    public boolean contains(@NotNull Version version) {
+        return lowerBound(version) != upperBound(version);
+    }
+
+    private @Nullable Version at(int index) {
+        return index >= from && index < to ? versions[index] : null;
+    }
+
+    /**
+     * Finds the index of the first version with a precedence higher than or equal to a version.
+     */
+    private int lowerBound(Version version) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (VersionCompare.comparePrecedence(versions[mid], version) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the index of the first version with a precedence higher than a version.
+     */
+    private int upperBound(Version version) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (VersionCompare.comparePrecedence(versions[mid], version) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets a view of the versions of a major version, without copying them.
+     *
+     * @param major the major version
+     * @return the view
+     */
+    public @NotNull VersionCatalog major(long major) {
+        return view(firstIndex(major, 0, false), firstIndex(major, Long.MAX_VALUE, true));
+    }
+
+    /**
+     * Gets a view of the versions of a minor version, without copying them.
+     *
+     * @param major the major version
+     * @param minor the minor version
+     * @return the view
+     */
+    public @NotNull VersionCatalog minor(long major, long minor) {
+        return view(firstIndex(major, minor, false), firstIndex(major, minor, true));
+    }
+
+    /**
+     * Finds the index of the first version whose major and minor version is above, or at or above, the given ones.
+     */
+    private int firstIndex(long major, long minor, boolean above) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            int comparison = Long.compare(versions[mid].getMajor(), major);
+            if (comparison == 0)
+                comparison = Long.compare(versions[mid].getMinor(), minor);
+
+            if (comparison < 0 || (above && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private VersionCatalog view(int from, int to) {
+        if (from == this.from && to == this.to)
+            return this;
+        if (from >= to)
+            return EMPTY;
+        return new VersionCatalog(versions, latestStable, latestPreRelease, from, to);
+    }
+
+    /**
+     * Gets an unmodifiable list view of this catalog.
+     *
+     * @return the list, in ascending precedence
+     */
+    public @NotNull List<Version> asList() {
+        return new CatalogList();
+    }
+
+    @Override
+    public @NotNull Iterator<Version> iterator() {
+        return asList().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * A list view over the versions of a catalog.
+     */
+    private final class CatalogList extends AbstractList<Version> implements RandomAccess {
+        @Override
+        public Version get(int index) {
+            return VersionCatalog.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return VersionCatalog.this.size();
+        }
+    }
+}
@@ -0,0 +1,547 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.milkdrinkers.javasemver.VersionCompare.ALPHANUMERIC;
+import static io.github.milkdrinkers.javasemver.VersionCompare.OVERSIZED_NUMERIC;
+
+/**
+ * Contains logic for encoding {@link Version} objects into a compact binary form, and decoding them again.
+ * <p>
+ * A version is encoded as:
+ * <ul>
+ *     <li>The major, minor and patch version as unsigned LEB128 varints</li>
+ *     <li>A varint header, 0 for no pre-release, {@code count << 1} followed by that many pre-release identifiers, or
+ *     {@code length << 1 | 1} followed by the raw pre-release for pre-releases with empty identifiers</li>
+ *     <li>Each identifier as a varint, {@code value << 1} for numeric identifiers, or {@code (length << 1 | oversized) << 1 | 1}
+ *     followed by UTF-8 bytes for alphanumeric and oversized numeric identifiers</li>
+ *     <li>The build-metadata as a varint length followed by UTF-8 bytes</li>
+ * </ul>
+ * A batch starts with a format byte and a dictionary of every distinct string in the batch, and the versions in a batch
+ * refer to strings by their dictionary index instead of repeating them. Strings like "SNAPSHOT" are then stored once, and
+ * decoded versions share one instance of each string.
+ *
+ * @apiNote Decoding does not validate, it is only meant for data encoded by this class.
+ */
+public abstract class VersionCodec {
+    private static final int BATCH_FORMAT = 1; // The format byte of batches, changed if the batch format ever changes
+    private static final String[] NO_IDENTIFIERS = new String[0]; // Identifiers of decoded versions without a pre-release
+    private static final long[] NO_IDENTIFIER_KEYS = new long[0]; // Identifier keys of decoded versions without a pre-release
+
+    /**
+     * Encodes a version.
+     *
+     * @param version the version
+     * @return the encoded bytes
+     */
+    public static @NotNull byte[] encode(@NotNull Version version) {
+        final ArraySink sink = new ArraySink(16);
+        writeVersion(sink, version, null);
+        return sink.toByteArray();
+    }
+
+    /**
+     * Encodes a version into a buffer at its position, advancing the position.
+     *
+     * @param version the version
+     * @param buffer  the buffer
+     * @throws java.nio.BufferOverflowException thrown if the buffer does not have enough space remaining
+     */
+    public static void encode(@NotNull Version version, @NotNull ByteBuffer buffer) {
+        writeVersion(new BufferSink(buffer), version, null);
+    }
+
+    /**
+     * Encodes a version into an output.
+     *
+     * @param version the version
+     * @param output  the output
+     * @throws IOException thrown if writing to the output failed
+     */
+    public static void encode(@NotNull Version version, @NotNull DataOutput output) throws IOException {
+        try {
+            writeVersion(new DataSink(output), version, null);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Decodes a version.
+     *
+     * @param bytes the encoded bytes
+     * @return the version
+     */
+    public static @NotNull Version decode(@NotNull byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a version from a buffer at its position, advancing the position.
+     *
+     * @param buffer the buffer
+     * @return the version
+     * @throws java.nio.BufferUnderflowException thrown if the buffer ends before the version does
+     */
+    public static @NotNull Version decode(@NotNull ByteBuffer buffer) {
+        return readVersion(new BufferSource(buffer), null);
+    }
+
+    /**
+     * Decodes a version from an input.
+     *
+     * @param input the input
+     * @return the version
+     * @throws IOException thrown if reading from the input failed
+     */
+    public static @NotNull Version decode(@NotNull DataInput input) throws IOException {
+        try {
+            return readVersion(new DataSource(input), null);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Encodes a batch of versions, storing each distinct string once.
+     *
+     * @param versions the versions
+     * @return the encoded bytes
+     */
+    public static @NotNull byte[] encodeBatch(@NotNull Collection<? extends Version> versions) {
+        final ArraySink sink = new ArraySink(versions.size() * 4 + 16);
+        writeBatch(sink, versions);
+        return sink.toByteArray();
+    }
+
+    /**
+     * Encodes a batch of versions into a buffer at its position, advancing the position.
+     *
+     * @param versions the versions
+     * @param buffer   the buffer
+     * @throws java.nio.BufferOverflowException thrown if the buffer does not have enough space remaining
+     */
+    public static void encodeBatch(@NotNull Collection<? extends Version> versions, @NotNull ByteBuffer buffer) {
+        writeBatch(new BufferSink(buffer), versions);
+    }
+
+    /**
+     * Encodes a batch of versions into an output.
+     *
+     * @param versions the versions
+     * @param output   the output
+     * @throws IOException thrown if writing to the output failed
+     */
+    public static void encodeBatch(@NotNull Collection<? extends Version> versions, @NotNull DataOutput output) throws IOException {
+        try {
+            writeBatch(new DataSink(output), versions);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Decodes a batch of versions.
+     *
+     * @param bytes the encoded bytes
+     * @return the versions, in the order they were encoded
+     * @throws IllegalArgumentException thrown if the batch was encoded in an unsupported format
+     */
+    public static @NotNull List<Version> decodeBatch(@NotNull byte[] bytes) {
+        return decodeBatch(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a batch of versions from a buffer at its position, advancing the position.
+     *
+     * @param buffer the buffer
+     * @return the versions, in the order they were encoded
+     * @throws IllegalArgumentException          thrown if the batch was encoded in an unsupported format
+     * @throws java.nio.BufferUnderflowException thrown if the buffer ends before the batch does
+     */
+    public static @NotNull List<Version> decodeBatch(@NotNull ByteBuffer buffer) {
+        return readBatch(new BufferSource(buffer));
+    }
+
+    /**
+     * Decodes a batch of versions from an input.
+     *
+     * @param input the input
+     * @return the versions, in the order they were encoded
+     * @throws IOException              thrown if reading from the input failed
+     * @throws IllegalArgumentException thrown if the batch was encoded in an unsupported format
+     */
+    public static @NotNull List<Version> decodeBatch(@NotNull DataInput input) throws IOException {
+        try {
+            return readBatch(new DataSource(input));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeBatch(Sink sink, Collection<? extends Version> versions) {
+        // Collect every distinct string, in order of first appearance
+        final Map<String, Integer> dictionary = new HashMap<>();
+        final List<String> strings = new ArrayList<>();
+        for (Version version : versions) {
+            if (!version.hasPreRelease()) {
+                // No strings
+            } else if (isCanonical(version)) {
+                final long[] keys = version.getPreReleaseKeys();
+                final String[] identifiers = version.getPreReleaseIdentifiers();
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] < 0 && dictionary.putIfAbsent(identifiers[i], strings.size()) == null)
+                        strings.add(identifiers[i]);
+                }
+            } else if (dictionary.putIfAbsent(version.getPreRelease(), strings.size()) == null) {
+                strings.add(version.getPreRelease());
+            }
+
+            if (version.hasMeta() && dictionary.putIfAbsent(version.getBuildMetadata(), strings.size()) == null)
+                strings.add(version.getBuildMetadata());
+        }
+
+        sink.writeByte(BATCH_FORMAT);
+        sink.writeVarint(strings.size());
+        for (String string : strings)
+            sink.writeString(string);
+
+        sink.writeVarint(versions.size());
+        for (Version version : versions)
+            writeVersion(sink, version, dictionary);
+    }
+
+    private static List<Version> readBatch(Source source) {
+        final int format = source.readByte();
+        if (format != BATCH_FORMAT)
+            throw new IllegalArgumentException(String.format("Unsupported batch format \"%s\".", format));
+
+        final String[] dictionary = new String[(int) source.readVarint()];
+        for (int i = 0; i < dictionary.length; i++)
+            dictionary[i] = source.readString((int) source.readVarint());
+
+        final int count = (int) source.readVarint();
+        final List<Version> versions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            versions.add(readVersion(source, dictionary));
+        return versions;
+    }
+
+    /**
+     * Writes a version, referring to strings by their index in the dictionary if there is one.
+     */
+    private static void writeVersion(Sink sink, Version version, Map<String, Integer> dictionary) {
+        sink.writeVarint(version.getMajor());
+        sink.writeVarint(version.getMinor());
+        sink.writeVarint(version.getPatch());
+
+        if (!version.hasPreRelease()) {
+            sink.writeVarint(0);
+        } else if (isCanonical(version)) {
+            final long[] keys = version.getPreReleaseKeys();
+            final String[] identifiers = version.getPreReleaseIdentifiers();
+            sink.writeVarint((long) keys.length << 1);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] >= 0) {
+                    sink.writeVarint(keys[i] << 1);
+                } else {
+                    final long oversized = keys[i] == OVERSIZED_NUMERIC ? 1 : 0;
+                    if (dictionary != null) {
+                        sink.writeVarint(((long) dictionary.get(identifiers[i]) << 1 | oversized) << 1 | 1);
+                    } else {
+                        final byte[] bytes = identifiers[i].getBytes(StandardCharsets.UTF_8);
+                        sink.writeVarint(((long) bytes.length << 1 | oversized) << 1 | 1);
+                        sink.writeBytes(bytes);
+                    }
+                }
+            }
+        } else {
+            // Pre-releases with empty identifiers are stored as is, so they decode to the exact same string
+            if (dictionary != null) {
+                sink.writeVarint((long) dictionary.get(version.getPreRelease()) << 1 | 1);
+            } else {
+                final byte[] bytes = version.getPreRelease().getBytes(StandardCharsets.UTF_8);
+                sink.writeVarint((long) bytes.length << 1 | 1);
+                sink.writeBytes(bytes);
+            }
+        }
+
+        if (dictionary != null) {
+            sink.writeVarint(version.hasMeta() ? dictionary.get(version.getBuildMetadata()) + 1 : 0);
+        } else {
+            sink.writeString(version.getBuildMetadata());
+        }
+    }
+
+    /**
+     * Reads a version, resolving strings from the dictionary if there is one.
+     */
+    private static Version readVersion(Source source, String[] dictionary) {
+        final long major = source.readVarint();
+        final long minor = source.readVarint();
+        final long patch = source.readVarint();
+
+        final long header = source.readVarint();
+        if (header == 0)
+            return new Version(major, minor, patch, "", NO_IDENTIFIERS, NO_IDENTIFIER_KEYS, readMeta(source, dictionary));
+
+        if ((header & 1) == 1) {
+            final String preRelease = dictionary != null ? dictionary[(int) (header >>> 1)] : source.readString((int) (header >>> 1));
+            return new Version(major, minor, patch, preRelease, readMeta(source, dictionary));
+        }
+
+        final int count = (int) (header >>> 1);
+        final String[] identifiers = new String[count];
+        final long[] keys = new long[count];
+        int length = count - 1;
+        for (int i = 0; i < count; i++) {
+            final long identifier = source.readVarint();
+            if ((identifier & 1) == 0) {
+                keys[i] = identifier >>> 1;
+                identifiers[i] = Long.toString(keys[i]);
+            } else {
+                keys[i] = (identifier & 2) != 0 ? OVERSIZED_NUMERIC : ALPHANUMERIC;
+                identifiers[i] = dictionary != null ? dictionary[(int) (identifier >>> 2)] : source.readString((int) (identifier >>> 2));
+            }
+            length += identifiers[i].length();
+        }
+
+        final String preRelease;
+        if (count == 1) {
+            preRelease = identifiers[0];
+        } else {
+            final StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < count; i++) {
+                if (i > 0)
+                    builder.append('.');
+                builder.append(identifiers[i]);
+            }
+            preRelease = builder.toString();
+        }
+
+        return new Version(major, minor, patch, preRelease, identifiers, keys, readMeta(source, dictionary));
+    }
+
+    private static String readMeta(Source source, String[] dictionary) {
+        if (dictionary != null) {
+            final int index = (int) source.readVarint();
+            return index == 0 ? "" : dictionary[index - 1];
+        }
+        return source.readString((int) source.readVarint());
+    }
+
+    /**
+     * Checks if a pre-release is exactly its identifiers joined by ".", which is only false for pre-releases with empty identifiers.
+     */
+    static boolean isCanonical(@NotNull Version version) {
+        final String[] identifiers = version.getPreReleaseIdentifiers();
+        int length = identifiers.length - 1;
+        for (String identifier : identifiers)
+            length += identifier.length();
+        return length == version.getPreRelease().length();
+    }
+
+    /**
+     * A destination of encoded bytes.
+     */
+    private abstract static class Sink {
+        abstract void writeByte(int b);
+
+        abstract void writeBytes(byte[] bytes);
+
+        /**
+         * Writes an unsigned LEB128 varint, 7 bits per byte with the high bit set on all but the last byte.
+         */
+        final void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        /**
+         * Writes a length prefixed UTF-8 string, without encoding ASCII strings into a temporary array.
+         */
+        final void writeString(String string) {
+            for (int i = 0; i < string.length(); i++) {
+                if (string.charAt(i) >= 0x80) {
+                    final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    writeVarint(bytes.length);
+                    writeBytes(bytes);
+                    return;
+                }
+            }
+
+            writeVarint(string.length());
+            for (int i = 0; i < string.length(); i++)
+                writeByte(string.charAt(i));
+        }
+    }
+
+    /**
+     * A source of encoded bytes.
+     */
+    private abstract static class Source {
+        abstract int readByte();
+
+        abstract String readString(int length);
+
+        final long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return value;
+            }
+            throw new IllegalArgumentException("Malformed varint, it is longer than 10 bytes.");
+        }
+    }
+
+    private static final class ArraySink extends Sink {
+        private byte[] bytes;
+        private int size;
+
+        private ArraySink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length)
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+
+        @Override
+        void writeByte(int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        void writeBytes(byte[] b) {
+            ensureCapacity(size + b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+    private static final class BufferSink extends Sink {
+        private final ByteBuffer buffer;
+
+        private BufferSink(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        void writeByte(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        void writeBytes(byte[] bytes) {
+            buffer.put(bytes);
+        }
+    }
+
+    private static final class DataSink extends Sink {
+        private final DataOutput output;
+
+        private DataSink(DataOutput output) {
+            this.output = output;
+        }
+
+        @Override
+        void writeByte(int b) {
+            try {
+                output.writeByte(b);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        void writeBytes(byte[] bytes) {
+            try {
+                output.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class BufferSource extends Source {
+        private final ByteBuffer buffer;
+
+        private BufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        int readByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        String readString(int length) {
+            if (buffer.hasArray()) {
+                if (length > buffer.remaining())
+                    throw new BufferUnderflowException();
+
+                final String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return string;
+            }
+
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class DataSource extends Source {
+        private final DataInput input;
+
+        private DataSource(DataInput input) {
+            this.input = input;
+        }
+
+        @Override
+        int readByte() {
+            try {
+                return input.readUnsignedByte();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        String readString(int length) {
+            try {
+                final byte[] bytes = new byte[length];
+                input.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
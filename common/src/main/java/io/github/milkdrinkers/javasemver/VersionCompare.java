@@ -2,12 +2,20 @@ package io.github.milkdrinkers.javasemver;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Contains all methods used for comparing two {@link Version} objects according to the Semantic Versioning 2.0 specification.
  */
 public abstract class VersionCompare {
+    /**
+     * Pre-release identifier key marking an alphanumeric identifier.
+     */
+    static final long ALPHANUMERIC = -1L;
+    /**
+     * Pre-release identifier key marking a numeric identifier too large to fit in a long.
+     */
+    static final long OVERSIZED_NUMERIC = -2L;
+
     /**
      * Takes a result from Java compare methods and returns the equivalent {@link VersionCheckResult}.
      *
@@ -15,11 +23,11 @@ public abstract class VersionCompare {
      * @return {@link VersionCheckResult#EQUAL} if 0, {@link VersionCheckResult#OLDER} if less than 0, {@link VersionCheckResult#NEWER} if greater than 0.
      */
     @ApiStatus.Internal
-    private static VersionCheckResult result(long result) {
-        if (result == 0D)
+    private static VersionCheckResult result(int result) {
+        if (result == 0)
             return VersionCheckResult.EQUAL;
 
-        return result < 0D ? VersionCheckResult.OLDER : VersionCheckResult.NEWER;
+        return result < 0 ? VersionCheckResult.OLDER : VersionCheckResult.NEWER;
     }
 
     /**
@@ -31,22 +39,33 @@ public abstract class VersionCompare {
      * @apiNote Follows <a href="https://semver.org/">Semver spec</a> such that this is always true: {@code 1.0.0-alpha < 1.0.0-alpha.1 < 1.0.0-alpha.beta < 1.0.0-beta < 1.0.0-beta.2 < 1.0.0-beta.11 < 1.0.0-rc.1 < 1.0.0 < 2.0.0 < 2.1.0 < 2.1.1}.
      */
     public static @NotNull VersionCheckResult compare(@NotNull Version current, @NotNull Version other) {
-        final long majorChange = current.getMajor() - other.getMajor();
-        final long minorChange = current.getMinor() - other.getMinor();
-        final long patchChange = current.getPatch() - other.getPatch();
+        return result(comparePrecedence(current, other));
+    }
+
+    /**
+     * Compare the precedence of two versions in ascending order, like {@link java.util.Comparator#compare(Object, Object)}.
+     *
+     * @param current the current version to compare with
+     * @param other   the other version to compare against
+     * @return a negative integer, zero, or a positive integer as the current version is older than, equal to, or newer than the other version
+     * @apiNote This is the natural order of versions, {@code VersionCompare::comparePrecedence} sorts the same as {@link Version#compareTo(Version)}.
+     * @implNote Allocation-free and small enough to be inlined, numbers are compared with {@link Long#compare(long, long)} so they never overflow
+     */
+    public static int comparePrecedence(@NotNull Version current, @NotNull Version other) {
+        // Interned versions are often compared against themselves
+        if (current == other)
+            return 0;
 
-        // If there are any changes in versioning we know whether the version is newer or older
-        if (majorChange != 0)
-            return result(majorChange);
+        if (current.getMajor() != other.getMajor())
+            return Long.compare(current.getMajor(), other.getMajor());
 
-        if (minorChange != 0)
-            return result(minorChange);
+        if (current.getMinor() != other.getMinor())
+            return Long.compare(current.getMinor(), other.getMinor());
 
-        if (patchChange != 0)
-            return result(patchChange);
+        if (current.getPatch() != other.getPatch())
+            return Long.compare(current.getPatch(), other.getPatch());
 
-        // No change in major, minor or patch, check pre-release identifiers
-        return comparePreRelease(current, other);
+        return comparePreReleaseIdentifiers(current, other);
     }
 
     /**
@@ -57,94 +76,98 @@ public abstract class VersionCompare {
      * @return the version check result
      * @apiNote Follows <a href="https://semver.org/#spec-item-11">Semver spec</a> such that this is always true: {@code 1.0.0-alpha < 1.0.0-alpha.1 < 1.0.0-alpha.beta < 1.0.0-beta < 1.0.0-beta.2 < 1.0.0-beta.11 < 1.0.0-rc.1 < 1.0.0}.
      */
-    @SuppressWarnings("ConstantValue")
     public static @NotNull VersionCheckResult comparePreRelease(@NotNull Version current, @NotNull Version other) {
+        return result(comparePreReleaseIdentifiers(current, other));
+    }
+
+    /**
+     * Compare pre-release identifiers of two versions using their precomputed comparison form.
+     *
+     * @param current the current version to compare with
+     * @param other   the other version to compare against
+     * @return a negative integer, zero, or a positive integer as the current pre-release has lower, equal or higher precedence
+     * @implNote Never parses identifiers, numeric identifiers of any length are compared without overflowing
+     */
+    @ApiStatus.Internal
+    static int comparePreReleaseIdentifiers(@NotNull Version current, @NotNull Version other) {
         final String[] currentIdentifiers = current.getPreReleaseIdentifiers();
         final String[] otherIdentifiers = other.getPreReleaseIdentifiers();
 
         // If one array is empty and the other isn't, the version with a pre-release has lower precedence
-        if (currentIdentifiers == null || currentIdentifiers.length == 0) {
-            if (otherIdentifiers == null || otherIdentifiers.length == 0) {
-                return VersionCheckResult.EQUAL;
-            }
-            return VersionCheckResult.NEWER; // No pre-release has higher precedence
-        } else if (otherIdentifiers == null || otherIdentifiers.length == 0) {
-            return VersionCheckResult.OLDER; // identifiers1 has pre-release, identifiers2 doesn't
-        }
+        if (currentIdentifiers.length == 0)
+            return otherIdentifiers.length == 0 ? 0 : 1; // No pre-release has higher precedence
+
+        if (otherIdentifiers.length == 0)
+            return -1; // identifiers1 has pre-release, identifiers2 doesn't
+
+        final long[] currentKeys = current.getPreReleaseKeys();
+        final long[] otherKeys = other.getPreReleaseKeys();
 
         // Compare each identifier in sequence
         final int minLength = Math.min(currentIdentifiers.length, otherIdentifiers.length);
 
         for (int i = 0; i < minLength; i++) {
-            final String currentId = currentIdentifiers[i];
-            final String otherId = otherIdentifiers[i];
-
-            // Check if both identifiers are numeric
-            final boolean isCurrentNumeric = isNumeric(currentId);
-            final boolean isOtherNumeric = isNumeric(otherId);
-
-            // Rule 3: Numeric identifiers have lower precedence than non-numeric identifiers
-            if (isCurrentNumeric && !isOtherNumeric) {
-                return VersionCheckResult.OLDER;
-            } else if (!isCurrentNumeric && isOtherNumeric) {
-                return VersionCheckResult.NEWER;
-            } else if (isCurrentNumeric && isOtherNumeric) {
-                // Rule 1: Numeric comparison for numeric identifiers
-                int num1 = Integer.parseInt(currentId);
-                int num2 = Integer.parseInt(otherId);
-
-                if (num1 < num2) {
-                    return VersionCheckResult.OLDER;
-                } else if (num1 > num2) {
-                    return VersionCheckResult.NEWER;
-                }
-                // Equal, continue iter to next id
-            } else {
-                // Rule 2: Lexical comparison for non-numeric identifiers
-                int comparison = currentId.compareTo(otherId);
-
-                if (comparison < 0) {
-                    return VersionCheckResult.OLDER;
-                } else if (comparison > 0) {
-                    return VersionCheckResult.NEWER;
-                }
-                // Equal, continue iter to next id
-            }
+            final String currentIdentifier = currentIdentifiers[i];
+            final int comparison = compareIdentifier(currentIdentifier, 0, currentIdentifier.length(), currentKeys[i], otherIdentifiers[i], otherKeys[i]);
+            if (comparison != 0)
+                return comparison;
+            // Equal, continue iter to next id
         }
 
         // Rule 4: If all identifiers so far are equal, the longer array has higher precedence
-        if (currentIdentifiers.length < otherIdentifiers.length) {
-            return VersionCheckResult.OLDER;
-        } else if (currentIdentifiers.length > otherIdentifiers.length) {
-            return VersionCheckResult.NEWER;
-        }
-
-        // All identifiers are equal
-        return VersionCheckResult.EQUAL;
+        return Integer.compare(currentIdentifiers.length, otherIdentifiers.length);
     }
 
     /**
-     * Checks if a string is a numeric identifier according to SemVer rules.
-     * A numeric identifier consists of only digits with no leading zeros (except for "0" itself).
+     * Compare a pre-release identifier, held as a region of chars, with another pre-release identifier.
      *
-     * @param identifier The identifier to check
-     * @return true if the identifier is numeric, false otherwise
-     * @apiNote Follows <a href="https://semver.org/#spec-item-11">Semver spec</a> such that this is always true: {@code 1.0.0-alpha < 1.0.0-alpha.1 < 1.0.0-alpha.beta < 1.0.0-beta < 1.0.0-beta.2 < 1.0.0-beta.11 < 1.0.0-rc.1 < 1.0.0}.
+     * @param identifier the chars holding the identifier
+     * @param start      the index of the first char of the identifier
+     * @param end        the index after the last char of the identifier
+     * @param key        the comparison form of the identifier
+     * @param other      the other identifier
+     * @param otherKey   the comparison form of the other identifier
+     * @return a negative integer, zero, or a positive integer as the identifier has lower, equal or higher precedence
+     * @implNote Shared by versions and {@link VersionSlot}, which holds its identifiers in a reused buffer instead of strings
      */
-    @SuppressWarnings("RedundantIfStatement")
-    private static boolean isNumeric(@Nullable String identifier) {
-        if (identifier == null || identifier.isEmpty())
-            return false;
-
-        // Check if the string consists of only digits
-        if (!identifier.matches("\\d+"))
-            return false;
+    @ApiStatus.Internal
+    static int compareIdentifier(@NotNull CharSequence identifier, int start, int end, long key, @NotNull String other, long otherKey) {
+        // Rule 1: Numeric comparison for numeric identifiers
+        if (key >= 0 && otherKey >= 0)
+            return Long.compare(key, otherKey);
+
+        final boolean isNumeric = key != ALPHANUMERIC;
+        final boolean isOtherNumeric = otherKey != ALPHANUMERIC;
+
+        // Rule 3: Numeric identifiers have lower precedence than non-numeric identifiers
+        if (isNumeric != isOtherNumeric)
+            return isNumeric ? -1 : 1;
+
+        if (isNumeric) {
+            // At least one identifier is too large for a long, without leading zeros the longer one is larger
+            if (key >= 0)
+                return -1;
+            if (otherKey >= 0)
+                return 1;
+
+            final int lengthComparison = Integer.compare(end - start, other.length());
+            if (lengthComparison != 0)
+                return lengthComparison;
+        }
 
-        // Check for leading zeros (but "0" by itself is fine)
-        if (identifier.length() > 1 && identifier.startsWith("0"))
-            return false;
+        // Rule 2: Lexical comparison for non-numeric identifiers, like String#compareTo
+        if (identifier instanceof String && start == 0 && end == identifier.length())
+            return ((String) identifier).compareTo(other);
 
-        return true;
+        final int length = end - start;
+        final int minLength = Math.min(length, other.length());
+        for (int i = 0; i < minLength; i++) {
+            final char c = identifier.charAt(start + i);
+            final char otherChar = other.charAt(i);
+            if (c != otherChar)
+                return c - otherChar;
+        }
+        return length - other.length();
     }
 
     /**
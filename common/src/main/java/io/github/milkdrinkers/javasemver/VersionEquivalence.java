@@ -0,0 +1,128 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A strategy for deciding if two {@link Version} objects are equivalent, with a hash code consistent with it, for grouping
+ * and deduplicating versions in hash-based collections.
+ * <p>
+ * Use {@link #wrap(Version)} to key a {@link java.util.HashMap} or {@link java.util.HashSet} by an equivalence instead of
+ * by {@link Version#equals(Object)}.
+ *
+ * @implNote The hash codes of both equivalences are computed once per version and cached.
+ */
+public abstract class VersionEquivalence {
+    /**
+     * Versions are equivalent if they are equal, like {@link Version#equals(Object)}, including build-metadata.
+     */
+    public static final VersionEquivalence EXACT = new VersionEquivalence() {
+        @Override
+        public boolean equivalent(@NotNull Version version, @NotNull Version other) {
+            return version.equals(other);
+        }
+
+        @Override
+        public int hash(@NotNull Version version) {
+            return version.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "VersionEquivalence.EXACT";
+        }
+    };
+
+    /**
+     * Versions are equivalent if they have equal precedence, like {@link Version#compareTo(Version)} returning 0, ignoring build-metadata.
+     */
+    public static final VersionEquivalence PRECEDENCE = new VersionEquivalence() {
+        @Override
+        public boolean equivalent(@NotNull Version version, @NotNull Version other) {
+            return version == other || (version.precedenceHashCode() == other.precedenceHashCode() && version.isPrecedenceEqual(other));
+        }
+
+        @Override
+        public int hash(@NotNull Version version) {
+            return version.precedenceHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "VersionEquivalence.PRECEDENCE";
+        }
+    };
+
+    private VersionEquivalence() {
+    }
+
+    /**
+     * Checks if two versions are equivalent.
+     *
+     * @param version the version
+     * @param other   the other version
+     * @return true if the versions are equivalent
+     */
+    public abstract boolean equivalent(@NotNull Version version, @NotNull Version other);
+
+    /**
+     * Gets the hash code of a version, equal for equivalent versions.
+     *
+     * @param version the version
+     * @return the hash code
+     */
+    public abstract int hash(@NotNull Version version);
+
+    /**
+     * Wraps a version into a key whose {@link Object#equals(Object)} and {@link Object#hashCode()} follow this equivalence.
+     *
+     * @param version the version
+     * @return the key
+     */
+    public @NotNull Key wrap(@NotNull Version version) {
+        return new Key(this, version);
+    }
+
+    /**
+     * A version wrapped by {@link #wrap(Version)}, equal to other keys of the same equivalence with an equivalent version.
+     */
+    public static final class Key {
+        private final VersionEquivalence equivalence; // The equivalence of the key
+        private final Version version; // The wrapped version
+
+        private Key(VersionEquivalence equivalence, Version version) {
+            this.equivalence = equivalence;
+            this.version = version;
+        }
+
+        /**
+         * Gets the wrapped version.
+         *
+         * @return the version
+         */
+        public @NotNull Version get() {
+            return version;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+
+            final Key other = (Key) o;
+            return equivalence == other.equivalence && equivalence.equivalent(version, other.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return equivalence.hash(version);
+        }
+
+        @Override
+        public String toString() {
+            return equivalence + ".wrap(" + version + ")";
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contains logic for finding the {@link Version} objects embedded in text, like changelogs, file names or server banners.
+ *
+ * @apiNote A version is matched if it is a whole token: it may not be preceded by a letter, digit, underscore or dot, and may
+ * not be followed by a letter, digit or underscore, or by a dot and a digit like in "1.2.3.4". If a version is followed by
+ * an invalid pre-release or build-metadata, the longest valid prefix ending at an identifier boundary is matched, so
+ * "1.2.3-beta..1" and "1.2.3-alpha.01" match "1.2.3-beta" and "1.2.3-alpha".
+ * A trailing file extension is not part of the version, so "plugin-2.4.1-SNAPSHOT.jar" matches "2.4.1-SNAPSHOT".
+ * @implNote The text is scanned in a single linear pass, only matches allocate.
+ */
+public abstract class VersionExtractor {
+    private static final int MAX_RETRIES = 3; // The number of shorter prefixes tried before falling back to the major.minor.patch
+    private static final String[] EXTENSIONS = {
+        "jar", "war", "ear", "zip", "tar", "gz", "tgz", "bz2", "xz", "7z", "rar",
+        "exe", "msi", "dmg", "pkg", "deb", "rpm", "apk", "appimage",
+        "dll", "so", "dylib", "whl", "gem", "nupkg", "crate", "pom", "module",
+        "txt", "md", "log", "json", "xml", "yml", "yaml", "toml", "html",
+        "asc", "sig", "md5", "sha1", "sha256", "sha512"
+    }; // File extensions not treated as the last pre-release or build-metadata identifier
+
+    /**
+     * Finds the first version in text.
+     *
+     * @param text      the text
+     * @param fromIndex the index to start searching from
+     * @return the match, or null if there is no version in the text after the index
+     */
+    public static @Nullable VersionMatch find(@NotNull CharSequence text, int fromIndex) {
+        if (fromIndex < 0 || fromIndex > text.length())
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for length %d.", fromIndex, text.length()));
+
+        final List<VersionMatch> matches = new ArrayList<>(1);
+        scan(text, fromIndex, text.length(), 0, matches, 1);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Finds every version in text.
+     *
+     * @param text the text
+     * @return the matches, in order of appearance
+     */
+    public static @NotNull List<VersionMatch> findAll(@NotNull CharSequence text) {
+        final List<VersionMatch> matches = new ArrayList<>();
+        scan(text, 0, text.length(), 0, matches, Integer.MAX_VALUE);
+        return matches;
+    }
+
+    /**
+     * Finds every version in a region of ASCII or UTF-8 encoded bytes, without decoding the region into a string first.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the matches in order of appearance, whose indexes are indexes of the array
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the array
+     */
+    public static @NotNull List<VersionMatch> findAll(@NotNull byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length)
+            throw new IndexOutOfBoundsException(String.format("Region [%d, %d + %d) is out of bounds for length %d.", offset, offset, length, bytes.length));
+
+        final List<VersionMatch> matches = new ArrayList<>();
+        scan(new AsciiCharSequence().wrap(bytes), offset, offset + length, offset, matches, Integer.MAX_VALUE);
+        return matches;
+    }
+
+    /**
+     * Finds every version in the remaining ASCII or UTF-8 encoded bytes of a {@link ByteBuffer}, without decoding them into a string first.
+     *
+     * @param buffer the buffer, whose bytes between its position and limit are searched
+     * @return the matches in order of appearance, whose indexes are absolute indexes of the buffer
+     * @implNote The position of the buffer is not changed
+     */
+    public static @NotNull List<VersionMatch> findAll(@NotNull ByteBuffer buffer) {
+        final List<VersionMatch> matches = new ArrayList<>();
+        scan(new AsciiCharSequence().wrap(buffer), buffer.position(), buffer.limit(), buffer.position(), matches, Integer.MAX_VALUE);
+        return matches;
+    }
+
+    /**
+     * Scans a region of text for versions.
+     *
+     * @param text       the text
+     * @param from       the index to start scanning at
+     * @param to         the index to stop scanning at
+     * @param regionFrom the start of the region, chars before it are not looked at
+     * @param matches    the list to add matches to
+     * @param limit      the number of matches to stop after
+     */
+    private static void scan(CharSequence text, int from, int to, int regionFrom, List<VersionMatch> matches, int limit) {
+        final VersionScanner scanner = new VersionScanner();
+
+        int i = from;
+        while (i < to && matches.size() < limit) {
+            final char c = text.charAt(i);
+            final int start = i;
+            int numberStart = i;
+            if ((c == 'v' || c == 'V') && i + 1 < to && isDigit(text.charAt(i + 1))) {
+                numberStart = i + 1;
+            } else if (!isDigit(c)) {
+                i++;
+                continue;
+            }
+
+            // A version never starts inside another token
+            if (start > regionFrom && isLeftBlocked(text.charAt(start - 1))) {
+                i = skipNumbers(text, numberStart, to);
+                continue;
+            }
+
+            // Find the major.minor.patch, without validating it yet
+            final int majorEnd = skipDigits(text, numberStart, to);
+            final int minorEnd = majorEnd < to && text.charAt(majorEnd) == '.' ? skipDigits(text, majorEnd + 1, to) : majorEnd;
+            final int patchEnd = minorEnd > majorEnd + 1 && minorEnd < to && text.charAt(minorEnd) == '.' ? skipDigits(text, minorEnd + 1, to) : minorEnd;
+            if (minorEnd <= majorEnd + 1 || patchEnd <= minorEnd + 1) {
+                i = skipNumbers(text, numberStart, to);
+                continue;
+            }
+
+            // Find the extent of the pre-release and build-metadata
+            int end = patchEnd;
+            int sectionStart = -1; // The start of the last pre-release or build-metadata section
+            if (end < to && text.charAt(end) == '-') {
+                sectionStart = end + 1;
+                end = skipIdentifiers(text, sectionStart, to);
+            }
+            if (end < to && text.charAt(end) == '+') {
+                sectionStart = end + 1;
+                end = skipIdentifiers(text, sectionStart, to);
+            }
+            final int extent = end; // Everything up to here belongs to this token, matched or not
+
+            if (sectionStart >= 0) {
+                end = trimEnd(text, patchEnd, end);
+                end = trimExtension(text, sectionStart, end);
+                end = trimEnd(text, patchEnd, end);
+            }
+
+            // Try the longest candidate first, falling back to where the scanner failed, then to just major.minor.patch
+            VersionMatch match = null;
+            for (int retry = 0; retry <= MAX_RETRIES && match == null; retry++) {
+                if (retry == MAX_RETRIES || end <= patchEnd)
+                    end = patchEnd;
+
+                if (isRightBoundary(text, patchEnd, end, to) && scanner.scan(text, start, end)) {
+                    match = new VersionMatch(VersionParser.toVersion(scanner, text), start, end);
+                } else if (end == patchEnd) {
+                    break;
+                } else {
+                    end = trimEnd(text, patchEnd, Math.min(end - 1, Math.max(patchEnd, scanner.errorIndex)));
+                }
+            }
+
+            if (match != null)
+                matches.add(match);
+            i = extent;
+        }
+    }
+
+    /**
+     * Trims chars that can't end a version, like a trailing dot or a separator without identifiers.
+     */
+    private static int trimEnd(CharSequence text, int patchEnd, int end) {
+        while (end > patchEnd) {
+            final char c = text.charAt(end - 1);
+            if (c != '.' && c != '+' && !(c == '-' && end - 1 == patchEnd))
+                break;
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Trims trailing file extensions like ".tar.gz" off the last section, keeping at least one identifier in the section.
+     */
+    private static int trimExtension(CharSequence text, int sectionStart, int end) {
+        while (true) {
+            int dot = end - 1;
+            while (dot > sectionStart && text.charAt(dot) != '.')
+                dot--;
+
+            if (dot <= sectionStart || !isExtension(text, dot + 1, end))
+                return end;
+            end = dot;
+        }
+    }
+
+    private static boolean isExtension(CharSequence text, int start, int end) {
+        for (String extension : EXTENSIONS) {
+            if (extension.length() != end - start)
+                continue;
+
+            boolean matches = true;
+            for (int i = 0; i < extension.length() && matches; i++)
+                matches = Character.toLowerCase(text.charAt(start + i)) == extension.charAt(i);
+
+            if (matches)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a version may end at an index.
+     */
+    private static boolean isRightBoundary(CharSequence text, int patchEnd, int end, int to) {
+        if (end >= to)
+            return true;
+
+        final char c = text.charAt(end);
+        if (isWordChar(c))
+            return false;
+
+        // A dot followed by a digit continues the version, like in "1.2.3.4", but within a pre-release or build-metadata it
+        // only starts an identifier that could not be matched, like in "1.2.3-alpha.01"
+        return c != '.' || end > patchEnd || end + 1 >= to || !isDigit(text.charAt(end + 1));
+    }
+
+    /**
+     * Skips a run of digits and dots, so the rest of a rejected number is never matched on its own.
+     */
+    private static int skipNumbers(CharSequence text, int i, int to) {
+        while (i < to && (isDigit(text.charAt(i)) || text.charAt(i) == '.'))
+            i++;
+        return i;
+    }
+
+    private static int skipDigits(CharSequence text, int i, int to) {
+        while (i < to && isDigit(text.charAt(i)))
+            i++;
+        return i;
+    }
+
+    private static int skipIdentifiers(CharSequence text, int i, int to) {
+        while (i < to) {
+            final char c = text.charAt(i);
+            if (!isDigit(c) && !isLetter(c) && c != '-' && c != '.')
+                break;
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isLeftBlocked(char c) {
+        return isWordChar(c) || c == '.';
+    }
+
+    private static boolean isWordChar(char c) {
+        return isDigit(c) || isLetter(c) || c == '_';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,332 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reads versions from a file holding one version per line, parsing them straight from the memory-mapped file.
+ * <p>
+ * Lines are separated by {@code \n} or {@code \r\n}, surrounding spaces and tabs are ignored and blank lines are skipped.
+ * Versions are read either by iterating a reader, which skips invalid lines, or by passing a {@link VersionLineHandler}
+ * to {@link #forEach(Path, VersionLineHandler)} or {@link #parallelForEach(Path, VersionLineHandler)}, which are also
+ * told about invalid lines.
+ *
+ * @implNote The file is mapped one window at a time, so memory use does not grow with the file size. Only the pre-release and
+ * build-metadata of each version are copied out of the mapped bytes, no line is decoded into a string.
+ */
+public final class VersionFileReader implements Iterator<Version>, Closeable {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024; // The size of the mapped windows
+    private static final int MIN_SEGMENT_SIZE = 1024 * 1024; // The smallest segment worth handing to another thread
+
+    private final FileChannel channel; // The file
+    private final boolean ownsChannel; // Whether closing this reader closes the channel
+    private final long end; // The byte offset this reader stops at, exclusive
+    private int windowSize; // The size of the next mapped window, grown if a line does not fit in a window
+
+    private final AsciiCharSequence chars = new AsciiCharSequence(); // The view over the current window
+    private final VersionScanner scanner = new VersionScanner(); // The scanner reused for every line
+    private MappedByteBuffer window; // The current window, null before the first line is read
+    private long windowStart; // The byte offset of the current window in the file
+    private int windowLimit; // The end of the last complete line in the current window
+    private int cursor; // The start of the next line in the current window
+
+    private int lineStart; // The start of the last read line in the current window, after leading whitespace
+    private int lineEnd; // The end of the last read line in the current window, before trailing whitespace
+
+    private Version next; // The next version of the iterator, null if not read yet
+    private long failureCount; // The number of invalid lines skipped by the iterator
+
+    private VersionFileReader(FileChannel channel, boolean ownsChannel, long start, long end, int windowSize) {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.windowStart = start;
+        this.end = end;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Opens a reader iterating over the valid versions in a file.
+     *
+     * @param file the file
+     * @return the reader, which must be closed
+     * @throws IOException thrown if the file could not be opened
+     */
+    public static @NotNull VersionFileReader open(@NotNull Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        return new VersionFileReader(channel, true, 0, channel.size(), DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Reads every line of a file on the calling thread, in file order.
+     *
+     * @param file    the file
+     * @param handler the handler called for each non-blank line
+     * @throws IOException thrown if the file could not be read
+     */
+    public static void forEach(@NotNull Path file, @NotNull VersionLineHandler handler) throws IOException {
+        try (VersionFileReader reader = open(file)) {
+            reader.readAll(handler);
+        }
+    }
+
+    /**
+     * Reads every line of a file in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param file    the file
+     * @param handler the handler called for each non-blank line, concurrently and in no particular order
+     * @throws IOException thrown if the file could not be read
+     * @apiNote Uses {@link #parallelForEach(Path, VersionLineHandler, ForkJoinPool)} internally
+     */
+    public static void parallelForEach(@NotNull Path file, @NotNull VersionLineHandler handler) throws IOException {
+        parallelForEach(file, handler, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads every line of a file in parallel, splitting the file into segments that start and end at line boundaries.
+     *
+     * @param file    the file
+     * @param handler the handler called for each non-blank line, concurrently and in no particular order
+     * @param pool    the pool to read on
+     * @throws IOException thrown if the file could not be read
+     * @implNote Lines within a segment are handled in file order, by the same thread
+     */
+    public static void parallelForEach(@NotNull Path file, @NotNull VersionLineHandler handler, @NotNull ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int segmentCount = (int) Math.max(1, Math.min(pool.getParallelism() * 4L, size / MIN_SEGMENT_SIZE));
+
+            final long[] boundaries = new long[segmentCount + 1];
+            boundaries[segmentCount] = size;
+            for (int i = 1; i < segmentCount; i++)
+                boundaries[i] = lineStartAtOrAfter(channel, Math.max(boundaries[i - 1], size * i / segmentCount), size);
+
+            try {
+                pool.invoke(new SegmentTask(channel, boundaries, 0, segmentCount, handler));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Finds the start of the first line starting at or after a byte offset.
+     */
+    private static long lineStartAtOrAfter(FileChannel channel, long position, long size) throws IOException {
+        if (position == 0)
+            return 0;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long offset = position - 1; // A line starts at the position if the byte before it ends a line
+        while (offset < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, offset);
+            if (read <= 0)
+                break;
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n')
+                    return offset + i + 1;
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Reads all remaining lines into a handler.
+     */
+    private void readAll(VersionLineHandler handler) throws IOException {
+        while (readLine()) {
+            final long offset = windowStart + lineStart;
+            if (scanner.scan(chars, lineStart, lineEnd)) {
+                handler.onVersion(offset, VersionParser.toVersion(scanner, chars));
+            } else {
+                handler.onFailure(offset, scanner.error, scanner.errorIndex - lineStart);
+            }
+        }
+    }
+
+    /**
+     * Reads the next non-blank line, mapping the next window when the current one has no complete lines left.
+     *
+     * @return false if there are no lines left
+     */
+    private boolean readLine() throws IOException {
+        while (true) {
+            if (window == null || cursor >= windowLimit) {
+                if (!mapNextWindow())
+                    return false;
+            }
+
+            int start = cursor;
+            int lineBreak = start;
+            while (lineBreak < windowLimit && window.get(lineBreak) != '\n')
+                lineBreak++;
+            cursor = lineBreak + 1;
+
+            int stop = lineBreak;
+            while (start < stop && isWhitespace(window.get(start)))
+                start++;
+            while (stop > start && isWhitespace(window.get(stop - 1)))
+                stop--;
+
+            if (start < stop) {
+                lineStart = start;
+                lineEnd = stop;
+                return true;
+            }
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * Maps the window following the last complete line of the current window.
+     *
+     * @return false if the end was reached
+     */
+    private boolean mapNextWindow() throws IOException {
+        final long position = window == null ? windowStart : windowStart + windowLimit;
+        if (position >= end)
+            return false;
+
+        while (true) {
+            final int size = (int) Math.min(windowSize, end - position);
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+
+            // Stop the window after its last line break, unless it reaches the end
+            int limit = size;
+            if (position + size < end) {
+                limit = size - 1;
+                while (limit >= 0 && mapped.get(limit) != '\n')
+                    limit--;
+                limit++;
+            }
+
+            if (limit > 0) {
+                window = mapped;
+                windowStart = position;
+                windowLimit = limit;
+                cursor = 0;
+                chars.wrap(mapped);
+                return true;
+            }
+
+            // The line does not fit in a window, retry with a larger one
+            if (windowSize == Integer.MAX_VALUE)
+                throw new IOException(String.format("Line at offset %d is too long.", position));
+            windowSize = (int) Math.min(Integer.MAX_VALUE, windowSize * 2L);
+        }
+    }
+
+    /**
+     * Returns whether there is another valid version, skipping invalid lines.
+     *
+     * @return boolean
+     * @throws UncheckedIOException thrown if the file could not be read
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null)
+            return true;
+
+        try {
+            while (readLine()) {
+                if (scanner.scan(chars, lineStart, lineEnd)) {
+                    next = VersionParser.toVersion(scanner, chars);
+                    return true;
+                }
+                failureCount++;
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the next valid version.
+     *
+     * @return the version
+     * @throws NoSuchElementException thrown if there are no versions left
+     * @throws UncheckedIOException   thrown if the file could not be read
+     */
+    @Override
+    public @NotNull Version next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        final Version version = next;
+        next = null;
+        return version;
+    }
+
+    /**
+     * Gets the number of invalid lines skipped while iterating so far.
+     *
+     * @return the failure count
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        if (ownsChannel)
+            channel.close();
+    }
+
+    /**
+     * Recursively splits a range of segments between fork-join threads.
+     */
+    private static final class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = -2461358712337592915L;
+
+        private final transient FileChannel channel; // The file, shared by all segments
+        private final long[] boundaries; // The start of each segment, followed by the file size
+        private final int from; // The first segment, inclusive
+        private final int to; // The last segment, exclusive
+        private final transient VersionLineHandler handler; // The handler shared by all segments
+
+        private SegmentTask(FileChannel channel, long[] boundaries, int from, int to, VersionLineHandler handler) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+            this.handler = handler;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new SegmentTask(channel, boundaries, from, mid, handler), new SegmentTask(channel, boundaries, mid, to, handler));
+                return;
+            }
+
+            if (boundaries[from] >= boundaries[to])
+                return;
+
+            try {
+                new VersionFileReader(channel, false, boundaries[from], boundaries[to], DEFAULT_WINDOW_SIZE).readAll(handler);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
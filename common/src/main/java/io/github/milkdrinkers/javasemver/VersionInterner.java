@@ -0,0 +1,96 @@
+package io.github.milkdrinkers.javasemver;
+
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe pool handing out one canonical {@link Version} instance per distinct version.
+ * <p>
+ * Holding only canonical instances means equal versions share their strings and identifier arrays, and lets
+ * {@link Version#equals(Object)} and {@link Version#compareTo(Version)} return early on reference identity.
+ *
+ * @implNote Canonical instances are weakly referenced, once no longer used elsewhere they are garbage collected and their
+ * entries are removed from the pool. Versions are distinct if their full version strings, including build-metadata, differ.
+ */
+public final class VersionInterner {
+    private final ConcurrentHashMap<String, VersionReference> versions = new ConcurrentHashMap<>(); // The canonical versions keyed by their full version string
+    private final ReferenceQueue<Version> queue = new ReferenceQueue<>(); // The references of collected canonical versions
+
+    /**
+     * Gets the canonical instance of a version, making the version canonical if there is none yet.
+     *
+     * @param version the version
+     * @return the canonical instance equal to the version
+     */
+    public @NotNull Version intern(@NotNull Version version) {
+        expungeStaleEntries();
+
+        final String key = version.getVersionFull();
+        while (true) {
+            final VersionReference existing = versions.get(key);
+            if (existing == null) {
+                if (versions.putIfAbsent(key, new VersionReference(version, key, queue)) == null)
+                    return version;
+                continue; // Another thread interned the version in the meantime
+            }
+
+            final Version canonical = existing.get();
+            if (canonical != null)
+                return canonical;
+
+            // The canonical version was collected but its entry not yet expunged, replace it
+            if (versions.replace(key, existing, new VersionReference(version, key, queue)))
+                return version;
+        }
+    }
+
+    /**
+     * Parse a {@link String} into the canonical instance of the resulting {@link Version}.
+     *
+     * @param unparsedVersion the unparsed version string
+     * @return the canonical {@link Version}
+     * @throws VersionParseException thrown if a valid semantic version could not be parsed from the string
+     * @apiNote Uses {@link VersionParser#parse(String)} internally
+     */
+    public @NotNull Version parse(@NotNull String unparsedVersion) throws VersionParseException {
+        return intern(VersionParser.parse(unparsedVersion));
+    }
+
+    /**
+     * Gets the number of canonical versions in the pool, which may include versions that were collected but not yet removed.
+     *
+     * @return the size
+     */
+    public int size() {
+        expungeStaleEntries();
+        return versions.size();
+    }
+
+    /**
+     * Removes the entries of collected canonical versions.
+     */
+    private void expungeStaleEntries() {
+        Reference<? extends Version> reference;
+        while ((reference = queue.poll()) != null) {
+            final VersionReference versionReference = (VersionReference) reference;
+            versions.remove(versionReference.key, versionReference);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical version, remembering its key so the entry can be removed once the version is collected.
+     */
+    private static final class VersionReference extends WeakReference<Version> {
+        private final String key; // The full version string of the version
+
+        private VersionReference(Version version, String key, ReferenceQueue<Version> queue) {
+            super(version, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+
+import static io.github.milkdrinkers.javasemver.VersionCompare.ALPHANUMERIC;
+import static io.github.milkdrinkers.javasemver.VersionCompare.OVERSIZED_NUMERIC;
+
+/**
+ * Contains logic for encoding {@link Version} objects into byte keys whose unsigned lexicographic order is the precedence
+ * order of the versions, for use as keys of sorted key-value stores and off-heap sorted arrays.
+ * <p>
+ * A key is encoded as:
+ * <ul>
+ *     <li>The major, minor and patch version, each as its number of significant bytes followed by those bytes in big-endian order</li>
+ *     <li>{@code 0x02} for a release, or {@code 0x01} followed by the pre-release identifiers and {@code 0x00} for a pre-release,
+ *     so a release sorts above its pre-releases and a pre-release sorts above the pre-releases it is a prefix of</li>
+ *     <li>Each numeric identifier as {@code 0x01} plus its number of significant bytes followed by those bytes, each numeric
+ *     identifier too large for a long as {@code 0x0A} followed by its number of digits and its digits, and each alphanumeric
+ *     identifier as {@code 0x0B} followed by its chars and {@code 0x00}</li>
+ *     <li>The build-metadata as the rest of the key, so versions only differing in build-metadata have distinct keys
+ *     right after each other</li>
+ * </ul>
+ *
+ * @apiNote Keys compare like {@link VersionCompare#compare(Version, Version)}, with {@link #compare(byte[], byte[])} or any
+ * store comparing keys as unsigned bytes. Two keys are only equal if the versions are equal including build-metadata.
+ * Only versions whose pre-release and build-metadata consist of the ASCII letters, digits, hyphens and dots allowed by the
+ * Semantic Versioning 2.0 specification, and whose pre-release has no empty identifiers, can be encoded, which every
+ * parsed version does.
+ */
+public abstract class VersionKey {
+    private static final int END = 0x00; // Ends a pre-release, and an alphanumeric identifier
+    private static final int PRE_RELEASE = 0x01; // Starts a pre-release
+    private static final int RELEASE = 0x02; // Marks a release, above any pre-release
+    private static final int NUMERIC = 0x01; // Plus the number of bytes, starts a numeric identifier
+    private static final int OVERSIZED = 0x0A; // Starts a numeric identifier too large for a long
+    private static final int ALPHANUMERIC_START = 0x0B; // Starts an alphanumeric identifier
+    private static final Comparator<byte[]> COMPARATOR = VersionKey::compare;
+
+    /**
+     * Encodes a version into a key.
+     *
+     * @param version the version
+     * @return the key
+     * @throws IllegalArgumentException thrown if the pre-release has an empty identifier, or the pre-release or build-metadata has a char that can't be encoded
+     */
+    public static @NotNull byte[] encode(@NotNull Version version) {
+        final byte[] key = new byte[length(version)];
+        write(version, key, 0);
+        return key;
+    }
+
+    /**
+     * Encodes a version into a key in a buffer at its position, advancing the position.
+     *
+     * @param version the version
+     * @param buffer  the buffer
+     * @throws BufferOverflowException thrown if the buffer does not have enough space remaining
+     * @throws IllegalArgumentException thrown if the pre-release has an empty identifier, or the pre-release or build-metadata has a char that can't be encoded
+     */
+    public static void encode(@NotNull Version version, @NotNull ByteBuffer buffer) {
+        final int length = length(version);
+        if (length > buffer.remaining())
+            throw new BufferOverflowException();
+
+        if (buffer.hasArray()) {
+            write(version, buffer.array(), buffer.arrayOffset() + buffer.position());
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] key = new byte[length];
+            write(version, key, 0);
+            buffer.put(key);
+        }
+    }
+
+    /**
+     * Gets the length of the key of a version.
+     *
+     * @param version the version
+     * @return the length in bytes
+     * @throws IllegalArgumentException thrown if the pre-release has an empty identifier, or the pre-release or build-metadata has a char that can't be encoded
+     */
+    public static int length(@NotNull Version version) {
+        if (version.hasPreRelease() && !VersionCodec.isCanonical(version))
+            throw new IllegalArgumentException(String.format("Version \"%s\" can't be encoded as a key, pre-release \"%s\" has an empty identifier.", version.getVersionFull(), version.getPreRelease()));
+
+        int length = numberLength(version.getMajor()) + numberLength(version.getMinor()) + numberLength(version.getPatch()) + 1;
+
+        final long[] keys = version.getPreReleaseKeys();
+        final String[] identifiers = version.getPreReleaseIdentifiers();
+        if (keys.length > 0)
+            length++;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] >= 0) {
+                length += numberLength(keys[i]);
+            } else if (keys[i] == OVERSIZED_NUMERIC) {
+                length += 5 + identifiers[i].length();
+            } else {
+                checkChars(version, identifiers[i], false);
+                length += 2 + identifiers[i].length();
+            }
+        }
+
+        checkChars(version, version.getBuildMetadata(), true);
+        return length + version.getBuildMetadata().length();
+    }
+
+    /**
+     * Decodes a key into a version.
+     *
+     * @param key the key
+     * @return the version
+     */
+    public static @NotNull Version decode(@NotNull byte[] key) {
+        return decode(key, 0, key.length);
+    }
+
+    /**
+     * Decodes a key in a region of an array into a version.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte of the key
+     * @param length the length of the key
+     * @return the version
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the array
+     * @apiNote Decoding does not validate, it is only meant for keys encoded by this class
+     */
+    public static @NotNull Version decode(@NotNull byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length)
+            throw new IndexOutOfBoundsException(String.format("Region [%d, %d + %d) is out of bounds for length %d.", offset, offset, length, bytes.length));
+
+        final int end = offset + length;
+        int i = offset;
+
+        final long major = readNumber(bytes, i + 1, bytes[i]);
+        i += 1 + bytes[i];
+        final long minor = readNumber(bytes, i + 1, bytes[i]);
+        i += 1 + bytes[i];
+        final long patch = readNumber(bytes, i + 1, bytes[i]);
+        i += 1 + bytes[i];
+
+        String preRelease = "";
+        String[] identifiers = new String[0];
+        long[] keys = new long[0];
+        if (bytes[i++] == PRE_RELEASE) {
+            // Count the identifiers first, alphanumeric identifiers are skipped to their end
+            int count = 0;
+            for (int j = i; bytes[j] != END; count++)
+                j = skipIdentifier(bytes, j);
+
+            identifiers = new String[count];
+            keys = new long[count];
+            for (int n = 0; n < count; n++) {
+                final int tag = bytes[i];
+                final int next = skipIdentifier(bytes, i);
+                if (tag == ALPHANUMERIC_START) {
+                    keys[n] = ALPHANUMERIC;
+                    identifiers[n] = new String(bytes, i + 1, next - i - 2, StandardCharsets.US_ASCII);
+                } else if (tag == OVERSIZED) {
+                    keys[n] = OVERSIZED_NUMERIC;
+                    identifiers[n] = new String(bytes, i + 5, next - i - 5, StandardCharsets.US_ASCII);
+                } else {
+                    keys[n] = readNumber(bytes, i + 1, tag - NUMERIC);
+                    identifiers[n] = Long.toString(keys[n]);
+                }
+                i = next;
+            }
+            i++; // Skip the end of the pre-release
+
+            preRelease = String.join(".", identifiers);
+        }
+
+        final String meta = new String(bytes, i, end - i, StandardCharsets.US_ASCII);
+        return new Version(major, minor, patch, preRelease, identifiers, keys, meta);
+    }
+
+    /**
+     * Compares two keys as unsigned bytes.
+     *
+     * @param key   the first key
+     * @param other the second key
+     * @return a negative integer, zero, or a positive integer as the first key sorts before, equal to, or after the second key
+     * @implNote Compares eight bytes at a time with {@link Long#compareUnsigned(long, long)}
+     */
+    public static int compare(@NotNull byte[] key, @NotNull byte[] other) {
+        final int length = Math.min(key.length, other.length);
+
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            final long a = readLong(key, i);
+            final long b = readLong(other, i);
+            if (a != b)
+                return Long.compareUnsigned(a, b);
+        }
+
+        for (; i < length; i++) {
+            if (key[i] != other[i])
+                return Integer.compare(key[i] & 0xFF, other[i] & 0xFF);
+        }
+
+        return Integer.compare(key.length, other.length);
+    }
+
+    /**
+     * Compares the remaining bytes of two buffers as unsigned bytes, without changing their positions.
+     *
+     * @param key   the buffer holding the first key between its position and limit
+     * @param other the buffer holding the second key between its position and limit
+     * @return a negative integer, zero, or a positive integer as the first key sorts before, equal to, or after the second key
+     * @implNote Compares eight bytes at a time with {@link Long#compareUnsigned(long, long)}, also for direct buffers
+     */
+    public static int compare(@NotNull ByteBuffer key, @NotNull ByteBuffer other) {
+        final int keyStart = key.position();
+        final int otherStart = other.position();
+        final int length = Math.min(key.remaining(), other.remaining());
+
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            final long a = bigEndian(key, key.getLong(keyStart + i));
+            final long b = bigEndian(other, other.getLong(otherStart + i));
+            if (a != b)
+                return Long.compareUnsigned(a, b);
+        }
+
+        for (; i < length; i++) {
+            final int a = key.get(keyStart + i) & 0xFF;
+            final int b = other.get(otherStart + i) & 0xFF;
+            if (a != b)
+                return Integer.compare(a, b);
+        }
+
+        return Integer.compare(key.remaining(), other.remaining());
+    }
+
+    /**
+     * Gets a comparator of keys as unsigned bytes.
+     *
+     * @return the comparator
+     */
+    public static @NotNull Comparator<byte[]> comparator() {
+        return COMPARATOR;
+    }
+
+    private static void write(Version version, byte[] key, int i) {
+        i = writeNumber(key, i, version.getMajor());
+        i = writeNumber(key, i, version.getMinor());
+        i = writeNumber(key, i, version.getPatch());
+
+        final long[] keys = version.getPreReleaseKeys();
+        final String[] identifiers = version.getPreReleaseIdentifiers();
+        if (keys.length == 0) {
+            key[i++] = RELEASE;
+        } else {
+            key[i++] = PRE_RELEASE;
+            for (int n = 0; n < keys.length; n++) {
+                if (keys[n] >= 0) {
+                    i = writeNumber(key, i, keys[n]);
+                    key[i - 1 - numberBytes(keys[n])] += NUMERIC;
+                } else if (keys[n] == OVERSIZED_NUMERIC) {
+                    key[i++] = OVERSIZED;
+                    final int length = identifiers[n].length();
+                    key[i++] = (byte) (length >>> 24);
+                    key[i++] = (byte) (length >>> 16);
+                    key[i++] = (byte) (length >>> 8);
+                    key[i++] = (byte) length;
+                    i = writeChars(key, i, identifiers[n]);
+                } else {
+                    key[i++] = ALPHANUMERIC_START;
+                    i = writeChars(key, i, identifiers[n]);
+                    key[i++] = END;
+                }
+            }
+            key[i++] = END;
+        }
+
+        writeChars(key, i, version.getBuildMetadata());
+    }
+
+    /**
+     * Skips an identifier, returning the index after it.
+     */
+    private static int skipIdentifier(byte[] bytes, int i) {
+        final int tag = bytes[i];
+        if (tag == ALPHANUMERIC_START) {
+            i++;
+            while (bytes[i] != END)
+                i++;
+            return i + 1;
+        }
+
+        if (tag == OVERSIZED)
+            return i + 5 + ((bytes[i + 1] & 0xFF) << 24 | (bytes[i + 2] & 0xFF) << 16 | (bytes[i + 3] & 0xFF) << 8 | (bytes[i + 4] & 0xFF));
+
+        return i + 1 + (tag - NUMERIC);
+    }
+
+    /**
+     * Checks that every char is an ASCII letter, digit or hyphen, or a dot if allowed. Other chars would be truncated to
+     * arbitrary bytes, including the end byte of an alphanumeric identifier.
+     */
+    private static void checkChars(Version version, String string, boolean dots) {
+        for (int n = 0; n < string.length(); n++) {
+            final char c = string.charAt(n);
+            if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || (dots && c == '.'))
+                continue;
+
+            throw new IllegalArgumentException(String.format("Version \"%s\" can't be encoded as a key, char \"%s\" (U+%04X) is not allowed in a pre-release or build-metadata.", version.getVersionFull(), c, (int) c));
+        }
+    }
+
+    private static int writeChars(byte[] key, int i, String string) {
+        for (int n = 0; n < string.length(); n++)
+            key[i++] = (byte) string.charAt(n);
+        return i;
+    }
+
+    /**
+     * Writes a number as its number of significant bytes followed by those bytes, returning the index after it.
+     */
+    private static int writeNumber(byte[] key, int i, long value) {
+        final int bytes = numberBytes(value);
+        key[i++] = (byte) bytes;
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8)
+            key[i++] = (byte) (value >>> shift);
+        return i;
+    }
+
+    /**
+     * Reads the big-endian bytes of a number written by {@link #writeNumber(byte[], int, long)}.
+     */
+    private static long readNumber(byte[] bytes, int i, int length) {
+        long value = 0;
+        for (int n = 0; n < length; n++)
+            value = value << 8 | (bytes[i + n] & 0xFF);
+        return value;
+    }
+
+    private static int numberLength(long value) {
+        return 1 + numberBytes(value);
+    }
+
+    private static int numberBytes(long value) {
+        return (Long.SIZE - Long.numberOfLeadingZeros(value) + 7) / 8;
+    }
+
+    private static long readLong(byte[] bytes, int i) {
+        return (bytes[i] & 0xFFL) << 56
+            | (bytes[i + 1] & 0xFFL) << 48
+            | (bytes[i + 2] & 0xFFL) << 40
+            | (bytes[i + 3] & 0xFFL) << 32
+            | (bytes[i + 4] & 0xFFL) << 24
+            | (bytes[i + 5] & 0xFFL) << 16
+            | (bytes[i + 6] & 0xFFL) << 8
+            | (bytes[i + 7] & 0xFFL);
+    }
+
+    private static long bigEndian(ByteBuffer buffer, long value) {
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A callback receiving the versions parsed from the lines of a file by {@link VersionFileReader}.
+ */
+@FunctionalInterface
+public interface VersionLineHandler {
+    /**
+     * Called for each line holding a valid version.
+     *
+     * @param offset  the byte offset of the line in the file
+     * @param version the parsed version
+     */
+    void onVersion(long offset, @NotNull Version version);
+
+    /**
+     * Called for each line not holding a valid version. Does nothing by default.
+     *
+     * @param offset     the byte offset of the line in the file
+     * @param error      the reason parsing failed
+     * @param errorIndex the byte offset in the line parsing failed at, not counting leading whitespace
+     */
+    default void onFailure(long offset, @NotNull VersionParseError error, int errorIndex) {
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A version found in text by {@link VersionExtractor}, with the region of the text it was parsed from.
+ */
+public final class VersionMatch {
+    private final @NotNull Version version; // The parsed version
+    private final int start; // The index of the first char of the match, including a preceding "v"
+    private final int end; // The index after the last char of the match
+
+    VersionMatch(@NotNull Version version, int start, int end) {
+        this.version = version;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Gets the parsed version.
+     *
+     * @return the version
+     */
+    public @NotNull Version getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the index of the first char of the match in the text, including a preceding "v" or "V".
+     *
+     * @return the start index, inclusive
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the index after the last char of the match in the text.
+     *
+     * @return the end index, exclusive
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionMatch{version=" + version.getVersionFull() + ", start=" + start + ", end=" + end + "}";
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.milkdrinkers.javasemver;
+
+/**
+ * Contains the reasons a version string can fail to parse.
+ */
+public enum VersionParseError {
+    /**
+     * The input ended where more characters were expected.
+     */
+    UNEXPECTED_END("Unexpected end of version"),
+    /**
+     * A character that is not allowed at its position was found.
+     */
+    UNEXPECTED_CHARACTER("Unexpected character"),
+    /**
+     * A numeric version or numeric pre-release identifier has a leading zero.
+     */
+    LEADING_ZERO("Leading zero in numeric identifier"),
+    /**
+     * A major, minor or patch version is larger than {@link Long#MAX_VALUE}.
+     */
+    NUMBER_OVERFLOW("Numeric version is too large"),
+    /**
+     * A pre-release or build-metadata identifier is empty.
+     */
+    EMPTY_IDENTIFIER("Empty identifier");
+
+    private final String description;
+
+    VersionParseError(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Gets a short human-readable description of this error.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * The result of parsing a version string without throwing, holding either a {@link Version} or the reason parsing failed.
+ */
+public final class VersionParseResult {
+    private final @Nullable Version version; // The parsed version, null if parsing failed
+    private final @Nullable VersionParseError error; // The reason parsing failed, null if parsing succeeded
+    private final int errorIndex; // The char offset parsing failed at, -1 if parsing succeeded
+
+    private VersionParseResult(@Nullable Version version, @Nullable VersionParseError error, int errorIndex) {
+        this.version = version;
+        this.error = error;
+        this.errorIndex = errorIndex;
+    }
+
+    @ApiStatus.Internal
+    static VersionParseResult success(@NotNull Version version) {
+        return new VersionParseResult(version, null, -1);
+    }
+
+    @ApiStatus.Internal
+    static VersionParseResult failure(@NotNull VersionParseError error, int errorIndex) {
+        return new VersionParseResult(null, error, errorIndex);
+    }
+
+    /**
+     * Returns whether a version was parsed.
+     *
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return version != null;
+    }
+
+    /**
+     * Gets the parsed version.
+     *
+     * @return the version, or null if parsing failed
+     */
+    public @Nullable Version getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the parsed version wrapped in an optional.
+     *
+     * @return the version, or an empty optional if parsing failed
+     */
+    public @NotNull Optional<Version> toOptional() {
+        return Optional.ofNullable(version);
+    }
+
+    /**
+     * Gets the reason parsing failed.
+     *
+     * @return the error, or null if parsing succeeded
+     */
+    public @Nullable VersionParseError getError() {
+        return error;
+    }
+
+    /**
+     * Gets the char offset in the input at which parsing failed.
+     *
+     * @return the offset, or -1 if parsing succeeded
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    @Override
+    public String toString() {
+        return version != null ? "VersionParseResult{version=" + version + "}" : "VersionParseResult{error=" + error + ", errorIndex=" + errorIndex + "}";
+    }
+}
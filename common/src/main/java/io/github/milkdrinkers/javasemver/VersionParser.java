@@ -1,72 +1,256 @@
 package io.github.milkdrinkers.javasemver;
 
-import io.github.milkdrinkers.javasemver.exception.VersionBuildException;
 import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * Contains parsing logic for {@link Version} objects.
  */
 public abstract class VersionParser {
-    private final static Pattern SEMVER_REGEX = Pattern.compile("^(?<major>0|[1-9]\\d*)\\.(?<minor>0|[1-9]\\d*)\\.(?<patch>0|[1-9]\\d*)(?:-(?<prerelease>(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?(?:\\+(?<meta>[0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$"); // Extract named fields for semantic version
-
     /**
      * Parse a {@link String} into a {@link Version}.
      *
      * @param unparsedVersion the unparsed version string
      * @return the resulting {@link Version}
      * @throws VersionParseException thrown if a valid semantic version could not be parsed from the string
-     * @apiNote Uses {@link VersionBuilder} internally
+     * @apiNote Uses {@link #tryParse(String)} internally
      * @implNote Preceding "V" or "v" characters are stripped from the unparsedVersion
      */
     public static Version parse(String unparsedVersion) throws VersionParseException {
-        // Check if version meets minimal requirements (if it doesn't have 4+ characters it can't be valid semver)
-        if (unparsedVersion.length() < 5)
-            throw new VersionParseException(String.format("Version could not be parsed from version string \"%s\".", unparsedVersion));
-
-        // Strip leading "V" before version
-        if (unparsedVersion.toUpperCase().startsWith("V"))
-            unparsedVersion = unparsedVersion.substring(1);
-
-        try {
-            // Grab version details from string
-            final Matcher matcher = SEMVER_REGEX.matcher(unparsedVersion);
-            if (!matcher.matches())
-                throw new VersionParseException(String.format("Version could not be parsed from version string \"%s\".", unparsedVersion));
-
-            // Grap values from matcher groups and put in optionals
-            final Optional<Long> major = Optional.ofNullable(matcher.group("major")).map(Long::parseLong);
-            final Optional<Long> minor = Optional.ofNullable(matcher.group("minor")).map(Long::parseLong);
-            final Optional<Long> patch = Optional.ofNullable(matcher.group("patch")).map(Long::parseLong);
-            final Optional<String> preRelease = Optional.ofNullable(matcher.group("prerelease"));
-            final Optional<String> meta = Optional.ofNullable(matcher.group("meta"));
-
-            // Check for missing data
-            if (!major.isPresent())
-                throw new VersionParseException(String.format("Major version could not be parsed from version string \"%s\" when constructing Version object.", unparsedVersion));
-
-            if (!minor.isPresent())
-                throw new VersionParseException(String.format("Minor version could not be parsed from version string \"%s\" when constructing Version object.", unparsedVersion));
-
-            if (!patch.isPresent())
-                throw new VersionParseException(String.format("Patch version could not be parsed from version string \"%s\" when constructing Version object.", unparsedVersion));
-
-            return new VersionBuilder()
-                .withMajor(major.get())
-                .withMinor(minor.get())
-                .withPatch(patch.get())
-                .withPreRelease(preRelease.orElse(""))
-                .withMeta(meta.orElse(""))
-                .build();
-        } catch (IllegalStateException e) {
-            throw new VersionParseException(String.format("Match operation failed parsing version from string \"%s\" when constructing Version object.", unparsedVersion));
-        } catch (IllegalArgumentException e) {
-            throw new VersionParseException(String.format("Regex groups were not found while parsing version from string \"%s\" when constructing Version object.", unparsedVersion));
-        } catch (VersionBuildException e) {
-            throw new VersionParseException(String.format("Builder failed while parsing version from string \"%s\" when constructing Version object.", unparsedVersion), e);
-        }
+        final VersionParseResult result = tryParse(unparsedVersion);
+        if (!result.isSuccess())
+            throw exception(unparsedVersion, result);
+
+        return result.getVersion();
+    }
+
+    /**
+     * Parse a region of a {@link CharSequence} into a {@link Version}, without copying the region into a string first.
+     *
+     * @param input  the input containing the unparsed version
+     * @param offset the index of the first char of the unparsed version
+     * @param length the number of chars in the unparsed version
+     * @return the resulting {@link Version}
+     * @throws VersionParseException     thrown if a valid semantic version could not be parsed from the region
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the input
+     * @apiNote Uses {@link #tryParse(CharSequence, int, int)} internally
+     * @implNote Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static Version parse(@NotNull CharSequence input, int offset, int length) throws VersionParseException {
+        final VersionParseResult result = tryParse(input, offset, length);
+        if (!result.isSuccess())
+            throw exception(input.subSequence(offset, offset + length), result);
+
+        return result.getVersion();
+    }
+
+    /**
+     * Parse a region of ASCII or UTF-8 encoded bytes into a {@link Version}, without decoding the region into a string first.
+     *
+     * @param bytes  the bytes containing the unparsed version
+     * @param offset the index of the first byte of the unparsed version
+     * @param length the number of bytes in the unparsed version
+     * @return the resulting {@link Version}
+     * @throws VersionParseException     thrown if a valid semantic version could not be parsed from the region
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the array
+     * @apiNote Uses {@link #tryParse(byte[], int, int)} internally
+     * @implNote Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static Version parse(@NotNull byte[] bytes, int offset, int length) throws VersionParseException {
+        final VersionParseResult result = tryParse(bytes, offset, length);
+        if (!result.isSuccess())
+            throw exception(new AsciiCharSequence().wrap(bytes).toString(offset, offset + length), result);
+
+        return result.getVersion();
+    }
+
+    /**
+     * Parse the remaining ASCII or UTF-8 encoded bytes of a {@link ByteBuffer} into a {@link Version}, without decoding them into a string first.
+     *
+     * @param buffer the buffer, whose bytes between its position and limit contain the unparsed version
+     * @return the resulting {@link Version}
+     * @throws VersionParseException thrown if a valid semantic version could not be parsed from the buffer
+     * @apiNote Uses {@link #tryParse(ByteBuffer)} internally
+     * @implNote The position of the buffer is not changed. Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static Version parse(@NotNull ByteBuffer buffer) throws VersionParseException {
+        final VersionParseResult result = tryParse(buffer);
+        if (!result.isSuccess())
+            throw exception(new AsciiCharSequence().wrap(buffer).toString(buffer.position(), buffer.limit()), result);
+
+        return result.getVersion();
+    }
+
+    /**
+     * Parse a {@link String} into a {@link Version} without throwing on invalid input.
+     *
+     * @param unparsedVersion the unparsed version string
+     * @return a result holding either the resulting {@link Version}, or the {@link VersionParseError} and char offset parsing failed at
+     * @apiNote Prefer this over {@link #parse(String)} when invalid input is common, as failing creates no exception or message
+     * @implNote Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static @NotNull VersionParseResult tryParse(@NotNull String unparsedVersion) {
+        return scan(unparsedVersion, 0, unparsedVersion.length());
+    }
+
+    /**
+     * Parse a region of a {@link CharSequence} into a {@link Version} without throwing on invalid input.
+     *
+     * @param input  the input containing the unparsed version
+     * @param offset the index of the first char of the unparsed version
+     * @param length the number of chars in the unparsed version
+     * @return a result holding either the resulting {@link Version}, or the {@link VersionParseError} and char offset relative to {@code offset} parsing failed at
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the input
+     * @implNote Only the pre-release and build-metadata are copied out of the input. Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static @NotNull VersionParseResult tryParse(@NotNull CharSequence input, int offset, int length) {
+        checkRegion(input.length(), offset, length);
+        return scan(input, offset, offset + length);
+    }
+
+    /**
+     * Parse a region of ASCII or UTF-8 encoded bytes into a {@link Version} without throwing on invalid input.
+     *
+     * @param bytes  the bytes containing the unparsed version
+     * @param offset the index of the first byte of the unparsed version
+     * @param length the number of bytes in the unparsed version
+     * @return a result holding either the resulting {@link Version}, or the {@link VersionParseError} and byte offset relative to {@code offset} parsing failed at
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the array
+     * @implNote Only the pre-release and build-metadata are copied out of the array. Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static @NotNull VersionParseResult tryParse(@NotNull byte[] bytes, int offset, int length) {
+        checkRegion(bytes.length, offset, length);
+        return scan(new AsciiCharSequence().wrap(bytes), offset, offset + length);
+    }
+
+    /**
+     * Parse the remaining ASCII or UTF-8 encoded bytes of a {@link ByteBuffer} into a {@link Version} without throwing on invalid input.
+     *
+     * @param buffer the buffer, whose bytes between its position and limit contain the unparsed version
+     * @return a result holding either the resulting {@link Version}, or the {@link VersionParseError} and byte offset relative to the buffer position parsing failed at
+     * @implNote The position of the buffer is not changed. Only the pre-release and build-metadata are copied out of the buffer. Preceding "V" or "v" characters are stripped from the unparsedVersion
+     */
+    public static @NotNull VersionParseResult tryParse(@NotNull ByteBuffer buffer) {
+        return scan(new AsciiCharSequence().wrap(buffer), buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Parse a batch of {@link String} objects into {@link Version} objects in parallel, without throwing on invalid input.
+     *
+     * @param unparsedVersions the unparsed version strings
+     * @return a result holding the resulting {@link Version} of each string, and the {@link VersionParseError} and char offset of each string parsing failed for
+     * @apiNote Runs on the {@link ForkJoinPool#commonPool()}. Null strings fail with {@link VersionParseError#UNEXPECTED_END}
+     * @implNote The batch is split into contiguous chunks of at least a thousand strings, small batches are parsed on the calling thread
+     */
+    public static @NotNull VersionBatchResult parseAll(@NotNull String[] unparsedVersions) {
+        return VersionBatchParser.parse(unparsedVersions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parse a batch of {@link String} objects into {@link Version} objects in parallel, without throwing on invalid input.
+     *
+     * @param unparsedVersions the unparsed version strings
+     * @return a result holding the resulting {@link Version} of each string by iteration order, and the failures
+     * @apiNote Uses {@link #parseAll(String[])} internally
+     */
+    public static @NotNull VersionBatchResult parseAll(@NotNull Collection<String> unparsedVersions) {
+        return parseAll(unparsedVersions.toArray(new String[0]));
+    }
+
+    /**
+     * Parse a stream of {@link String} objects into {@link Version} objects in parallel, without throwing on invalid input.
+     *
+     * @param unparsedVersions the unparsed version strings, consumed before parsing starts
+     * @return a result holding the resulting {@link Version} of each string by encounter order, and the failures
+     * @apiNote Uses {@link #parseAll(String[])} internally
+     */
+    public static @NotNull VersionBatchResult parseAll(@NotNull Stream<String> unparsedVersions) {
+        return parseAll(unparsedVersions.toArray(String[]::new));
+    }
+
+    /**
+     * Parse a batch of {@link String} objects into {@link Version} objects on an executor, without throwing on invalid input.
+     *
+     * @param unparsedVersions the unparsed version strings
+     * @param executor         the executor to parse on, the calling thread waits until parsing completes
+     * @return a result holding the resulting {@link Version} of each string, and the failures
+     * @throws IllegalStateException thrown if parsing a chunk threw, or the calling thread was interrupted while waiting
+     * @apiNote A {@link ForkJoinPool} executor is used like in {@link #parseAll(String[])}, any other executor is handed one task per chunk.
+     * Small batches are parsed on the calling thread
+     */
+    public static @NotNull VersionBatchResult parseAll(@NotNull String[] unparsedVersions, @NotNull Executor executor) {
+        if (executor instanceof ForkJoinPool)
+            return VersionBatchParser.parse(unparsedVersions, (ForkJoinPool) executor);
+
+        return VersionBatchParser.parse(unparsedVersions, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Parse a batch of {@link String} objects into {@link Version} objects on an executor, without throwing on invalid input.
+     *
+     * @param unparsedVersions the unparsed version strings
+     * @param executor         the executor to parse on, the calling thread waits until parsing completes
+     * @return a result holding the resulting {@link Version} of each string by iteration order, and the failures
+     * @apiNote Uses {@link #parseAll(String[], Executor)} internally
+     */
+    public static @NotNull VersionBatchResult parseAll(@NotNull Collection<String> unparsedVersions, @NotNull Executor executor) {
+        return parseAll(unparsedVersions.toArray(new String[0]), executor);
+    }
+
+    /**
+     * Scans a region of the input into a result.
+     */
+    private static VersionParseResult scan(CharSequence input, int from, int to) {
+        final VersionScanner scanner = new VersionScanner();
+        if (!scanner.scan(input, from, to))
+            return VersionParseResult.failure(scanner.error, scanner.errorIndex - from);
+
+        return VersionParseResult.success(toVersion(scanner, input));
+    }
+
+    /**
+     * Creates the version a scanner successfully scanned from the input.
+     */
+    static Version toVersion(VersionScanner scanner, CharSequence input) {
+        return new Version(
+            scanner.major,
+            scanner.minor,
+            scanner.patch,
+            scanner.preReleaseStart < 0 ? "" : copy(input, scanner.preReleaseStart, scanner.preReleaseEnd),
+            scanner.metaStart < 0 ? "" : copy(input, scanner.metaStart, scanner.metaEnd)
+        );
+    }
+
+    /**
+     * Copies a region of the input into a string, which is the only copy made while parsing.
+     */
+    private static String copy(CharSequence input, int start, int end) {
+        if (input instanceof String)
+            return ((String) input).substring(start, end);
+
+        if (input instanceof AsciiCharSequence)
+            return ((AsciiCharSequence) input).toString(start, end);
+
+        return input.subSequence(start, end).toString();
+    }
+
+    @ApiStatus.Internal
+    static void checkRegion(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length)
+            throw new IndexOutOfBoundsException(String.format("Region [%d, %d + %d) is out of bounds for length %d.", offset, offset, length, size));
+    }
+
+    /**
+     * Creates the exception thrown for a failed parse.
+     */
+    private static VersionParseException exception(CharSequence unparsedVersion, VersionParseResult result) {
+        return new VersionParseException(String.format("Version could not be parsed from version string \"%s\": %s at index %d.", unparsedVersion, result.getError().getDescription(), result.getErrorIndex()));
     }
 }
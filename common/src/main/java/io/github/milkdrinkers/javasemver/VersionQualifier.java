@@ -0,0 +1,98 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Contains the well-known qualifiers a pre-release can be tagged with, like "alpha" in "1.0.0-alpha.1".
+ * <p>
+ * A pre-release is split into words of letters, at the separators "." and "-" and wherever letters and digits meet, and
+ * each word is matched against the words of every qualifier ignoring case. So "1.0.0-RC2" and "1.0.0-develop-SNAPSHOT"
+ * are qualified, but "1.0.0-source" and "1.0.0-devops" are not.
+ *
+ * @see VersionQualifierRanking
+ */
+public enum VersionQualifier {
+    /**
+     * A development build, tagged "dev", "devel", "develop" or "development".
+     */
+    DEVELOPMENT("dev", "devel", "develop", "development"),
+    /**
+     * A snapshot build, tagged "snapshot".
+     */
+    SNAPSHOT("snapshot"),
+    /**
+     * An alpha build, tagged "alpha".
+     */
+    ALPHA("alpha"),
+    /**
+     * A beta build, tagged "beta".
+     */
+    BETA("beta"),
+    /**
+     * A release candidate, tagged "rc".
+     */
+    RELEASE_CANDIDATE("rc");
+
+    private static final VersionQualifier[] VALUES = values(); // Cached as values() copies the array
+
+    private final String[] words; // The lower case words tagging this qualifier
+
+    VersionQualifier(String... words) {
+        this.words = words;
+    }
+
+    /**
+     * Gets the bit of this qualifier in a qualifier mask.
+     *
+     * @return the bit
+     */
+    @ApiStatus.Internal
+    int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Classifies pre-release identifiers in a single pass over their chars.
+     *
+     * @param identifiers the pre-release identifiers
+     * @return the mask of the qualifiers found, with the bit {@link #mask()} set for each
+     */
+    @ApiStatus.Internal
+    static int classify(@NotNull String[] identifiers) {
+        int mask = 0;
+        for (String identifier : identifiers) {
+            final int length = identifier.length();
+            int i = 0;
+            while (i < length) {
+                // Find the next word of letters, anything else separates words
+                while (i < length && !isLetter(identifier.charAt(i)))
+                    i++;
+                final int start = i;
+                while (i < length && isLetter(identifier.charAt(i)))
+                    i++;
+
+                if (i > start)
+                    mask |= match(identifier, start, i - start);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Matches a word against the words of every qualifier, ignoring case.
+     */
+    private static int match(String identifier, int start, int length) {
+        for (VersionQualifier qualifier : VALUES) {
+            for (String word : qualifier.words) {
+                if (word.length() == length && identifier.regionMatches(true, start, word, 0, length))
+                    return qualifier.mask();
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * An immutable ranking of release channels by stability, from pre-releases without a ranked qualifier up to releases,
+ * compiled into a table so the channel of a version is an integer to compare and filter by.
+ * <p>
+ * A pre-release is ranked by the least stable ranked qualifier it is tagged with, so "1.0.0-develop-SNAPSHOT" ranks as
+ * a development build in the {@link #DEFAULT} ranking.
+ *
+ * @apiNote Ranks range from 0 for pre-releases without a ranked qualifier, through 1 to n for the n ranked qualifiers in
+ * order, to n + 1 for releases.
+ */
+public final class VersionQualifierRanking {
+    /**
+     * The ranking development &lt; snapshot &lt; alpha &lt; beta &lt; release candidate &lt; release.
+     */
+    public static final VersionQualifierRanking DEFAULT = of(
+        VersionQualifier.DEVELOPMENT,
+        VersionQualifier.SNAPSHOT,
+        VersionQualifier.ALPHA,
+        VersionQualifier.BETA,
+        VersionQualifier.RELEASE_CANDIDATE
+    );
+
+    private static final int UNRANKED = 0; // The rank of pre-releases without a ranked qualifier
+
+    private final VersionQualifier[] qualifiers; // The ranked qualifiers, from the least to the most stable
+    private final int[] qualifierRanks; // The rank of each qualifier by ordinal, or -1 if it is not ranked
+    private final int[] ranks; // The rank of a pre-release by its qualifier mask
+    private final int releaseRank; // The rank of releases
+    private final Comparator<Version> comparator; // Orders by rank, then by precedence
+
+    private VersionQualifierRanking(VersionQualifier[] qualifiers) {
+        this.qualifiers = qualifiers;
+        this.releaseRank = qualifiers.length + 1;
+
+        this.qualifierRanks = new int[VersionQualifier.values().length];
+        Arrays.fill(qualifierRanks, -1);
+        for (int i = 0; i < qualifiers.length; i++)
+            qualifierRanks[qualifiers[i].ordinal()] = i + 1;
+
+        // Compile the rank of every combination of qualifiers, the least stable qualifier decides
+        this.ranks = new int[1 << VersionQualifier.values().length];
+        for (int mask = 0; mask < ranks.length; mask++) {
+            int rank = UNRANKED;
+            for (VersionQualifier qualifier : qualifiers) {
+                if ((mask & qualifier.mask()) != 0) {
+                    rank = qualifierRanks[qualifier.ordinal()];
+                    break;
+                }
+            }
+            ranks[mask] = rank;
+        }
+
+        this.comparator = (a, b) -> {
+            final int comparison = Integer.compare(rank(a), rank(b));
+            return comparison != 0 ? comparison : VersionCompare.comparePrecedence(a, b);
+        };
+    }
+
+    /**
+     * Creates a ranking of qualifiers.
+     *
+     * @param qualifiers the ranked qualifiers, from the least to the most stable
+     * @return the ranking
+     * @throws IllegalArgumentException thrown if a qualifier is ranked twice
+     * @apiNote Qualifiers left out are ignored, a pre-release only tagged with them ranks like an untagged pre-release
+     */
+    public static @NotNull VersionQualifierRanking of(@NotNull VersionQualifier... qualifiers) {
+        for (int i = 0; i < qualifiers.length; i++) {
+            for (int j = 0; j < i; j++) {
+                if (qualifiers[i] == qualifiers[j])
+                    throw new IllegalArgumentException(String.format("Qualifier \"%s\" can't be ranked twice.", qualifiers[i]));
+            }
+        }
+        return new VersionQualifierRanking(qualifiers.clone());
+    }
+
+    /**
+     * Gets the rank of a version.
+     *
+     * @param version the version
+     * @return the rank, higher for more stable versions
+     */
+    public int rank(@NotNull Version version) {
+        return version.hasPreRelease() ? ranks[version.getQualifierMask()] : releaseRank;
+    }
+
+    /**
+     * Gets the rank of pre-releases tagged with a qualifier, and no less stable qualifier.
+     *
+     * @param qualifier the qualifier
+     * @return the rank, or -1 if the qualifier is not ranked
+     */
+    public int rank(@NotNull VersionQualifier qualifier) {
+        return qualifierRanks[qualifier.ordinal()];
+    }
+
+    /**
+     * Gets the rank of releases, the highest rank.
+     *
+     * @return the rank
+     */
+    public int releaseRank() {
+        return releaseRank;
+    }
+
+    /**
+     * Checks if a version is at least as stable as a qualifier, for filtering versions by release channel.
+     *
+     * @param version   the version
+     * @param qualifier the least stable qualifier accepted
+     * @return true if the version ranks at or above the qualifier
+     * @throws IllegalArgumentException thrown if the qualifier is not ranked
+     */
+    public boolean isAtLeast(@NotNull Version version, @NotNull VersionQualifier qualifier) {
+        final int rank = rank(qualifier);
+        if (rank < 0)
+            throw new IllegalArgumentException(String.format("Qualifier \"%s\" is not ranked.", qualifier));
+
+        return rank(version) >= rank;
+    }
+
+    /**
+     * Gets a comparator ordering versions by rank first, then by precedence.
+     *
+     * @return the comparator
+     */
+    public @NotNull Comparator<Version> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionQualifierRanking" + Arrays.toString(qualifiers);
+    }
+}
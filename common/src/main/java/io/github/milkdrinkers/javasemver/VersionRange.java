@@ -0,0 +1,693 @@
+package io.github.milkdrinkers.javasemver;
+
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable set of versions described by npm/Cargo style range syntax, like {@code ^1.2}, {@code ~1.2.3},
+ * {@code >=1.0 <2.0 || 3.x} or {@code 1.2.3 - 2.3.4}.
+ * <p>
+ * A range is compiled once into a sorted list of disjoint intervals, checking whether it {@link #contains(Version)} a
+ * version is a binary search over those intervals that allocates nothing.
+ *
+ * @apiNote Supported syntax:
+ * <ul>
+ *     <li>Comparators: {@code =}, {@code <}, {@code <=}, {@code >}, {@code >=}, or none meaning {@code =}</li>
+ *     <li>Partial and X-ranges: {@code 1}, {@code 1.2}, {@code 1.x}, {@code 1.2.*}, {@code *}</li>
+ *     <li>Tilde ranges: {@code ~1.2.3} ({@code >=1.2.3 <1.3.0-0}), {@code ~1.2} and {@code ~1}, also written as {@code ~>}</li>
+ *     <li>Caret ranges: {@code ^1.2.3} ({@code >=1.2.3 <2.0.0-0}), {@code ^0.2.3} ({@code >=0.2.3 <0.3.0-0}), {@code ^0.0.3} ({@code >=0.0.3 <0.0.4-0})</li>
+ *     <li>Hyphen ranges: {@code 1.2 - 2.3.4} ({@code >=1.2.0-0 <=2.3.4})</li>
+ *     <li>Comparators separated by whitespace or commas must all match, sets separated by {@code ||} are alternatives</li>
+ * </ul>
+ * @implNote Versions are matched purely by precedence, so pre-releases inside an interval match, like node-semver's
+ * {@code includePrerelease} option. Partial versions span all their pre-releases, {@code 1.x} is {@code >=1.0.0-0 <2.0.0-0}.
+ * Build-metadata in bounds is ignored.
+ */
+public final class VersionRange {
+    private static final String OPERATOR_CHARS = "<>=~^";
+    private static final String EMPTY = "<0.0.0-0"; // The canonical string of a range matching nothing
+    private static final Version LOWEST = lowest(0, 0, 0); // The lowest version of all, nothing is below it
+
+    // Normalized intervals, sorted by lower bound and disjoint, a null bound is unbounded
+    private final Version[] lowers; // The lower bound of each interval
+    private final boolean[] lowerInclusive; // Whether each lower bound is inclusive
+    private final Version[] uppers; // The upper bound of each interval
+    private final boolean[] upperInclusive; // Whether each upper bound is inclusive
+
+    private String string; // The canonical range string, lazily cached
+
+    private VersionRange(List<Interval> intervals) {
+        final int size = intervals.size();
+        this.lowers = new Version[size];
+        this.lowerInclusive = new boolean[size];
+        this.uppers = new Version[size];
+        this.upperInclusive = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            final Interval interval = intervals.get(i);
+            lowers[i] = interval.lower;
+            lowerInclusive[i] = interval.lowerInclusive;
+            uppers[i] = interval.upper;
+            upperInclusive[i] = interval.upperInclusive;
+        }
+    }
+
+    /**
+     * Parse a range string into a {@link VersionRange}.
+     *
+     * @param range the range string, an empty string matches all versions
+     * @return the compiled range
+     * @throws VersionParseException thrown if the range string is not valid range syntax
+     */
+    public static @NotNull VersionRange parse(@NotNull String range) throws VersionParseException {
+        final List<Interval> intervals = new ArrayList<>();
+
+        int start = 0;
+        while (true) {
+            final int end = range.indexOf("||", start);
+            final Interval interval = parseSet(range, range.substring(start, end < 0 ? range.length() : end));
+            if (interval != null)
+                intervals.add(interval);
+
+            if (end < 0)
+                break;
+            start = end + 2;
+        }
+
+        return new VersionRange(normalize(intervals));
+    }
+
+    /**
+     * Create a range matching exactly one version.
+     *
+     * @param version the version
+     * @return the range
+     */
+    public static @NotNull VersionRange exactly(@NotNull Version version) {
+        final Version bound = stripMeta(version);
+        final List<Interval> intervals = new ArrayList<>(1);
+        intervals.add(new Interval(bound, true, bound, true));
+        return new VersionRange(intervals);
+    }
+
+    /**
+     * Check if a version is within this range.
+     *
+     * @param version the version
+     * @return true if the version is within this range
+     * @implNote Allocation-free, runs in logarithmic time in the number of intervals
+     */
+    public boolean contains(@NotNull Version version) {
+        final int interval = floorInterval(version);
+        return interval >= 0 && isBelowUpper(interval, version);
+    }
+
+    /**
+     * Returns whether this range matches no versions.
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return lowers.length == 0;
+    }
+
+    /**
+     * Returns whether this range matches all versions.
+     *
+     * @return boolean
+     */
+    public boolean isAny() {
+        return lowers.length == 1 && lowers[0] == null && uppers[0] == null;
+    }
+
+    /**
+     * Finds the last interval whose lower bound admits the version.
+     *
+     * @return the interval index, or -1 if the version is below all intervals
+     */
+    private int floorInterval(Version version) {
+        int low = 0;
+        int high = lowers.length - 1;
+        int found = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (isAboveLower(mid, version)) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the number of normalized intervals in this range.
+     *
+     * @return the interval count
+     */
+    @ApiStatus.Internal
+    int intervalCount() {
+        return lowers.length;
+    }
+
+    /**
+     * Gets the lower bound of an interval.
+     *
+     * @param interval the interval index
+     * @return the bound, or null if unbounded
+     */
+    @ApiStatus.Internal
+    @Nullable Version lower(int interval) {
+        return lowers[interval];
+    }
+
+    /**
+     * Gets whether the lower bound of an interval is inclusive.
+     *
+     * @param interval the interval index
+     * @return boolean
+     */
+    @ApiStatus.Internal
+    boolean isLowerInclusive(int interval) {
+        return lowerInclusive[interval];
+    }
+
+    /**
+     * Gets the upper bound of an interval.
+     *
+     * @param interval the interval index
+     * @return the bound, or null if unbounded
+     */
+    @ApiStatus.Internal
+    @Nullable Version upper(int interval) {
+        return uppers[interval];
+    }
+
+    /**
+     * Gets whether the upper bound of an interval is inclusive.
+     *
+     * @param interval the interval index
+     * @return boolean
+     */
+    @ApiStatus.Internal
+    boolean isUpperInclusive(int interval) {
+        return upperInclusive[interval];
+    }
+
+    /**
+     * Checks if a version is at or above the lower bound of an interval.
+     */
+    @ApiStatus.Internal
+    boolean isAboveLower(int interval, Version version) {
+        final Version lower = lowers[interval];
+        if (lower == null)
+            return true;
+
+        final int comparison = VersionCompare.comparePrecedence(lower, version);
+        return comparison < 0 || (comparison == 0 && lowerInclusive[interval]);
+    }
+
+    /**
+     * Checks if a version is at or below the upper bound of an interval.
+     */
+    @ApiStatus.Internal
+    boolean isBelowUpper(int interval, Version version) {
+        final Version upper = uppers[interval];
+        if (upper == null)
+            return true;
+
+        final int comparison = VersionCompare.comparePrecedence(version, upper);
+        return comparison < 0 || (comparison == 0 && upperInclusive[interval]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VersionRange)) return false;
+        return toString().equals(o.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    /**
+     * Gets the canonical range string, with each interval written as comparators.
+     *
+     * @return the range string, like {@code >=1.2.3 <2.0.0-0 || >=3.0.0-0}
+     */
+    @Override
+    public String toString() {
+        String string = this.string;
+        if (string == null)
+            this.string = string = format();
+        return string;
+    }
+
+    private String format() {
+        if (lowers.length == 0)
+            return EMPTY;
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < lowers.length; i++) {
+            if (i > 0)
+                builder.append(" || ");
+
+            final Version lower = lowers[i];
+            final Version upper = uppers[i];
+            if (lower == null && upper == null) {
+                builder.append('*');
+            } else if (lower != null && upper != null && lowerInclusive[i] && upperInclusive[i] && VersionCompare.comparePrecedence(lower, upper) == 0) {
+                builder.append(lower.getVersionFull());
+            } else {
+                if (lower != null)
+                    builder.append(lowerInclusive[i] ? ">=" : ">").append(lower.getVersionFull());
+                if (lower != null && upper != null)
+                    builder.append(' ');
+                if (upper != null)
+                    builder.append(upperInclusive[i] ? "<=" : "<").append(upper.getVersionFull());
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parse a set of comparators that must all match into an interval.
+     *
+     * @return the interval, or null if the set matches nothing
+     */
+    private static @Nullable Interval parseSet(String range, String set) {
+        final List<String> tokens = tokenize(range, set);
+        if (tokens.isEmpty())
+            return Interval.any();
+
+        // Hyphen range like "1.2.3 - 2.3.4"
+        if (tokens.contains("-")) {
+            if (tokens.size() != 3 || !tokens.get(1).equals("-"))
+                throw exception(range, "hyphen ranges need exactly one version on each side");
+
+            final Partial from = Partial.parse(range, tokens.get(0));
+            final Partial to = Partial.parse(range, tokens.get(2));
+            return intersect(
+                new Interval(from.lower(), true, null, false),
+                to.count == 3 ? new Interval(null, false, to.version, true) : new Interval(null, false, to.upper(), false)
+            );
+        }
+
+        Interval interval = Interval.any();
+        for (String token : tokens) {
+            interval = intersect(interval, parseComparator(range, token));
+            if (interval == null)
+                return null;
+        }
+        return interval;
+    }
+
+    /**
+     * Splits a set into comparator tokens, joining operators separated from their version by whitespace.
+     */
+    private static List<String> tokenize(String range, String set) {
+        final List<String> tokens = new ArrayList<>();
+        String operator = null; // An operator waiting for its version
+
+        int i = 0;
+        while (i < set.length()) {
+            final char c = set.charAt(i);
+            if (Character.isWhitespace(c) || c == ',') {
+                i++;
+                continue;
+            }
+
+            final int start = i;
+            while (i < set.length() && !Character.isWhitespace(set.charAt(i)) && set.charAt(i) != ',')
+                i++;
+
+            final String token = set.substring(start, i);
+            if (isOperator(token)) {
+                if (operator != null)
+                    throw exception(range, "operator \"" + operator + "\" is missing a version");
+                operator = token;
+            } else {
+                tokens.add(operator == null ? token : operator + token);
+                operator = null;
+            }
+        }
+
+        if (operator != null)
+            throw exception(range, "operator \"" + operator + "\" is missing a version");
+
+        return tokens;
+    }
+
+    private static boolean isOperator(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (OPERATOR_CHARS.indexOf(token.charAt(i)) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parse a single comparator like {@code >=1.2}, {@code ^1.2.3} or {@code 1.x} into an interval.
+     *
+     * @return the interval, or null if the comparator matches nothing
+     */
+    private static @Nullable Interval parseComparator(String range, String token) {
+        int split = 0;
+        while (split < token.length() && OPERATOR_CHARS.indexOf(token.charAt(split)) >= 0)
+            split++;
+
+        final String operator = token.substring(0, split);
+        final Partial partial = Partial.parse(range, token.substring(split));
+
+        switch (operator) {
+            case "":
+            case "=":
+                if (partial.count == 3)
+                    return new Interval(partial.version, true, partial.version, true);
+                return new Interval(partial.lower(), true, partial.upper(), false);
+            case ">":
+                if (partial.count == 3)
+                    return new Interval(partial.version, false, null, false);
+                if (partial.count == 0 || partial.upper() == null)
+                    return null; // Nothing is above all versions
+                return new Interval(partial.upper(), true, null, false);
+            case ">=":
+                return new Interval(partial.lower(), true, null, false);
+            case "<":
+                if (partial.count == 3)
+                    return new Interval(null, false, partial.version, false);
+                if (partial.count == 0)
+                    return null; // Nothing is below all versions
+                return new Interval(null, false, partial.lower(), false);
+            case "<=":
+                if (partial.count == 3)
+                    return new Interval(null, false, partial.version, true);
+                return new Interval(null, false, partial.upper(), false);
+            case "~":
+            case "~>":
+                if (partial.count == 3)
+                    return new Interval(partial.version, true, nextMinor(partial.major, partial.minor), false);
+                return new Interval(partial.lower(), true, partial.upper(), false);
+            case "^":
+                switch (partial.count) {
+                    case 3: {
+                        // Allow changes that do not modify the left-most non-zero component
+                        final Version upper;
+                        if (partial.major > 0) {
+                            upper = nextMajor(partial.major);
+                        } else if (partial.minor > 0) {
+                            upper = nextMinor(0, partial.minor);
+                        } else {
+                            upper = nextPatch(0, 0, partial.patch);
+                        }
+                        return new Interval(partial.version, true, upper, false);
+                    }
+                    case 2:
+                        return new Interval(partial.lower(), true, partial.major > 0 ? nextMajor(partial.major) : nextMinor(0, partial.minor), false);
+                    default:
+                        return new Interval(partial.lower(), true, partial.upper(), false);
+                }
+            default:
+                throw exception(range, "unknown operator \"" + operator + "\"");
+        }
+    }
+
+    /**
+     * Intersects two intervals.
+     *
+     * @return the intersection, or null if it is empty
+     */
+    private static @Nullable Interval intersect(@Nullable Interval a, @Nullable Interval b) {
+        if (a == null || b == null)
+            return null;
+
+        final Interval result = new Interval(a.lower, a.lowerInclusive, a.upper, a.upperInclusive);
+
+        // Take the higher lower bound, an exclusive bound is higher than an inclusive one at the same version
+        if (result.lower == null) {
+            result.lower = b.lower;
+            result.lowerInclusive = b.lowerInclusive;
+        } else if (b.lower != null) {
+            final int comparison = VersionCompare.comparePrecedence(b.lower, result.lower);
+            if (comparison > 0) {
+                result.lower = b.lower;
+                result.lowerInclusive = b.lowerInclusive;
+            } else if (comparison == 0) {
+                result.lowerInclusive &= b.lowerInclusive;
+            }
+        }
+
+        // Take the lower upper bound, an exclusive bound is lower than an inclusive one at the same version
+        if (result.upper == null) {
+            result.upper = b.upper;
+            result.upperInclusive = b.upperInclusive;
+        } else if (b.upper != null) {
+            final int comparison = VersionCompare.comparePrecedence(b.upper, result.upper);
+            if (comparison < 0) {
+                result.upper = b.upper;
+                result.upperInclusive = b.upperInclusive;
+            } else if (comparison == 0) {
+                result.upperInclusive &= b.upperInclusive;
+            }
+        }
+
+        if (result.lower != null && result.upper != null) {
+            final int comparison = VersionCompare.comparePrecedence(result.lower, result.upper);
+            if (comparison > 0 || (comparison == 0 && !(result.lowerInclusive && result.upperInclusive)))
+                return null;
+        }
+
+        // Nothing is below the lowest version, so "<0.0.0-0" matches nothing, like the empty range it is the string of
+        if (result.upper != null && !result.upperInclusive && VersionCompare.comparePrecedence(result.upper, LOWEST) <= 0)
+            return null;
+        return result;
+    }
+
+    /**
+     * Sorts intervals by their lower bound and merges overlapping or touching intervals.
+     */
+    private static List<Interval> normalize(List<Interval> intervals) {
+        if (intervals.size() < 2)
+            return intervals;
+
+        final Interval[] sorted = intervals.toArray(new Interval[0]);
+        Arrays.sort(sorted, (a, b) -> {
+            if (a.lower == null || b.lower == null)
+                return a.lower == null ? (b.lower == null ? 0 : -1) : 1;
+
+            final int comparison = VersionCompare.comparePrecedence(a.lower, b.lower);
+            if (comparison != 0)
+                return comparison;
+            return Boolean.compare(b.lowerInclusive, a.lowerInclusive); // Inclusive bounds first
+        });
+
+        final List<Interval> merged = new ArrayList<>();
+        Interval current = sorted[0];
+        for (int i = 1; i < sorted.length; i++) {
+            final Interval next = sorted[i];
+            if (current.upper != null && next.lower != null) {
+                final int comparison = VersionCompare.comparePrecedence(next.lower, current.upper);
+                if (comparison > 0 || (comparison == 0 && !current.upperInclusive && !next.lowerInclusive)) {
+                    merged.add(current);
+                    current = next;
+                    continue;
+                }
+            }
+
+            // Overlapping or touching, extend the current interval
+            if (current.upper != null) {
+                if (next.upper == null) {
+                    current.upper = null;
+                    current.upperInclusive = false;
+                } else {
+                    final int comparison = VersionCompare.comparePrecedence(next.upper, current.upper);
+                    if (comparison > 0) {
+                        current.upper = next.upper;
+                        current.upperInclusive = next.upperInclusive;
+                    } else if (comparison == 0) {
+                        current.upperInclusive |= next.upperInclusive;
+                    }
+                }
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    /**
+     * Gets the lowest version of a major, minor and patch version, which is its "0" pre-release.
+     */
+    private static Version lowest(long major, long minor, long patch) {
+        return new Version(major, minor, patch, "0", "");
+    }
+
+    /**
+     * Gets the lowest version of the next major version, or null if there is none.
+     */
+    private static @Nullable Version nextMajor(long major) {
+        return major == Long.MAX_VALUE ? null : lowest(major + 1, 0, 0);
+    }
+
+    /**
+     * Gets the lowest version of the next minor version, or null if there is none.
+     */
+    private static @Nullable Version nextMinor(long major, long minor) {
+        return minor == Long.MAX_VALUE ? nextMajor(major) : lowest(major, minor + 1, 0);
+    }
+
+    /**
+     * Gets the lowest version of the next patch version, or null if there is none.
+     */
+    private static @Nullable Version nextPatch(long major, long minor, long patch) {
+        return patch == Long.MAX_VALUE ? nextMinor(major, minor) : lowest(major, minor, patch + 1);
+    }
+
+    private static Version stripMeta(Version version) {
+        return version.hasMeta() ? new Version(version.getMajor(), version.getMinor(), version.getPatch(), version.getPreRelease(), "") : version;
+    }
+
+    private static VersionParseException exception(String range, String reason) {
+        return new VersionParseException(String.format("Version range could not be parsed from string \"%s\": %s.", range, reason));
+    }
+
+    /**
+     * A mutable interval used while compiling a range.
+     */
+    private static final class Interval {
+        private @Nullable Version lower;
+        private boolean lowerInclusive;
+        private @Nullable Version upper;
+        private boolean upperInclusive;
+
+        private Interval(@Nullable Version lower, boolean lowerInclusive, @Nullable Version upper, boolean upperInclusive) {
+            this.lower = lower;
+            this.lowerInclusive = lower != null && lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upper != null && upperInclusive;
+        }
+
+        private static Interval any() {
+            return new Interval(null, false, null, false);
+        }
+    }
+
+    /**
+     * A possibly partial version like {@code 1}, {@code 1.2.x} or {@code 1.2.3-beta}.
+     */
+    private static final class Partial {
+        private long major;
+        private long minor;
+        private long patch;
+        private int count; // The number of numeric components, any further components are wildcards
+        private Version version; // The full version, only set if all three components are numeric
+
+        /**
+         * Parse a partial version, ignoring a leading "v" or "=".
+         */
+        private static Partial parse(String range, String string) {
+            final Partial partial = new Partial();
+
+            int i = 0;
+            if (i < string.length() && string.charAt(i) == '=')
+                i++;
+            final int versionStart = i;
+            if (i < string.length() && (string.charAt(i) == 'v' || string.charAt(i) == 'V'))
+                i++;
+            final int componentStart = i; // After the "v", so a lone "v" has no components
+
+            boolean wildcard = false;
+            for (int component = 0; component < 3; component++) {
+                if (i >= string.length())
+                    break;
+
+                if (component > 0) {
+                    if (string.charAt(i) != '.')
+                        break;
+                    i++;
+                }
+
+                final char c = i < string.length() ? string.charAt(i) : 0;
+                if (c == 'x' || c == 'X' || c == '*') {
+                    wildcard = true;
+                    i++;
+                    continue;
+                }
+
+                if (wildcard)
+                    throw exception(range, "\"" + string + "\" has a number after a wildcard");
+
+                final int start = i;
+                long value = 0;
+                while (i < string.length() && string.charAt(i) >= '0' && string.charAt(i) <= '9') {
+                    final int digit = string.charAt(i) - '0';
+                    if (value > (Long.MAX_VALUE - digit) / 10)
+                        throw exception(range, "\"" + string + "\" has a number that is too large");
+                    value = value * 10 + digit;
+                    i++;
+                }
+
+                if (i == start || (i - start > 1 && string.charAt(start) == '0'))
+                    throw exception(range, "\"" + string + "\" is not a valid version");
+
+                switch (component) {
+                    case 0:
+                        partial.major = value;
+                        break;
+                    case 1:
+                        partial.minor = value;
+                        break;
+                    default:
+                        partial.patch = value;
+                        break;
+                }
+                partial.count++;
+            }
+
+            if (partial.count == 3) {
+                // A full version, which may have a pre-release and build-metadata
+                final VersionParseResult result = VersionParser.tryParse(string, versionStart, string.length() - versionStart);
+                if (!result.isSuccess())
+                    throw exception(range, "\"" + string + "\" is not a valid version");
+                partial.version = stripMeta(result.getVersion());
+            } else if (i != string.length() || (i == componentStart && !wildcard)) {
+                throw exception(range, "\"" + string + "\" is not a valid version");
+            }
+            return partial;
+        }
+
+        /**
+         * Gets the lowest version matched by this partial version, or null if unbounded.
+         */
+        private @Nullable Version lower() {
+            if (count == 3)
+                return version;
+            if (count == 0)
+                return null;
+            return lowest(major, minor, 0);
+        }
+
+        /**
+         * Gets the lowest version above all versions matched by this partial version, or null if unbounded.
+         */
+        private @Nullable Version upper() {
+            switch (count) {
+                case 1:
+                    return nextMajor(major);
+                case 2:
+                    return nextMinor(major, minor);
+                case 3:
+                    return nextPatch(major, minor, patch);
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An immutable index over many {@link VersionRange} objects, answering which of them contain a version.
+ * <p>
+ * Querying the index takes logarithmic time plus time proportional to the number of matches, where checking every range
+ * with {@link VersionRange#contains(Version)} takes linear time.
+ *
+ * @param <T> the type of the values the ranges belong to, like a plugin
+ * @implNote The intervals of all ranges are stored in a centered interval tree. Each node holds the intervals containing
+ * its center, sorted once by lower bound and once by upper bound, so a query only visits intervals it reports.
+ */
+public final class VersionRangeIndex<T> {
+    private static final Comparator<Point> POINT_ORDER = (a, b) -> comparePoint(a.version, a.offset, b.version, b.offset);
+
+    private final Object[] values; // The value of each range
+
+    // The intervals of all ranges, a range never contains a version in more than one of its intervals
+    private final int[] intervalValue; // The index of the value each interval belongs to
+    private final Version[] intervalLower; // The lower bound of each interval, or null if unbounded
+    private final boolean[] intervalLowerInclusive; // Whether each lower bound is inclusive
+    private final Version[] intervalUpper; // The upper bound of each interval, or null if unbounded
+    private final boolean[] intervalUpperInclusive; // Whether each upper bound is inclusive
+    private final int[] unbounded; // The intervals containing all versions
+
+    // The tree nodes, stored as arrays indexed by node
+    private final Version[] nodeCenter; // The version of the center point of each node
+    private final byte[] nodeCenterOffset; // Whether the center point is just below (-1), at (0) or just above (1) its version
+    private final int[] nodeLeft; // The node holding intervals entirely below the center, or -1
+    private final int[] nodeRight; // The node holding intervals entirely above the center, or -1
+    private final int[] nodeStart; // The start of the intervals of each node in byLower and byUpper
+    private final int[] nodeEnd; // The end of the intervals of each node in byLower and byUpper
+    private final int[] byLower; // The intervals of each node, by ascending lower bound
+    private final int[] byUpper; // The intervals of each node, by descending upper bound
+    private final int root; // The root node, or -1 if there are no bounded intervals
+
+    private VersionRangeIndex(List<? extends T> values, List<VersionRange> ranges) {
+        this.values = values.toArray();
+
+        int intervalCount = 0;
+        for (VersionRange range : ranges)
+            intervalCount += range.intervalCount();
+
+        this.intervalValue = new int[intervalCount];
+        this.intervalLower = new Version[intervalCount];
+        this.intervalLowerInclusive = new boolean[intervalCount];
+        this.intervalUpper = new Version[intervalCount];
+        this.intervalUpperInclusive = new boolean[intervalCount];
+
+        final int[] bounded = new int[intervalCount];
+        int boundedCount = 0;
+        int unboundedCount = 0;
+        int interval = 0;
+        for (int value = 0; value < ranges.size(); value++) {
+            final VersionRange range = ranges.get(value);
+            for (int i = 0; i < range.intervalCount(); i++, interval++) {
+                intervalValue[interval] = value;
+                intervalLower[interval] = range.lower(i);
+                intervalLowerInclusive[interval] = range.isLowerInclusive(i);
+                intervalUpper[interval] = range.upper(i);
+                intervalUpperInclusive[interval] = range.isUpperInclusive(i);
+
+                if (range.lower(i) == null && range.upper(i) == null) {
+                    unboundedCount++;
+                } else {
+                    bounded[boundedCount++] = interval;
+                }
+            }
+        }
+
+        this.unbounded = new int[unboundedCount];
+        for (int i = 0, j = 0; i < intervalCount; i++) {
+            if (intervalLower[i] == null && intervalUpper[i] == null)
+                unbounded[j++] = i;
+        }
+
+        // Every node holds at least one interval, so there are never more nodes than intervals
+        this.nodeCenter = new Version[boundedCount];
+        this.nodeCenterOffset = new byte[boundedCount];
+        this.nodeLeft = new int[boundedCount];
+        this.nodeRight = new int[boundedCount];
+        this.nodeStart = new int[boundedCount];
+        this.nodeEnd = new int[boundedCount];
+        this.byLower = new int[boundedCount];
+        this.byUpper = new int[boundedCount];
+        this.root = build(Arrays.copyOf(bounded, boundedCount), new Cursor());
+    }
+
+    /**
+     * Builds an index over a batch of values and their ranges.
+     *
+     * @param values the values
+     * @param range  the function getting the range of a value
+     * @param <T>    the type of the values
+     * @return the index
+     */
+    public static <T> @NotNull VersionRangeIndex<T> of(@NotNull Collection<? extends T> values, @NotNull Function<? super T, VersionRange> range) {
+        final List<T> valueList = new ArrayList<>(values);
+        final List<VersionRange> ranges = new ArrayList<>(valueList.size());
+        for (T value : valueList)
+            ranges.add(range.apply(value));
+        return new VersionRangeIndex<>(valueList, ranges);
+    }
+
+    /**
+     * Builds an index over a batch of values and their ranges.
+     *
+     * @param ranges the values mapped to their ranges
+     * @param <T>    the type of the values
+     * @return the index
+     */
+    public static <T> @NotNull VersionRangeIndex<T> of(@NotNull Map<? extends T, VersionRange> ranges) {
+        final List<T> valueList = new ArrayList<>(ranges.size());
+        final List<VersionRange> rangeList = new ArrayList<>(ranges.size());
+        for (Map.Entry<? extends T, VersionRange> entry : ranges.entrySet()) {
+            valueList.add(entry.getKey());
+            rangeList.add(entry.getValue());
+        }
+        return new VersionRangeIndex<>(valueList, rangeList);
+    }
+
+    /**
+     * Gets the values whose ranges contain a version.
+     *
+     * @param version the version
+     * @return the matching values, in no particular order
+     */
+    public @NotNull List<T> query(@NotNull Version version) {
+        final List<T> matches = new ArrayList<>();
+        forEach(version, matches::add);
+        return matches;
+    }
+
+    /**
+     * Performs an action for each value whose range contains a version.
+     *
+     * @param version the version
+     * @param action  the action, called once per matching value in no particular order
+     * @implNote Allocation-free besides what the action allocates
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull Version version, @NotNull Consumer<? super T> action) {
+        for (int interval : unbounded)
+            action.accept((T) values[intervalValue[interval]]);
+
+        int node = root;
+        while (node >= 0) {
+            int comparison = VersionCompare.comparePrecedence(version, nodeCenter[node]);
+            if (comparison == 0)
+                comparison = -nodeCenterOffset[node];
+
+            if (comparison < 0) {
+                // All intervals of the node reach above the version, report those starting at or below it
+                for (int i = nodeStart[node]; i < nodeEnd[node] && isAboveLower(byLower[i], version); i++)
+                    action.accept((T) values[intervalValue[byLower[i]]]);
+                node = nodeLeft[node];
+            } else if (comparison > 0) {
+                // All intervals of the node reach below the version, report those ending at or above it
+                for (int i = nodeStart[node]; i < nodeEnd[node] && isBelowUpper(byUpper[i], version); i++)
+                    action.accept((T) values[intervalValue[byUpper[i]]]);
+                node = nodeRight[node];
+            } else {
+                for (int i = nodeStart[node]; i < nodeEnd[node]; i++)
+                    action.accept((T) values[intervalValue[byLower[i]]]);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of values in the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets the versions of a sorted list that are within a range.
+     *
+     * @param sortedVersions the versions, sorted by ascending precedence
+     * @param range          the range
+     * @return the matching versions, in ascending precedence
+     * @implNote Binary searches both bounds of each interval of the range, taking logarithmic time plus time proportional to the number of matches
+     */
+    public static @NotNull List<Version> select(@NotNull List<? extends Version> sortedVersions, @NotNull VersionRange range) {
+        final List<Version> matches = new ArrayList<>();
+        for (int i = 0; i < range.intervalCount(); i++) {
+            final int from = lowerIndex(sortedVersions, range, i);
+            final int to = upperIndex(sortedVersions, range, i);
+            if (from < to)
+                matches.addAll(sortedVersions.subList(from, to));
+        }
+        return matches.isEmpty() ? Collections.emptyList() : matches;
+    }
+
+    /**
+     * Finds the index of the first version at or above the lower bound of an interval.
+     */
+    static int lowerIndex(List<? extends Version> sortedVersions, VersionRange range, int interval) {
+        int low = 0;
+        int high = sortedVersions.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (range.isAboveLower(interval, sortedVersions.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the index of the first version above the upper bound of an interval.
+     */
+    static int upperIndex(List<? extends Version> sortedVersions, VersionRange range, int interval) {
+        int low = 0;
+        int high = sortedVersions.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (range.isBelowUpper(interval, sortedVersions.get(mid))) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean isAboveLower(int interval, Version version) {
+        final Version lower = intervalLower[interval];
+        if (lower == null)
+            return true;
+
+        final int comparison = VersionCompare.comparePrecedence(lower, version);
+        return comparison < 0 || (comparison == 0 && intervalLowerInclusive[interval]);
+    }
+
+    private boolean isBelowUpper(int interval, Version version) {
+        final Version upper = intervalUpper[interval];
+        if (upper == null)
+            return true;
+
+        final int comparison = VersionCompare.comparePrecedence(version, upper);
+        return comparison < 0 || (comparison == 0 && intervalUpperInclusive[interval]);
+    }
+
+    /**
+     * Gets the offset of the point an interval starts at, an exclusive lower bound starts just above its version.
+     */
+    private int lowerOffset(int interval) {
+        return intervalLowerInclusive[interval] ? 0 : 1;
+    }
+
+    /**
+     * Gets the offset of the point an interval ends at, an exclusive upper bound ends just below its version.
+     */
+    private int upperOffset(int interval) {
+        return intervalUpperInclusive[interval] ? 0 : -1;
+    }
+
+    /**
+     * Recursively builds the tree over a set of bounded intervals.
+     *
+     * @param intervals the intervals
+     * @param cursor    the next free node and interval slot, advanced past the slots used
+     * @return the node, or -1 if there are no intervals
+     */
+    private int build(int[] intervals, Cursor cursor) {
+        if (intervals.length == 0)
+            return -1;
+
+        // Use the median endpoint as center, it always lies within the interval it belongs to
+        final List<Point> points = new ArrayList<>(intervals.length * 2);
+        for (int interval : intervals) {
+            if (intervalLower[interval] != null)
+                points.add(new Point(intervalLower[interval], lowerOffset(interval)));
+            if (intervalUpper[interval] != null)
+                points.add(new Point(intervalUpper[interval], upperOffset(interval)));
+        }
+        points.sort(POINT_ORDER);
+        final Point center = points.get(points.size() / 2);
+
+        final List<Integer> below = new ArrayList<>();
+        final List<Integer> above = new ArrayList<>();
+        final List<Integer> containing = new ArrayList<>();
+        for (int interval : intervals) {
+            if (intervalUpper[interval] != null && comparePoint(intervalUpper[interval], upperOffset(interval), center.version, center.offset) < 0) {
+                below.add(interval);
+            } else if (intervalLower[interval] != null && comparePoint(intervalLower[interval], lowerOffset(interval), center.version, center.offset) > 0) {
+                above.add(interval);
+            } else {
+                containing.add(interval);
+            }
+        }
+
+        final int node = cursor.node++;
+        nodeCenter[node] = center.version;
+        nodeCenterOffset[node] = (byte) center.offset;
+        nodeStart[node] = cursor.interval;
+
+        // Unbounded lower and upper bounds sort first, as they contain every version on their side
+        containing.sort((a, b) -> {
+            if (intervalLower[a] == null || intervalLower[b] == null)
+                return intervalLower[a] == null ? (intervalLower[b] == null ? 0 : -1) : 1;
+            return comparePoint(intervalLower[a], lowerOffset(a), intervalLower[b], lowerOffset(b));
+        });
+        for (int i = 0; i < containing.size(); i++)
+            byLower[cursor.interval + i] = containing.get(i);
+
+        containing.sort((a, b) -> {
+            if (intervalUpper[a] == null || intervalUpper[b] == null)
+                return intervalUpper[a] == null ? (intervalUpper[b] == null ? 0 : -1) : 1;
+            return comparePoint(intervalUpper[b], upperOffset(b), intervalUpper[a], upperOffset(a));
+        });
+        for (int i = 0; i < containing.size(); i++)
+            byUpper[cursor.interval + i] = containing.get(i);
+
+        cursor.interval += containing.size();
+        nodeEnd[node] = cursor.interval;
+
+        nodeLeft[node] = build(toArray(below), cursor);
+        nodeRight[node] = build(toArray(above), cursor);
+        return node;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        final int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = list.get(i);
+        return array;
+    }
+
+    /**
+     * Compares two points, each being just below, at or just above a version.
+     */
+    private static int comparePoint(Version version, int offset, Version otherVersion, int otherOffset) {
+        final int comparison = VersionCompare.comparePrecedence(version, otherVersion);
+        return comparison != 0 ? comparison : Integer.compare(offset, otherOffset);
+    }
+
+    /**
+     * An interval endpoint, only used while building.
+     */
+    private static final class Point {
+        private final Version version;
+        private final int offset;
+
+        private Point(Version version, int offset) {
+            this.version = version;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * The next free slots of the tree arrays, only used while building.
+     */
+    private static final class Cursor {
+        private int node; // The next free node
+        private int interval; // The next free slot in byLower and byUpper
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe registry of the published versions of many artifacts, keyed by an artifact id.
+ * <p>
+ * Lookups return immutable {@link VersionCatalog} snapshots and never block, answering the latest version of an artifact in
+ * constant time. Publishing atomically swaps in a new snapshot, readers keep using the snapshot they already got.
+ *
+ * @param <K> the type of the artifact ids
+ * @implNote Each artifact holds its current catalog in an {@link AtomicReference}, updated copy-on-write with a
+ * compare-and-set loop, so publishes to different artifacts never contend and publishes to the same artifact never lock.
+ * Copy-on-write makes each publish take linear time in the number of versions of the artifact.
+ */
+public final class VersionRegistry<K> {
+    private final ConcurrentHashMap<K, AtomicReference<VersionCatalog>> catalogs = new ConcurrentHashMap<>(); // The current catalog of each artifact
+
+    /**
+     * Gets a snapshot of the versions of an artifact.
+     *
+     * @param key the artifact id
+     * @return the catalog, empty if the artifact has no versions
+     */
+    public @NotNull VersionCatalog get(@NotNull K key) {
+        final AtomicReference<VersionCatalog> catalog = catalogs.get(key);
+        return catalog == null ? VersionCatalog.empty() : catalog.get();
+    }
+
+    /**
+     * Gets the latest version of an artifact, including pre-release versions.
+     *
+     * @param key the artifact id
+     * @return the version, or null if the artifact has no versions
+     */
+    public @Nullable Version latest(@NotNull K key) {
+        return get(key).latest();
+    }
+
+    /**
+     * Gets the latest stable version of an artifact.
+     *
+     * @param key the artifact id
+     * @return the version, or null if the artifact has no stable versions
+     */
+    public @Nullable Version latestStable(@NotNull K key) {
+        return get(key).latestStable();
+    }
+
+    /**
+     * Gets the latest version of an artifact within a range, like the newest version compatible with a client.
+     *
+     * @param key   the artifact id
+     * @param range the range
+     * @return the version, or null if no version of the artifact is within the range
+     */
+    public @Nullable Version latest(@NotNull K key, @NotNull VersionRange range) {
+        return get(key).latest(range);
+    }
+
+    /**
+     * Publishes a version of an artifact.
+     *
+     * @param key     the artifact id
+     * @param version the version
+     * @return the catalog after publishing
+     * @apiNote Publishing a version of equal precedence to a published version does nothing
+     */
+    public @NotNull VersionCatalog publish(@NotNull K key, @NotNull Version version) {
+        return update(key, catalog -> catalog.contains(version) ? catalog : catalog.with(version));
+    }
+
+    /**
+     * Publishes a batch of versions of an artifact at once.
+     *
+     * @param key      the artifact id
+     * @param versions the versions
+     * @return the catalog after publishing
+     * @apiNote Publishing a version of equal precedence to a published version, or to an earlier version of the batch, does nothing
+     * @implNote The batch is sorted once, then merged into the catalog in a single pass, so a batch takes linear time in the
+     * number of versions of the artifact rather than once per version in the batch
+     */
+    public @NotNull VersionCatalog publishAll(@NotNull K key, @NotNull Collection<? extends Version> versions) {
+        // Sort and deduplicate outside the update, which is retried if another publish wins the race
+        final Version[] batch = distinct(versions);
+        return update(key, catalog -> catalog.merge(batch, true));
+    }
+
+    /**
+     * Retracts a version of an artifact, like a yanked release.
+     *
+     * @param key     the artifact id
+     * @param version the version
+     * @return the catalog after retracting
+     */
+    public @NotNull VersionCatalog retract(@NotNull K key, @NotNull Version version) {
+        if (!catalogs.containsKey(key))
+            return VersionCatalog.empty();
+        return update(key, catalog -> catalog.without(version));
+    }
+
+    /**
+     * Atomically updates the catalog of an artifact.
+     *
+     * @param key      the artifact id
+     * @param function the function creating the new catalog from the current one, may be called more than once
+     * @return the catalog after updating
+     */
+    public @NotNull VersionCatalog update(@NotNull K key, @NotNull UnaryOperator<VersionCatalog> function) {
+        AtomicReference<VersionCatalog> reference = catalogs.get(key);
+        if (reference == null) {
+            final AtomicReference<VersionCatalog> created = new AtomicReference<>(VersionCatalog.empty());
+            reference = catalogs.putIfAbsent(key, created);
+            if (reference == null)
+                reference = created;
+        }
+
+        while (true) {
+            final VersionCatalog current = reference.get();
+            final VersionCatalog updated = function.apply(current);
+            if (updated == current || reference.compareAndSet(current, updated))
+                return updated;
+        }
+    }
+
+    /**
+     * Gets the ids of all artifacts that ever had a version published.
+     *
+     * @return an unmodifiable view of the artifact ids
+     */
+    public @NotNull Set<K> keys() {
+        return Collections.unmodifiableSet(catalogs.keySet());
+    }
+
+    /**
+     * Gets the number of artifacts that ever had a version published.
+     *
+     * @return the size
+     */
+    public int size() {
+        return catalogs.size();
+    }
+
+    /**
+     * Sorts a batch of versions, keeping only the first of each run of versions of equal precedence.
+     */
+    private static Version[] distinct(Collection<? extends Version> versions) {
+        final Version[] batch = versions.toArray(new Version[0]);
+        Arrays.sort(batch, VersionCompare::comparePrecedence);
+
+        int count = 0;
+        for (Version version : batch) {
+            if (count == 0 || VersionCompare.comparePrecedence(batch[count - 1], version) != 0)
+                batch[count++] = version;
+        }
+        return count == batch.length ? batch : Arrays.copyOf(batch, count);
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single-pass scanner validating and splitting a semantic version according to the Semantic Versioning 2.0 grammar.
+ *
+ * @implNote Accepts exactly the inputs matched by the grammar below, with numeric components limited to {@link Long#MAX_VALUE}:
+ * <pre>{@code
+ * [vV]? <major> "." <minor> "." <patch> ("-" <pre-release>)? ("+" <meta>)?
+ * <major>, <minor>, <patch> := "0" | [1-9][0-9]*
+ * <pre-release>             := <pre-release id> ("." <pre-release id>)*
+ * <pre-release id>          := "0" | [1-9][0-9]* | [0-9]*[a-zA-Z-][0-9a-zA-Z-]*
+ * <meta>                    := [0-9a-zA-Z-]+ ("." [0-9a-zA-Z-]+)*
+ * }</pre>
+ */
+@ApiStatus.Internal
+final class VersionScanner {
+    private static final long MAX_BEFORE_MULTIPLY = Long.MAX_VALUE / 10; // Largest value that can be multiplied by 10 without overflowing
+
+    // Scanned fields, only valid after a successful scan
+    long major; // The Major version
+    long minor; // The Minor version
+    long patch; // The Patch version
+    int preReleaseStart; // Index of the first pre-release char, or -1 if there is no pre-release
+    int preReleaseEnd; // Index after the last pre-release char
+    int metaStart; // Index of the first build-metadata char, or -1 if there is no build-metadata
+    int metaEnd; // Index after the last build-metadata char
+
+    // Failure fields, only valid after a failed scan
+    VersionParseError error; // The reason the scan failed
+    int errorIndex; // Index of the char the scan failed at
+
+    private int index; // The current position of the scanner
+
+    /**
+     * Scan a region of a char sequence as a semantic version.
+     *
+     * @param input the input to scan
+     * @param from  the index of the first char, inclusive
+     * @param to    the index of the last char, exclusive
+     * @return true if the entire region is a valid semantic version, otherwise {@link #error} and {@link #errorIndex} describe the failure
+     */
+    boolean scan(@NotNull CharSequence input, int from, int to) {
+        index = from;
+        preReleaseStart = -1;
+        preReleaseEnd = -1;
+        metaStart = -1;
+        metaEnd = -1;
+        error = null;
+        errorIndex = -1;
+
+        // Strip leading "V" before version
+        if (index < to && (input.charAt(index) == 'v' || input.charAt(index) == 'V'))
+            index++;
+
+        major = number(input, to);
+        if (major < 0 || !expect(input, to, '.'))
+            return false;
+
+        minor = number(input, to);
+        if (minor < 0 || !expect(input, to, '.'))
+            return false;
+
+        patch = number(input, to);
+        if (patch < 0)
+            return false;
+
+        if (index < to && input.charAt(index) == '-') {
+            index++;
+            preReleaseStart = index;
+            if (!preRelease(input, to))
+                return false;
+            preReleaseEnd = index;
+        }
+
+        if (index < to && input.charAt(index) == '+') {
+            index++;
+            metaStart = index;
+            if (!meta(input, to))
+                return false;
+            metaEnd = index;
+        }
+
+        if (index != to)
+            return fail(VersionParseError.UNEXPECTED_CHARACTER, index);
+
+        return true;
+    }
+
+    /**
+     * Scans a numeric component without leading zeros.
+     *
+     * @return the value, or -1 if no valid number could be scanned
+     */
+    private long number(CharSequence input, int to) {
+        if (index >= to) {
+            fail(VersionParseError.UNEXPECTED_END, index);
+            return -1;
+        }
+
+        if (!isDigit(input.charAt(index))) {
+            fail(VersionParseError.UNEXPECTED_CHARACTER, index);
+            return -1;
+        }
+
+        // Leading zeros are not allowed, a lone "0" is
+        final int start = index;
+        if (input.charAt(index) == '0') {
+            index++;
+            if (index < to && isDigit(input.charAt(index))) {
+                fail(VersionParseError.LEADING_ZERO, start);
+                return -1;
+            }
+            return 0;
+        }
+
+        long value = 0;
+        while (index < to && isDigit(input.charAt(index))) {
+            final int digit = input.charAt(index) - '0';
+            if (value > MAX_BEFORE_MULTIPLY || (value == MAX_BEFORE_MULTIPLY && digit > Long.MAX_VALUE % 10)) {
+                fail(VersionParseError.NUMBER_OVERFLOW, start);
+                return -1;
+            }
+            value = value * 10 + digit;
+            index++;
+        }
+        return value;
+    }
+
+    /**
+     * Scans dot separated pre-release identifiers, stopping before a "+" or the end of the region.
+     */
+    private boolean preRelease(CharSequence input, int to) {
+        while (true) {
+            final int start = index;
+            boolean numeric = true;
+            while (index < to) {
+                final char c = input.charAt(index);
+                if (isDigit(c)) {
+                    index++;
+                } else if (isIdentifierChar(c)) {
+                    numeric = false;
+                    index++;
+                } else {
+                    break;
+                }
+            }
+
+            // Identifiers can't be empty and numeric identifiers can't have leading zeros
+            if (index == start)
+                return emptyIdentifier(input, to);
+
+            if (numeric && index - start > 1 && input.charAt(start) == '0')
+                return fail(VersionParseError.LEADING_ZERO, start);
+
+            if (index < to && input.charAt(index) == '.') {
+                index++;
+                continue;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Scans dot separated build-metadata identifiers, stopping at the first char that is not part of one.
+     */
+    private boolean meta(CharSequence input, int to) {
+        while (true) {
+            final int start = index;
+            while (index < to && isIdentifierChar(input.charAt(index)))
+                index++;
+
+            // Identifiers can't be empty
+            if (index == start)
+                return emptyIdentifier(input, to);
+
+            if (index < to && input.charAt(index) == '.') {
+                index++;
+                continue;
+            }
+            return true;
+        }
+    }
+
+    private boolean expect(CharSequence input, int to, char c) {
+        if (index >= to)
+            return fail(VersionParseError.UNEXPECTED_END, index);
+
+        if (input.charAt(index) != c)
+            return fail(VersionParseError.UNEXPECTED_CHARACTER, index);
+
+        index++;
+        return true;
+    }
+
+    /**
+     * Fails on an empty identifier, blaming the offending char if there is one that can't start an identifier.
+     */
+    private boolean emptyIdentifier(CharSequence input, int to) {
+        if (index < to && input.charAt(index) != '.' && input.charAt(index) != '+')
+            return fail(VersionParseError.UNEXPECTED_CHARACTER, index);
+
+        return fail(VersionParseError.EMPTY_IDENTIFIER, index);
+    }
+
+    private boolean fail(VersionParseError error, int index) {
+        this.error = error;
+        this.errorIndex = index;
+        return false;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-';
+    }
+}
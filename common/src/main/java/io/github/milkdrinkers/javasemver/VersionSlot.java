@@ -0,0 +1,457 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A mutable, reusable holder of a single semantic version, filled in place by parsing, for hot loops that parse a version,
+ * compare it and throw it away.
+ * <p>
+ * A slot compares against {@link Version} objects and checks {@link VersionRange} containment the same as a parsed
+ * {@link Version} would, without creating one. Call {@link #toVersion()} to keep the current value.
+ *
+ * @apiNote Slots are not thread-safe, use one slot per thread.
+ * @implNote Once its buffers have grown to fit the longest pre-release and build-metadata seen, parsing into and comparing
+ * a slot allocates nothing.
+ */
+public final class VersionSlot {
+    private final VersionScanner scanner = new VersionScanner(); // Reused for every parse
+    private final AsciiCharSequence bytes = new AsciiCharSequence(); // Reused view over parsed bytes
+
+    private boolean present; // Whether the slot holds a version
+    private long major; // The Major version
+    private long minor; // The Minor version
+    private long patch; // The Patch version
+    private final StringBuilder chars = new StringBuilder(32); // The pre-release chars followed by the build-metadata chars
+    private int preReleaseLength; // The number of pre-release chars, 0 if there is no pre-release
+    private int metaLength; // The number of build-metadata chars, 0 if there is no build-metadata
+    private int identifierCount; // The number of pre-release identifiers
+    private int[] identifierStarts = new int[8]; // The index in chars of the first char of each pre-release identifier
+    private int[] identifierEnds = new int[8]; // The index in chars after the last char of each pre-release identifier
+    private long[] identifierKeys = new long[8]; // The comparison form of each pre-release identifier, see VersionCompare
+
+    private @Nullable VersionParseError error; // The reason the last parse failed, null if it succeeded
+    private int errorIndex = -1; // The offset the last parse failed at, -1 if it succeeded
+
+    /**
+     * Creates an empty slot.
+     */
+    public VersionSlot() {
+    }
+
+    /**
+     * Parse a {@link CharSequence} into this slot without throwing on invalid input.
+     *
+     * @param input the unparsed version
+     * @return true if a version was parsed, otherwise the slot is empty and {@link #getError()} describes the failure
+     * @implNote Preceding "V" or "v" characters are stripped from the input
+     */
+    public boolean tryParse(@NotNull CharSequence input) {
+        return scan(input, 0, input.length());
+    }
+
+    /**
+     * Parse a region of a {@link CharSequence} into this slot without throwing on invalid input.
+     *
+     * @param input  the input containing the unparsed version
+     * @param offset the index of the first char of the unparsed version
+     * @param length the number of chars in the unparsed version
+     * @return true if a version was parsed, otherwise the slot is empty and {@link #getError()} describes the failure
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the input
+     * @implNote Preceding "V" or "v" characters are stripped from the input
+     */
+    public boolean tryParse(@NotNull CharSequence input, int offset, int length) {
+        VersionParser.checkRegion(input.length(), offset, length);
+        return scan(input, offset, offset + length);
+    }
+
+    /**
+     * Parse a region of ASCII or UTF-8 encoded bytes into this slot without throwing on invalid input.
+     *
+     * @param bytes  the bytes containing the unparsed version
+     * @param offset the index of the first byte of the unparsed version
+     * @param length the number of bytes in the unparsed version
+     * @return true if a version was parsed, otherwise the slot is empty and {@link #getError()} describes the failure
+     * @throws IndexOutOfBoundsException thrown if the region is out of bounds of the array
+     * @implNote Preceding "V" or "v" characters are stripped from the input
+     */
+    public boolean tryParse(@NotNull byte[] bytes, int offset, int length) {
+        VersionParser.checkRegion(bytes.length, offset, length);
+        return scan(this.bytes.wrap(bytes), offset, offset + length);
+    }
+
+    /**
+     * Parse the remaining ASCII or UTF-8 encoded bytes of a {@link ByteBuffer} into this slot without throwing on invalid input.
+     *
+     * @param buffer the buffer, whose bytes between its position and limit contain the unparsed version
+     * @return true if a version was parsed, otherwise the slot is empty and {@link #getError()} describes the failure
+     * @implNote The position of the buffer is not changed. Preceding "V" or "v" characters are stripped from the input
+     */
+    public boolean tryParse(@NotNull ByteBuffer buffer) {
+        return scan(bytes.wrap(buffer), buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Copies a version into this slot.
+     *
+     * @param version the version
+     * @return this slot
+     */
+    public @NotNull VersionSlot set(@NotNull Version version) {
+        final String preRelease = version.getPreRelease();
+        final String meta = version.getBuildMetadata();
+        chars.setLength(0);
+        chars.append(preRelease).append(meta);
+
+        // Builder-made pre-releases may have empty identifiers, which are skipped like Version does
+        final long[] keys = version.getPreReleaseKeys();
+        ensureIdentifiers(keys.length);
+        System.arraycopy(keys, 0, identifierKeys, 0, keys.length);
+        int count = 0;
+        int start = 0;
+        for (int i = 0; i <= preRelease.length(); i++) {
+            if (i == preRelease.length() || preRelease.charAt(i) == '.') {
+                if (i > start) {
+                    identifierStarts[count] = start;
+                    identifierEnds[count] = i;
+                    count++;
+                }
+                start = i + 1;
+            }
+        }
+
+        this.major = version.getMajor();
+        this.minor = version.getMinor();
+        this.patch = version.getPatch();
+        this.preReleaseLength = preRelease.length();
+        this.metaLength = meta.length();
+        this.identifierCount = count;
+        this.present = true;
+        this.error = null;
+        this.errorIndex = -1;
+        return this;
+    }
+
+    /**
+     * Empties this slot.
+     *
+     * @return this slot
+     */
+    public @NotNull VersionSlot clear() {
+        present = false;
+        error = null;
+        errorIndex = -1;
+        return this;
+    }
+
+    /**
+     * Returns whether this slot holds a version.
+     *
+     * @return boolean
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Gets the reason the last parse failed.
+     *
+     * @return the error, or null if the last parse succeeded or nothing was parsed
+     */
+    public @Nullable VersionParseError getError() {
+        return error;
+    }
+
+    /**
+     * Gets the offset relative to the start of the parsed region at which the last parse failed.
+     *
+     * @return the offset, or -1 if the last parse succeeded or nothing was parsed
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * Gets the major version.
+     *
+     * @return the major version
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public long getMajor() {
+        checkPresent();
+        return major;
+    }
+
+    /**
+     * Gets the minor version.
+     *
+     * @return the minor version
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public long getMinor() {
+        checkPresent();
+        return minor;
+    }
+
+    /**
+     * Gets the patch version.
+     *
+     * @return the patch version
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public long getPatch() {
+        checkPresent();
+        return patch;
+    }
+
+    /**
+     * Returns whether the version has a pre-release.
+     *
+     * @return boolean
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public boolean hasPreRelease() {
+        checkPresent();
+        return preReleaseLength != 0;
+    }
+
+    /**
+     * Returns whether the version has build-metadata.
+     *
+     * @return boolean
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public boolean hasBuildMetadata() {
+        checkPresent();
+        return metaLength != 0;
+    }
+
+    /**
+     * Compares the precedence of the version in this slot with a version, like {@link Version#compareTo(Version)}.
+     *
+     * @param other the other version
+     * @return a negative integer, zero, or a positive integer as this version is older than, equal to, or newer than the other version
+     * @throws IllegalStateException thrown if the slot is empty
+     * @apiNote Build-metadata is ignored
+     */
+    public int compareTo(@NotNull Version other) {
+        checkPresent();
+        return comparePrecedence(other);
+    }
+
+    /**
+     * Check if the version in this slot is newer than a version.
+     *
+     * @param other the other version
+     * @return true if this version has higher precedence
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public boolean isNewerThan(@NotNull Version other) {
+        return compareTo(other) > 0;
+    }
+
+    /**
+     * Check if the version in this slot is older than a version.
+     *
+     * @param other the other version
+     * @return true if this version has lower precedence
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public boolean isOlderThan(@NotNull Version other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Check if the version in this slot is within a range, like {@link VersionRange#contains(Version)}.
+     *
+     * @param range the range
+     * @return true if this version is within the range
+     * @throws IllegalStateException thrown if the slot is empty
+     * @implNote Runs in logarithmic time in the number of intervals of the range
+     */
+    public boolean isWithin(@NotNull VersionRange range) {
+        checkPresent();
+
+        // Find the last interval whose lower bound admits this version
+        int low = 0;
+        int high = range.intervalCount() - 1;
+        int found = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final Version lower = range.lower(mid);
+            final int comparison = lower == null ? 1 : comparePrecedence(lower);
+            if (comparison > 0 || (comparison == 0 && range.isLowerInclusive(mid))) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (found < 0)
+            return false;
+
+        final Version upper = range.upper(found);
+        if (upper == null)
+            return true;
+
+        final int comparison = comparePrecedence(upper);
+        return comparison < 0 || (comparison == 0 && range.isUpperInclusive(found));
+    }
+
+    /**
+     * Creates an immutable version holding the value of this slot.
+     *
+     * @return the version
+     * @throws IllegalStateException thrown if the slot is empty
+     */
+    public @NotNull Version toVersion() {
+        checkPresent();
+
+        final String preRelease = chars.substring(0, preReleaseLength);
+        final String[] identifiers = new String[identifierCount];
+        if (identifierCount == 1 && identifierStarts[0] == 0 && identifierEnds[0] == preReleaseLength) {
+            identifiers[0] = preRelease; // Single identifier, reuse the pre-release string
+        } else {
+            for (int i = 0; i < identifierCount; i++)
+                identifiers[i] = preRelease.substring(identifierStarts[i], identifierEnds[i]);
+        }
+
+        return new Version(
+            major,
+            minor,
+            patch,
+            preRelease,
+            identifiers,
+            Arrays.copyOf(identifierKeys, identifierCount),
+            chars.substring(preReleaseLength, preReleaseLength + metaLength)
+        );
+    }
+
+    @Override
+    public String toString() {
+        if (!present)
+            return "VersionSlot[empty]";
+
+        final StringBuilder builder = new StringBuilder(24 + preReleaseLength + metaLength);
+        builder.append(major).append('.').append(minor).append('.').append(patch);
+        if (preReleaseLength != 0)
+            builder.append('-').append(chars, 0, preReleaseLength);
+        if (metaLength != 0)
+            builder.append('+').append(chars, preReleaseLength, preReleaseLength + metaLength);
+        return builder.toString();
+    }
+
+    /**
+     * Scans a region of the input, copying the pre-release and build-metadata into the buffers of this slot.
+     */
+    private boolean scan(CharSequence input, int from, int to) {
+        final VersionScanner scanner = this.scanner;
+        if (!scanner.scan(input, from, to)) {
+            present = false;
+            error = scanner.error;
+            errorIndex = scanner.errorIndex - from;
+            return false;
+        }
+
+        preReleaseLength = scanner.preReleaseStart < 0 ? 0 : scanner.preReleaseEnd - scanner.preReleaseStart;
+        metaLength = scanner.metaStart < 0 ? 0 : scanner.metaEnd - scanner.metaStart;
+        chars.setLength(0);
+        if (preReleaseLength != 0)
+            chars.append(input, scanner.preReleaseStart, scanner.preReleaseEnd);
+        if (metaLength != 0)
+            chars.append(input, scanner.metaStart, scanner.metaEnd);
+        splitIdentifiers();
+
+        major = scanner.major;
+        minor = scanner.minor;
+        patch = scanner.patch;
+        present = true;
+        error = null;
+        errorIndex = -1;
+        return true;
+    }
+
+    /**
+     * Splits the scanned pre-release into identifiers and computes their comparison form, the scanner already validated them.
+     */
+    private void splitIdentifiers() {
+        identifierCount = 0;
+        if (preReleaseLength == 0)
+            return;
+
+        long value = 0;
+        boolean numeric = true;
+        boolean oversized = false;
+        int start = 0;
+        for (int i = 0; i <= preReleaseLength; i++) {
+            final char c = i == preReleaseLength ? '.' : chars.charAt(i);
+            if (c == '.') {
+                ensureIdentifiers(identifierCount + 1);
+                identifierStarts[identifierCount] = start;
+                identifierEnds[identifierCount] = i;
+                identifierKeys[identifierCount] = !numeric ? VersionCompare.ALPHANUMERIC : oversized ? VersionCompare.OVERSIZED_NUMERIC : value;
+                identifierCount++;
+                start = i + 1;
+                value = 0;
+                numeric = true;
+                oversized = false;
+            } else if (c < '0' || c > '9') {
+                numeric = false;
+            } else if (numeric && !oversized) {
+                final int digit = c - '0';
+                if (value > (Long.MAX_VALUE - digit) / 10)
+                    oversized = true;
+                else
+                    value = value * 10 + digit;
+            }
+        }
+    }
+
+    /**
+     * Compares the precedence of this slot with a version, following {@link VersionCompare#comparePrecedence(Version, Version)}.
+     */
+    private int comparePrecedence(Version other) {
+        if (major != other.getMajor())
+            return Long.compare(major, other.getMajor());
+
+        if (minor != other.getMinor())
+            return Long.compare(minor, other.getMinor());
+
+        if (patch != other.getPatch())
+            return Long.compare(patch, other.getPatch());
+
+        final String[] otherIdentifiers = other.getPreReleaseIdentifiers();
+        if (identifierCount == 0)
+            return otherIdentifiers.length == 0 ? 0 : 1; // No pre-release has higher precedence
+
+        if (otherIdentifiers.length == 0)
+            return -1;
+
+        final long[] otherKeys = other.getPreReleaseKeys();
+        final int minLength = Math.min(identifierCount, otherIdentifiers.length);
+        for (int i = 0; i < minLength; i++) {
+            final int comparison = VersionCompare.compareIdentifier(chars, identifierStarts[i], identifierEnds[i], identifierKeys[i], otherIdentifiers[i], otherKeys[i]);
+            if (comparison != 0)
+                return comparison;
+        }
+
+        return Integer.compare(identifierCount, otherIdentifiers.length);
+    }
+
+    private void ensureIdentifiers(int count) {
+        if (identifierEnds.length < count) {
+            final int capacity = Math.max(count, identifierEnds.length * 2);
+            identifierStarts = Arrays.copyOf(identifierStarts, capacity);
+            identifierEnds = Arrays.copyOf(identifierEnds, capacity);
+            identifierKeys = Arrays.copyOf(identifierKeys, capacity);
+        }
+    }
+
+    private void checkPresent() {
+        if (!present)
+            throw new IllegalStateException("Slot holds no version.");
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Contains logic for sorting large arrays of {@link Version} objects by ascending precedence, faster than a comparison sort.
+ * <p>
+ * The major, minor and patch version of each version are packed into a single key like {@link PrimitiveVersion}, with a
+ * bit below them set for releases. The keys are sorted by a stable least significant digit radix sort, a byte per pass,
+ * skipping bytes that are equal in every key. Only pre-releases with an equal major, minor and patch version are then
+ * ordered by comparing their identifiers.
+ *
+ * @apiNote The result is identical to {@link Arrays#sort(Object[])}, including that versions of equal precedence keep their order.
+ * @implNote Arrays with a major, minor or patch version larger than {@link PrimitiveVersion#MAX_COMPONENT} are sorted by
+ * comparison instead.
+ */
+public abstract class VersionSorter {
+    private static final int COMPARISON_THRESHOLD = 64; // Arrays smaller than this are sorted by comparison
+    private static final int PARALLEL_THRESHOLD = 1 << 16; // The smallest array sorted in parallel
+    private static final int CHUNKS_PER_THREAD = 4; // Spare chunks per thread, balancing chunks that run slower
+    private static final int RADIX = 256; // The number of buckets of each pass, one per byte value
+
+    /**
+     * Sorts an array of versions by ascending precedence.
+     *
+     * @param versions the versions
+     */
+    public static void sort(@NotNull Version[] versions) {
+        sort(versions, 1);
+    }
+
+    /**
+     * Sorts an array of versions by ascending precedence, splitting each pass into chunks run on the common fork-join pool.
+     *
+     * @param versions the versions
+     */
+    public static void parallelSort(@NotNull Version[] versions) {
+        parallelSort(versions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts an array of versions by ascending precedence, splitting each pass into chunks run on a fork-join pool.
+     *
+     * @param versions the versions
+     * @param pool     the pool
+     */
+    public static void parallelSort(@NotNull Version[] versions, @NotNull ForkJoinPool pool) {
+        if (versions.length < PARALLEL_THRESHOLD || pool.getParallelism() <= 1) {
+            sort(versions, 1);
+            return;
+        }
+
+        // Parallel streams run on the pool they are started from
+        final int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        pool.submit(() -> sort(versions, chunks)).join();
+    }
+
+    private static void sort(Version[] versions, int chunks) {
+        final int size = versions.length;
+        if (size < COMPARISON_THRESHOLD) {
+            Arrays.sort(versions, VersionCompare::comparePrecedence);
+            return;
+        }
+
+        // Pack the keys, tracking which bits differ between keys
+        final long[] packedKeys = new long[size];
+        final int[] packedIndexes = new int[size];
+        final long[] ors = new long[chunks];
+        final long[] ands = new long[chunks];
+        final boolean[] oversized = new boolean[chunks];
+        forEachChunk(size, chunks, (chunk, from, to) -> {
+            long or = 0;
+            long and = -1;
+            for (int i = from; i < to; i++) {
+                final Version version = versions[i];
+                if (version.getMajor() > PrimitiveVersion.MAX_COMPONENT || version.getMinor() > PrimitiveVersion.MAX_COMPONENT || version.getPatch() > PrimitiveVersion.MAX_COMPONENT) {
+                    oversized[chunk] = true;
+                    return;
+                }
+
+                final long key = (version.getMajor() << 42 | version.getMinor() << 21 | version.getPatch()) << 1 | (version.hasPreRelease() ? 0 : 1);
+                packedKeys[i] = key;
+                packedIndexes[i] = i;
+                or |= key;
+                and &= key;
+            }
+            ors[chunk] = or;
+            ands[chunk] = and;
+        });
+
+        long or = 0;
+        long and = -1;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            if (oversized[chunk]) {
+                if (chunks > 1) {
+                    Arrays.parallelSort(versions, VersionCompare::comparePrecedence);
+                } else {
+                    Arrays.sort(versions, VersionCompare::comparePrecedence);
+                }
+                return;
+            }
+            or |= ors[chunk];
+            and &= ands[chunk];
+        }
+        final long differing = or ^ and;
+
+        // Sort the keys a byte at a time, skipping bytes that are equal in every key
+        long[] keys = packedKeys;
+        int[] indexes = packedIndexes;
+        long[] keyBuffer = new long[size];
+        int[] indexBuffer = new int[size];
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            if ((differing >>> shift & 0xFF) == 0)
+                continue;
+
+            pass(keys, indexes, keyBuffer, indexBuffer, shift, chunks);
+            final long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            final int[] swapIndexes = indexes;
+            indexes = indexBuffer;
+            indexBuffer = swapIndexes;
+        }
+
+        final Version[] source = versions.clone();
+        final int[] sortedIndexes = indexes;
+        forEachChunk(size, chunks, (chunk, from, to) -> {
+            for (int i = from; i < to; i++)
+                versions[i] = source[sortedIndexes[i]];
+        });
+
+        // Order the pre-releases of each major.minor.patch, each chunk ordering the runs starting within it
+        final long[] sortedKeys = keys;
+        forEachChunk(size, chunks, (chunk, from, to) -> {
+            int start = from;
+            while (start > 0 && start < to && sortedKeys[start - 1] == sortedKeys[start])
+                start++; // Skip the run started by the previous chunk
+
+            while (start < to) {
+                int end = start + 1;
+                while (end < size && sortedKeys[end] == sortedKeys[start])
+                    end++;
+
+                if (end - start > 1 && (sortedKeys[start] & 1) == 0)
+                    Arrays.sort(versions, start, end, VersionCompare::comparePreReleaseIdentifiers);
+                start = end;
+            }
+        });
+    }
+
+    /**
+     * Moves the keys and their indexes into buckets by a byte of the keys, keeping the order of keys within a bucket.
+     */
+    private static void pass(long[] keys, int[] indexes, long[] keysOut, int[] indexesOut, int shift, int chunks) {
+        final int[][] counts = new int[chunks][RADIX];
+        forEachChunk(keys.length, chunks, (chunk, from, to) -> {
+            final int[] count = counts[chunk];
+            for (int i = from; i < to; i++)
+                count[(int) (keys[i] >>> shift) & 0xFF]++;
+        });
+
+        // Each chunk writes its keys of a bucket after the keys of that bucket from earlier chunks
+        int offset = 0;
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                final int count = counts[chunk][bucket];
+                counts[chunk][bucket] = offset;
+                offset += count;
+            }
+        }
+
+        forEachChunk(keys.length, chunks, (chunk, from, to) -> {
+            final int[] offsets = counts[chunk];
+            for (int i = from; i < to; i++) {
+                final int index = offsets[(int) (keys[i] >>> shift) & 0xFF]++;
+                keysOut[index] = keys[i];
+                indexesOut[index] = indexes[i];
+            }
+        });
+    }
+
+    /**
+     * Runs a task for each chunk of a range, in parallel if there is more than one chunk.
+     */
+    private static void forEachChunk(int size, int chunks, ChunkTask task) {
+        final int chunkSize = (size + chunks - 1) / chunks;
+        if (chunks == 1) {
+            task.run(0, 0, size);
+            return;
+        }
+
+        IntStream.range(0, chunks)
+            .parallel()
+            .forEach(chunk -> task.run(chunk, Math.min(size, chunk * chunkSize), Math.min(size, (chunk + 1) * chunkSize)));
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int chunk, int from, int to);
+    }
+}
@@ -0,0 +1,615 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable columnar table of versions, answering analytic queries like how many versions are older than a version
+ * or how many versions there are of each major.minor, over millions of versions.
+ * <p>
+ * Every row is stored across primitive columns instead of as a {@link Version} object: the major, minor and patch version
+ * as {@code long[]} columns, the pre-release and build-metadata as indexes into dictionaries of distinct strings, and the
+ * rank of the version among the distinct precedences in the table as an {@code int[]} column.
+ *
+ * @implNote As the ranks are ordered like {@link VersionCompare#compare(Version, Version)}, every query is turned into
+ * spans of ranks by binary searching the distinct precedences once, then answered by a branch-free scan of the rank column.
+ * Scans over more than 65536 rows are split into chunks scanned in parallel on the common fork-join pool.
+ */
+public final class VersionTable {
+    private static final int PARALLEL_THRESHOLD = 1 << 16; // The smallest number of rows scanned in parallel
+    private static final int CHUNKS_PER_THREAD = 4; // Spare chunks per thread, balancing chunks that run slower
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int size; // The number of rows
+    private final long[] majors; // The major version of each row
+    private final long[] minors; // The minor version of each row
+    private final long[] patches; // The patch version of each row
+    private final int[] preReleases; // The index of the pre-release of each row in preReleaseDictionary, or -1
+    private final int[] metas; // The index of the build-metadata of each row in metaDictionary, or -1
+    private final int[] ranks; // The index of the precedence of each row in rankedVersions
+    private final String[] preReleaseDictionary; // The distinct pre-releases
+    private final String[] metaDictionary; // The distinct build-metadata
+    private final Version[] rankedVersions; // A version of each distinct precedence, in ascending precedence and without build-metadata
+
+    private VersionTable(Builder builder, int[] ranks, Version[] rankedVersions) {
+        this.size = builder.size;
+        this.majors = Arrays.copyOf(builder.majors, size);
+        this.minors = Arrays.copyOf(builder.minors, size);
+        this.patches = Arrays.copyOf(builder.patches, size);
+        this.preReleases = Arrays.copyOf(builder.preReleases, size);
+        this.metas = Arrays.copyOf(builder.metas, size);
+        this.ranks = ranks;
+        this.preReleaseDictionary = builder.preReleaseDictionary.toArray(new String[0]);
+        this.metaDictionary = builder.metaDictionary.toArray(new String[0]);
+        this.rankedVersions = rankedVersions;
+    }
+
+    /**
+     * Creates a table of versions.
+     *
+     * @param versions the versions, in row order
+     * @return the table
+     */
+    public static @NotNull VersionTable of(@NotNull Collection<? extends Version> versions) {
+        return builder().addAll(versions).build();
+    }
+
+    /**
+     * Creates a builder of a table, appending rows without holding on to the {@link Version} objects.
+     *
+     * @return the builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the version of a row.
+     *
+     * @param row the row
+     * @return a new version equal to the version of the row
+     * @throws IndexOutOfBoundsException thrown if the row is out of bounds
+     */
+    public @NotNull Version get(int row) {
+        checkRow(row);
+        final Version ranked = rankedVersions[ranks[row]];
+        return new Version(majors[row], minors[row], patches[row], ranked.getPreRelease(), ranked.getPreReleaseIdentifiers(), ranked.getPreReleaseKeys(), getBuildMetadata(row));
+    }
+
+    /**
+     * Gets the major version of a row.
+     *
+     * @param row the row
+     * @return the major version
+     */
+    public long getMajor(int row) {
+        checkRow(row);
+        return majors[row];
+    }
+
+    /**
+     * Gets the minor version of a row.
+     *
+     * @param row the row
+     * @return the minor version
+     */
+    public long getMinor(int row) {
+        checkRow(row);
+        return minors[row];
+    }
+
+    /**
+     * Gets the patch version of a row.
+     *
+     * @param row the row
+     * @return the patch version
+     */
+    public long getPatch(int row) {
+        checkRow(row);
+        return patches[row];
+    }
+
+    /**
+     * Gets the pre-release of a row.
+     *
+     * @param row the row
+     * @return the pre-release, or an empty string if there is none
+     */
+    public @NotNull String getPreRelease(int row) {
+        checkRow(row);
+        return preReleases[row] < 0 ? "" : preReleaseDictionary[preReleases[row]];
+    }
+
+    /**
+     * Gets the build-metadata of a row.
+     *
+     * @param row the row
+     * @return the build-metadata, or an empty string if there is none
+     */
+    public @NotNull String getBuildMetadata(int row) {
+        checkRow(row);
+        return metas[row] < 0 ? "" : metaDictionary[metas[row]];
+    }
+
+    /**
+     * Gets the rank of the precedence of a row among the distinct precedences in the table.
+     *
+     * @param row the row
+     * @return the rank, from 0 for the oldest version to {@link #getRankCount()} - 1 for the newest version
+     * @apiNote Two rows compare like their ranks, which makes ranks suited for sorting and joining rows
+     */
+    public int getRank(int row) {
+        checkRow(row);
+        return ranks[row];
+    }
+
+    /**
+     * Gets the number of distinct precedences in the table.
+     *
+     * @return the number of ranks
+     */
+    public int getRankCount() {
+        return rankedVersions.length;
+    }
+
+    /**
+     * Gets the version of a rank.
+     *
+     * @param rank the rank
+     * @return the version, without build-metadata
+     * @throws IndexOutOfBoundsException thrown if the rank is out of bounds
+     */
+    public @NotNull Version getRankedVersion(int rank) {
+        if (rank < 0 || rank >= rankedVersions.length)
+            throw new IndexOutOfBoundsException(String.format("Rank %d is out of bounds for rank count %d.", rank, rankedVersions.length));
+        return rankedVersions[rank];
+    }
+
+    /**
+     * Counts the rows newer than a version.
+     *
+     * @param version the version
+     * @return the number of rows
+     */
+    public long countNewerThan(@NotNull Version version) {
+        return count(new int[]{upperRank(version), rankedVersions.length});
+    }
+
+    /**
+     * Counts the rows older than a version.
+     *
+     * @param version the version
+     * @return the number of rows
+     */
+    public long countOlderThan(@NotNull Version version) {
+        return count(new int[]{0, lowerRank(version)});
+    }
+
+    /**
+     * Counts the rows within a range.
+     *
+     * @param range the range
+     * @return the number of rows
+     */
+    public long count(@NotNull VersionRange range) {
+        return count(spans(range));
+    }
+
+    /**
+     * Finds the rows newer than a version.
+     *
+     * @param version the version
+     * @return the rows, in ascending order
+     */
+    public @NotNull int[] rowsNewerThan(@NotNull Version version) {
+        return rows(new int[]{upperRank(version), rankedVersions.length});
+    }
+
+    /**
+     * Finds the rows older than a version.
+     *
+     * @param version the version
+     * @return the rows, in ascending order
+     */
+    public @NotNull int[] rowsOlderThan(@NotNull Version version) {
+        return rows(new int[]{0, lowerRank(version)});
+    }
+
+    /**
+     * Finds the rows within a range.
+     *
+     * @param range the range
+     * @return the rows, in ascending order
+     */
+    public @NotNull int[] rows(@NotNull VersionRange range) {
+        return rows(spans(range));
+    }
+
+    /**
+     * Counts the rows of each major version.
+     *
+     * @return the number of rows of each major version, in ascending order
+     */
+    public @NotNull Map<Long, Long> countByMajor() {
+        final long[] counts = countByRank();
+        final Map<Long, Long> groups = new LinkedHashMap<>();
+        for (int rank = 0; rank < counts.length; rank++) {
+            if (counts[rank] > 0)
+                groups.merge(rankedVersions[rank].getMajor(), counts[rank], Long::sum);
+        }
+        return groups;
+    }
+
+    /**
+     * Counts the rows of each major.minor version.
+     *
+     * @return the number of rows of each major.minor version, keyed by the major.minor.0 version in ascending order
+     */
+    public @NotNull Map<Version, Long> countByMinor() {
+        final long[] counts = countByRank();
+        final Map<Version, Long> groups = new LinkedHashMap<>();
+        Version group = null;
+        for (int rank = 0; rank < counts.length; rank++) {
+            if (counts[rank] == 0)
+                continue;
+
+            // Ranks are ordered by major and minor first, so each group is a contiguous run of ranks
+            final Version version = rankedVersions[rank];
+            if (group == null || group.getMajor() != version.getMajor() || group.getMinor() != version.getMinor())
+                group = Version.of(version.getMajor(), version.getMinor(), 0);
+            groups.merge(group, counts[rank], Long::sum);
+        }
+        return groups;
+    }
+
+    /**
+     * Counts the rows of each distinct precedence.
+     *
+     * @return the number of rows of each rank, indexed by rank
+     * @apiNote Use {@link #getRankedVersion(int)} to get the version of a rank
+     */
+    public @NotNull long[] countByRank() {
+        final int rankCount = rankedVersions.length;
+        final int chunkSize = chunkSize();
+        if (chunkSize >= size)
+            return countByRank(0, size, new long[rankCount]);
+
+        return IntStream.range(0, chunkCount(chunkSize))
+            .parallel()
+            .mapToObj(chunk -> countByRank(chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize), new long[rankCount]))
+            .reduce((a, b) -> {
+                for (int i = 0; i < a.length; i++)
+                    a[i] += b[i];
+                return a;
+            })
+            .orElseGet(() -> new long[rankCount]);
+    }
+
+    private long[] countByRank(int from, int to, long[] counts) {
+        for (int i = from; i < to; i++)
+            counts[ranks[i]]++;
+        return counts;
+    }
+
+    /**
+     * Counts the rows whose rank is within any of the spans.
+     */
+    private long count(int[] spans) {
+        final int chunkSize = chunkSize();
+        if (chunkSize >= size)
+            return count(spans, 0, size);
+
+        return IntStream.range(0, chunkCount(chunkSize))
+            .parallel()
+            .mapToLong(chunk -> count(spans, chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize)))
+            .sum();
+    }
+
+    private long count(int[] spans, int from, int to) {
+        long count = 0;
+        for (int s = 0; s < spans.length; s += 2) {
+            final int low = spans[s];
+            final int high = spans[s + 1];
+            if (low >= high)
+                continue;
+
+            // A branch-free loop over the rank column, which the JIT compiler can vectorize
+            for (int i = from; i < to; i++) {
+                final int rank = ranks[i];
+                count += rank >= low & rank < high ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the rows whose rank is within any of the spans.
+     */
+    private int[] rows(int[] spans) {
+        final int chunkSize = chunkSize();
+        if (chunkSize >= size)
+            return rows(spans, 0, size);
+
+        final int[][] chunks = IntStream.range(0, chunkCount(chunkSize))
+            .parallel()
+            .mapToObj(chunk -> rows(spans, chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize)))
+            .toArray(int[][]::new);
+
+        int length = 0;
+        for (int[] chunk : chunks)
+            length += chunk.length;
+
+        final int[] rows = new int[length];
+        int offset = 0;
+        for (int[] chunk : chunks) {
+            System.arraycopy(chunk, 0, rows, offset, chunk.length);
+            offset += chunk.length;
+        }
+        return rows;
+    }
+
+    private int[] rows(int[] spans, int from, int to) {
+        final int count = (int) count(spans, from, to);
+        if (count == 0)
+            return NO_ROWS;
+
+        final int[] rows = new int[count];
+        int n = 0;
+        for (int i = from; i < to && n < count; i++) {
+            final int rank = ranks[i];
+            for (int s = 0; s < spans.length; s += 2) {
+                if (rank >= spans[s] && rank < spans[s + 1]) {
+                    rows[n++] = i;
+                    break;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Gets the spans of ranks within each interval of a range.
+     */
+    private int[] spans(VersionRange range) {
+        final List<Version> ranked = Arrays.asList(rankedVersions);
+        final int[] spans = new int[range.intervalCount() * 2];
+        for (int i = 0; i < range.intervalCount(); i++) {
+            spans[i * 2] = VersionRangeIndex.lowerIndex(ranked, range, i);
+            spans[i * 2 + 1] = VersionRangeIndex.upperIndex(ranked, range, i);
+        }
+        return spans;
+    }
+
+    /**
+     * Finds the first rank with precedence equal to or newer than a version.
+     */
+    private int lowerRank(Version version) {
+        int low = 0;
+        int high = rankedVersions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (VersionCompare.comparePrecedence(rankedVersions[mid], version) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first rank with precedence newer than a version.
+     */
+    private int upperRank(Version version) {
+        int low = 0;
+        int high = rankedVersions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (VersionCompare.comparePrecedence(rankedVersions[mid], version) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int chunkSize() {
+        if (size < PARALLEL_THRESHOLD)
+            return size;
+
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(PARALLEL_THRESHOLD / 2, size / (parallelism * CHUNKS_PER_THREAD) + 1);
+    }
+
+    private int chunkCount(int chunkSize) {
+        return (size + chunkSize - 1) / chunkSize;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException(String.format("Row %d is out of bounds for size %d.", row, size));
+    }
+
+    @Override
+    public String toString() {
+        return "VersionTable{size=" + size + ", ranks=" + rankedVersions.length + "}";
+    }
+
+    /**
+     * Builds a {@link VersionTable} by appending rows.
+     *
+     * @apiNote A builder is not thread-safe, and can't be used after building.
+     */
+    public static final class Builder {
+        private long[] majors = new long[16];
+        private long[] minors = new long[16];
+        private long[] patches = new long[16];
+        private int[] preReleases = new int[16];
+        private int[] metas = new int[16];
+        private int[] precedences = new int[16]; // The index of the precedence of each row in distinctVersions
+        private int size;
+
+        private final Map<String, Integer> preReleaseIndexes = new HashMap<>(); // The index of each distinct pre-release
+        private final List<String> preReleaseDictionary = new ArrayList<>();
+        private final Map<String, Integer> metaIndexes = new HashMap<>(); // The index of each distinct build-metadata
+        private final List<String> metaDictionary = new ArrayList<>();
+        private final Map<Precedence, Integer> precedenceIndexes = new HashMap<>(); // The index of each distinct precedence
+        private final List<Version> distinctVersions = new ArrayList<>(); // A version without build-metadata of each distinct precedence
+        private final Precedence probe = new Precedence(); // Reused to look up precedences without allocating
+        private boolean built;
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a row.
+         *
+         * @param version the version of the row
+         * @return this builder
+         */
+        public @NotNull Builder add(@NotNull Version version) {
+            if (built)
+                throw new IllegalStateException("Builder can't be used after building.");
+
+            if (size == majors.length)
+                grow();
+
+            int preRelease = -1;
+            if (version.hasPreRelease()) {
+                preRelease = preReleaseIndexes.computeIfAbsent(version.getPreRelease(), key -> preReleaseDictionary.size());
+                if (preRelease == preReleaseDictionary.size())
+                    preReleaseDictionary.add(version.getPreRelease());
+            }
+
+            int meta = -1;
+            if (version.hasMeta()) {
+                meta = metaIndexes.computeIfAbsent(version.getBuildMetadata(), key -> metaDictionary.size());
+                if (meta == metaDictionary.size())
+                    metaDictionary.add(version.getBuildMetadata());
+            }
+
+            probe.set(version.getMajor(), version.getMinor(), version.getPatch(), preRelease);
+            Integer precedence = precedenceIndexes.get(probe);
+            if (precedence == null) {
+                precedence = distinctVersions.size();
+                precedenceIndexes.put(new Precedence().set(version.getMajor(), version.getMinor(), version.getPatch(), preRelease), precedence);
+                distinctVersions.add(new Version(version.getMajor(), version.getMinor(), version.getPatch(), version.getPreRelease(), version.getPreReleaseIdentifiers(), version.getPreReleaseKeys(), ""));
+            }
+
+            majors[size] = version.getMajor();
+            minors[size] = version.getMinor();
+            patches[size] = version.getPatch();
+            preReleases[size] = preRelease;
+            metas[size] = meta;
+            precedences[size] = precedence;
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends a row for each version.
+         *
+         * @param versions the versions
+         * @return this builder
+         */
+        public @NotNull Builder addAll(@NotNull Iterable<? extends Version> versions) {
+            for (Version version : versions)
+                add(version);
+            return this;
+        }
+
+        /**
+         * Builds the table.
+         *
+         * @return the table
+         */
+        public @NotNull VersionTable build() {
+            if (built)
+                throw new IllegalStateException("Builder can't be used after building.");
+            built = true;
+
+            // Rank the distinct precedences, then replace each precedence in the column by its rank
+            final Integer[] order = new Integer[distinctVersions.size()];
+            for (int i = 0; i < order.length; i++)
+                order[i] = i;
+            Arrays.sort(order, (a, b) -> VersionCompare.comparePrecedence(distinctVersions.get(a), distinctVersions.get(b)));
+
+            final int[] rankOf = new int[order.length];
+            final Version[] rankedVersions = new Version[order.length];
+            for (int rank = 0; rank < order.length; rank++) {
+                rankOf[order[rank]] = rank;
+                rankedVersions[rank] = distinctVersions.get(order[rank]);
+            }
+
+            final int[] ranks = Arrays.copyOf(precedences, size);
+            for (int i = 0; i < size; i++)
+                ranks[i] = rankOf[ranks[i]];
+
+            return new VersionTable(this, ranks, rankedVersions);
+        }
+
+        private void grow() {
+            final int capacity = majors.length * 2;
+            majors = Arrays.copyOf(majors, capacity);
+            minors = Arrays.copyOf(minors, capacity);
+            patches = Arrays.copyOf(patches, capacity);
+            preReleases = Arrays.copyOf(preReleases, capacity);
+            metas = Arrays.copyOf(metas, capacity);
+            precedences = Arrays.copyOf(precedences, capacity);
+        }
+    }
+
+    /**
+     * A mutable key of a distinct precedence, using the index of the pre-release in the dictionary.
+     */
+    private static final class Precedence {
+        private long major;
+        private long minor;
+        private long patch;
+        private int preRelease;
+
+        private Precedence set(long major, long minor, long patch, int preRelease) {
+            this.major = major;
+            this.minor = minor;
+            this.patch = patch;
+            this.preRelease = preRelease;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Precedence))
+                return false;
+
+            final Precedence other = (Precedence) o;
+            return major == other.major && minor == other.minor && patch == other.patch && preRelease == other.preRelease;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(major);
+            hash = 31 * hash + Long.hashCode(minor);
+            hash = 31 * hash + Long.hashCode(patch);
+            return 31 * hash + preRelease;
+        }
+    }
+}
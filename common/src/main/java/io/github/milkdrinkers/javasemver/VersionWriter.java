@@ -0,0 +1,204 @@
+package io.github.milkdrinkers.javasemver;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the canonical form of versions directly into appendables and byte buffers, without creating strings.
+ *
+ * @implNote Numbers are written from their last digit backwards two digits at a time, using a table of the digit pairs 00 to 99.
+ */
+@ApiStatus.Internal
+final class VersionWriter {
+    private static final byte[] DIGIT_PAIRS = new byte[200]; // The ASCII digits of 00 to 99, two bytes per pair
+    private static final long[] POWERS_OF_TEN = new long[19]; // 10^0 to 10^18, 10^19 does not fit in a long
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+
+        long power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private VersionWriter() {
+    }
+
+    /**
+     * Gets the number of ASCII bytes in the canonical form of a version.
+     *
+     * @param version the version
+     * @return the length
+     * @throws IllegalArgumentException thrown if the pre-release or build-metadata has a char that is not ASCII
+     */
+    static int length(@NotNull Version version) {
+        int length = digits(version.getMajor()) + digits(version.getMinor()) + digits(version.getPatch()) + 2;
+        if (version.hasPreRelease())
+            length += asciiLength(version, version.getPreRelease()) + 1;
+        if (version.hasMeta())
+            length += asciiLength(version, version.getBuildMetadata()) + 1;
+        return length;
+    }
+
+    /**
+     * Gets the length of a string, checking that every char is ASCII so it can be written as a single byte.
+     */
+    private static int asciiLength(Version version, String string) {
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c >= 0x80)
+                throw new IllegalArgumentException(String.format("Version \"%s\" can't be written as ASCII, char \"%s\" (U+%04X) is not ASCII.", version.getVersionFull(), c, (int) c));
+        }
+        return string.length();
+    }
+
+    /**
+     * Writes the canonical form of a version to an appendable.
+     *
+     * @param version    the version
+     * @param appendable the appendable
+     * @throws IOException thrown if the appendable throws
+     */
+    static void write(@NotNull Version version, @NotNull Appendable appendable) throws IOException {
+        writeNumber(appendable, version.getMajor());
+        appendable.append('.');
+        writeNumber(appendable, version.getMinor());
+        appendable.append('.');
+        writeNumber(appendable, version.getPatch());
+        if (version.hasPreRelease())
+            appendable.append('-').append(version.getPreRelease());
+        if (version.hasMeta())
+            appendable.append('+').append(version.getBuildMetadata());
+    }
+
+    /**
+     * Writes the canonical form of a version as ASCII bytes at the position of a buffer, advancing the position.
+     *
+     * @param version the version
+     * @param buffer  the buffer
+     * @throws BufferOverflowException thrown if the version does not fit in the remaining bytes, the buffer is left unchanged
+     * @throws IllegalArgumentException thrown if the pre-release or build-metadata has a char that is not ASCII, the buffer is left unchanged
+     */
+    static void write(@NotNull Version version, @NotNull ByteBuffer buffer) {
+        final int length = length(version);
+        if (buffer.remaining() < length)
+            throw new BufferOverflowException();
+
+        final int start = buffer.position();
+        if (buffer.hasArray()) {
+            final int end = write(version, buffer.array(), buffer.arrayOffset() + start);
+            buffer.position(end - buffer.arrayOffset());
+            return;
+        }
+
+        // Direct buffers are written with absolute puts, so numbers can still be written backwards
+        int index = writeNumber(buffer, start, version.getMajor());
+        buffer.put(index++, (byte) '.');
+        index = writeNumber(buffer, index, version.getMinor());
+        buffer.put(index++, (byte) '.');
+        index = writeNumber(buffer, index, version.getPatch());
+        if (version.hasPreRelease()) {
+            buffer.put(index++, (byte) '-');
+            index = writeAscii(buffer, index, version.getPreRelease());
+        }
+        if (version.hasMeta()) {
+            buffer.put(index++, (byte) '+');
+            index = writeAscii(buffer, index, version.getBuildMetadata());
+        }
+        buffer.position(index);
+    }
+
+    /**
+     * Writes the canonical form of a version as ASCII bytes into an array, which must fit {@link #length(Version)} bytes.
+     *
+     * @return the index after the last byte written
+     */
+    private static int write(Version version, byte[] bytes, int index) {
+        index = writeNumber(bytes, index, version.getMajor());
+        bytes[index++] = '.';
+        index = writeNumber(bytes, index, version.getMinor());
+        bytes[index++] = '.';
+        index = writeNumber(bytes, index, version.getPatch());
+        if (version.hasPreRelease()) {
+            bytes[index++] = '-';
+            index = writeAscii(bytes, index, version.getPreRelease());
+        }
+        if (version.hasMeta()) {
+            bytes[index++] = '+';
+            index = writeAscii(bytes, index, version.getBuildMetadata());
+        }
+        return index;
+    }
+
+    /**
+     * Gets the number of decimal digits of a non-negative number.
+     */
+    private static int digits(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits])
+            digits++;
+        return digits;
+    }
+
+    private static void writeNumber(Appendable appendable, long value) throws IOException {
+        for (int digit = digits(value) - 1; digit >= 0; digit--)
+            appendable.append((char) ('0' + value / POWERS_OF_TEN[digit] % 10));
+    }
+
+    private static int writeNumber(byte[] bytes, int index, long value) {
+        final int end = index + digits(value);
+        int position = end;
+        while (value >= 100) {
+            final int pair = (int) (value % 100) * 2;
+            value /= 100;
+            bytes[--position] = DIGIT_PAIRS[pair + 1];
+            bytes[--position] = DIGIT_PAIRS[pair];
+        }
+        if (value >= 10) {
+            bytes[--position] = DIGIT_PAIRS[(int) value * 2 + 1];
+            bytes[--position] = DIGIT_PAIRS[(int) value * 2];
+        } else {
+            bytes[--position] = (byte) ('0' + value);
+        }
+        return end;
+    }
+
+    private static int writeNumber(ByteBuffer buffer, int index, long value) {
+        final int end = index + digits(value);
+        int position = end;
+        while (value >= 100) {
+            final int pair = (int) (value % 100) * 2;
+            value /= 100;
+            buffer.put(--position, DIGIT_PAIRS[pair + 1]);
+            buffer.put(--position, DIGIT_PAIRS[pair]);
+        }
+        if (value >= 10) {
+            buffer.put(--position, DIGIT_PAIRS[(int) value * 2 + 1]);
+            buffer.put(--position, DIGIT_PAIRS[(int) value * 2]);
+        } else {
+            buffer.put(--position, (byte) ('0' + value));
+        }
+        return end;
+    }
+
+    private static int writeAscii(byte[] bytes, int index, String string) {
+        for (int i = 0; i < string.length(); i++)
+            bytes[index++] = (byte) string.charAt(i);
+        return index;
+    }
+
+    private static int writeAscii(ByteBuffer buffer, int index, String string) {
+        for (int i = 0; i < string.length(); i++)
+            buffer.put(index++, (byte) string.charAt(i));
+        return index;
+    }
+}
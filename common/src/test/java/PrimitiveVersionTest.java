@@ -0,0 +1,85 @@
+import io.github.milkdrinkers.javasemver.PrimitiveVersion;
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCheckResult;
+import io.github.milkdrinkers.javasemver.VersionCompare;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import io.github.milkdrinkers.javasemver.exception.VersionBuildException;
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class PrimitiveVersionTest {
+    @Test
+    public void testRoundTrip() {
+        for (String string : new String[]{"0.0.0", "1.20.4", "2097151.2097151.2097151", "0.0.2097151", "2097151.0.0"}) {
+            final Version version = VersionParser.parse(string);
+            Assertions.assertTrue(PrimitiveVersion.fits(version));
+
+            final long packed = PrimitiveVersion.pack(version);
+            Assertions.assertTrue(packed >= 0);
+            Assertions.assertEquals(packed, PrimitiveVersion.parse(string));
+            Assertions.assertEquals(string, PrimitiveVersion.format(packed));
+            Assertions.assertEquals(string, PrimitiveVersion.toVersion(packed).getVersionFull());
+            Assertions.assertEquals(VersionCheckResult.EQUAL, VersionCompare.compare(version, PrimitiveVersion.toVersion(packed)));
+        }
+    }
+
+    @Test
+    public void testComponents() {
+        final long packed = PrimitiveVersion.pack(3, 14, 159);
+        Assertions.assertEquals(3, PrimitiveVersion.getMajor(packed));
+        Assertions.assertEquals(14, PrimitiveVersion.getMinor(packed));
+        Assertions.assertEquals(159, PrimitiveVersion.getPatch(packed));
+        Assertions.assertEquals("v3.14.159", PrimitiveVersion.formatTo(packed, new StringBuilder("v")).toString());
+    }
+
+    @Test
+    public void testOrderMatchesPrecedence() {
+        final Random random = new Random(18);
+        final long[] packed = new long[2_000];
+        for (int i = 0; i < packed.length; i++)
+            packed[i] = PrimitiveVersion.pack(random.nextInt(4), random.nextInt(3) == 0 ? PrimitiveVersion.MAX_COMPONENT : random.nextInt(30), random.nextInt(30));
+        Arrays.sort(packed);
+
+        for (int i = 1; i < packed.length; i++)
+            Assertions.assertNotEquals(VersionCheckResult.NEWER, VersionCompare.compare(PrimitiveVersion.toVersion(packed[i - 1]), PrimitiveVersion.toVersion(packed[i])));
+
+        for (int n = 0; n < 10_000; n++) {
+            final long a = packed[random.nextInt(packed.length)];
+            final long b = packed[random.nextInt(packed.length)];
+            Assertions.assertEquals(Integer.signum(PrimitiveVersion.toVersion(a).compareTo(PrimitiveVersion.toVersion(b))), Integer.signum(PrimitiveVersion.compare(a, b)));
+        }
+    }
+
+    @Test
+    public void testSignBitStaysClear() {
+        final long max = PrimitiveVersion.pack(PrimitiveVersion.MAX_COMPONENT, PrimitiveVersion.MAX_COMPONENT, PrimitiveVersion.MAX_COMPONENT);
+        Assertions.assertTrue(max > 0);
+        Assertions.assertEquals(0, max & Long.MIN_VALUE);
+        Assertions.assertNotEquals(PrimitiveVersion.INVALID, max);
+        Assertions.assertTrue(PrimitiveVersion.compare(PrimitiveVersion.pack(0, 0, 0), max) < 0);
+    }
+
+    @Test
+    public void testDoesNotFit() {
+        Assertions.assertFalse(PrimitiveVersion.fits(VersionParser.parse("1.0.0-SNAPSHOT")));
+        Assertions.assertFalse(PrimitiveVersion.fits(VersionParser.parse("1.0.0+build.1")));
+        Assertions.assertFalse(PrimitiveVersion.fits(VersionParser.parse("1.2097152.0")));
+        Assertions.assertThrows(VersionBuildException.class, () -> PrimitiveVersion.pack(VersionParser.parse("1.0.0-rc.1")));
+        Assertions.assertThrows(VersionBuildException.class, () -> PrimitiveVersion.pack(0, -1, 0));
+        Assertions.assertThrows(VersionBuildException.class, () -> PrimitiveVersion.pack(0, 0, PrimitiveVersion.MAX_COMPONENT + 1));
+    }
+
+    @Test
+    public void testParse() {
+        Assertions.assertEquals(PrimitiveVersion.pack(1, 2, 3), PrimitiveVersion.parse("v1.2.3"));
+        Assertions.assertEquals(PrimitiveVersion.INVALID, PrimitiveVersion.tryParse("1.2"));
+        Assertions.assertEquals(PrimitiveVersion.INVALID, PrimitiveVersion.tryParse("1.2.3-rc"));
+        Assertions.assertEquals(PrimitiveVersion.INVALID, PrimitiveVersion.tryParse("3000000.0.0"));
+        Assertions.assertThrows(VersionParseException.class, () -> PrimitiveVersion.parse("01.2.3"));
+        Assertions.assertThrows(VersionParseException.class, () -> PrimitiveVersion.parse("1.2.3+meta"));
+    }
+}
@@ -1,4 +1,7 @@
 import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionParseError;
+import io.github.milkdrinkers.javasemver.VersionParseResult;
+import io.github.milkdrinkers.javasemver.VersionParser;
 import io.github.milkdrinkers.javasemver.exception.VersionParseException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -8,6 +11,18 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 public class SemVerTest {
@@ -90,6 +105,216 @@ public class SemVerTest {
         }
     }
 
+    @Nested
+    class TryParseTests {
+        @Test
+        public void testSuccess() {
+            VersionParseResult result = VersionParser.tryParse("1.2.3-alpha.1+build.5");
+            Assertions.assertTrue(result.isSuccess());
+            Assertions.assertEquals(Version.of("1.2.3-alpha.1+build.5").getVersionFull(), result.getVersion().getVersionFull());
+            Assertions.assertNull(result.getError());
+            Assertions.assertEquals(-1, result.getErrorIndex());
+        }
+
+        @ParameterizedTest
+        @MethodSource("provideFailures")
+        public void testFailure(String version, VersionParseError error, int errorIndex) {
+            VersionParseResult result = VersionParser.tryParse(version);
+            Assertions.assertFalse(result.isSuccess());
+            Assertions.assertNull(result.getVersion());
+            Assertions.assertFalse(result.toOptional().isPresent());
+            Assertions.assertEquals(error, result.getError());
+            Assertions.assertEquals(errorIndex, result.getErrorIndex());
+        }
+
+        static Stream<Arguments> provideFailures() {
+            return Stream.of(
+                Arguments.of("", VersionParseError.UNEXPECTED_END, 0),
+                Arguments.of("1.2", VersionParseError.UNEXPECTED_END, 3),
+                Arguments.of("v1.2.", VersionParseError.UNEXPECTED_END, 5),
+                Arguments.of("Mozilla/5.0", VersionParseError.UNEXPECTED_CHARACTER, 0),
+                Arguments.of("1.a.3", VersionParseError.UNEXPECTED_CHARACTER, 2),
+                Arguments.of("1.4.0.0", VersionParseError.UNEXPECTED_CHARACTER, 5),
+                Arguments.of("1.2.3-alpha_1", VersionParseError.UNEXPECTED_CHARACTER, 11),
+                Arguments.of("01.2.3", VersionParseError.LEADING_ZERO, 0),
+                Arguments.of("1.2.3-alpha.01", VersionParseError.LEADING_ZERO, 12),
+                Arguments.of("9223372036854775808.0.0", VersionParseError.NUMBER_OVERFLOW, 0),
+                Arguments.of("1.2.3-", VersionParseError.EMPTY_IDENTIFIER, 6),
+                Arguments.of("1.2.3-alpha..1", VersionParseError.EMPTY_IDENTIFIER, 12),
+                Arguments.of("1.2.3+", VersionParseError.EMPTY_IDENTIFIER, 6)
+            );
+        }
+
+        @Test
+        public void testParseThrowsWithReason() {
+            VersionParseException e = Assertions.assertThrows(VersionParseException.class, () -> Version.of("1.02.3"));
+            Assertions.assertTrue(e.getMessage().contains(VersionParseError.LEADING_ZERO.getDescription()));
+        }
+
+        @Test
+        public void testOfOptional() {
+            Assertions.assertTrue(Version.ofOptional("1.2.3").isPresent());
+            Assertions.assertFalse(Version.ofOptional("1.2").isPresent());
+            Assertions.assertFalse(Version.ofOptional(null).isPresent());
+        }
+    }
+
+    @Nested
+    class RegionParsingTests {
+        @Test
+        public void testParseCharSequenceRegion() {
+            StringBuilder input = new StringBuilder("version=v1.2.3-rc.1+build.7;");
+            Version v = VersionParser.parse(input, 8, 19);
+            Assertions.assertEquals("1.2.3-rc.1+build.7", v.getVersionFull());
+            Assertions.assertEquals("rc.1", v.getPreRelease());
+            Assertions.assertEquals("build.7", v.getBuildMetadata());
+        }
+
+        @Test
+        public void testParseByteArrayRegion() {
+            byte[] bytes = "name: plugin\nversion: 2.0.0-beta.3\n".getBytes(StandardCharsets.UTF_8);
+            Version v = VersionParser.parse(bytes, 22, 12);
+            Assertions.assertEquals("2.0.0-beta.3", v.getVersionFull());
+        }
+
+        @Test
+        public void testParseByteBuffer() {
+            ByteBuffer heap = ByteBuffer.wrap("xx1.0.0+sha.5114f85xx".getBytes(StandardCharsets.US_ASCII));
+            heap.position(2).limit(19);
+            Assertions.assertEquals("1.0.0+sha.5114f85", VersionParser.parse(heap).getVersionFull());
+            Assertions.assertEquals(2, heap.position());
+
+            ByteBuffer slice = heap.slice();
+            Assertions.assertEquals("1.0.0+sha.5114f85", VersionParser.parse(slice).getVersionFull());
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(32);
+            direct.put("3.1.4-alpha".getBytes(StandardCharsets.US_ASCII)).flip();
+            Assertions.assertEquals("3.1.4-alpha", VersionParser.parse(direct).getVersionFull());
+            Assertions.assertEquals(0, direct.position());
+        }
+
+        @Test
+        public void testRegionErrorIndexIsRelative() {
+            VersionParseResult result = VersionParser.tryParse("xx1.2.x", 2, 5);
+            Assertions.assertEquals(VersionParseError.UNEXPECTED_CHARACTER, result.getError());
+            Assertions.assertEquals(4, result.getErrorIndex());
+
+            byte[] bytes = "1.0.0-\u00e9".getBytes(StandardCharsets.UTF_8);
+            result = VersionParser.tryParse(bytes, 0, bytes.length);
+            Assertions.assertEquals(VersionParseError.UNEXPECTED_CHARACTER, result.getError());
+            Assertions.assertEquals(6, result.getErrorIndex());
+        }
+
+        @Test
+        public void testRegionOutOfBounds() {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> VersionParser.tryParse("1.2.3", 1, 5));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> VersionParser.tryParse(new byte[4], -1, 2));
+        }
+    }
+
+    @Nested
+    class DifferentialParsingTests {
+        // The regex grammar used by the parser before it was replaced by a hand-written scanner
+        private final Pattern SEMVER_REGEX = Pattern.compile("^(?<major>0|[1-9]\\d*)\\.(?<minor>0|[1-9]\\d*)\\.(?<patch>0|[1-9]\\d*)(?:-(?<prerelease>(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?(?:\\+(?<meta>[0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$");
+        private final String[] FRAGMENTS = {"0", "1", "9", "00", "01", "10", "42", "9223372036854775807", "9223372036854775808", ".", ".", ".", "-", "+", "a", "Z", "-1", "alpha", "rc", "v", "V", "_", " ", "\n", "\u0661", "x.y"};
+
+        /**
+         * Parses a version string the way the parser did before the scanner, returning the fields on success.
+         */
+        private Optional<String[]> parseWithRegex(String input) {
+            if (input.length() < 5)
+                return Optional.empty();
+
+            if (input.toUpperCase().startsWith("V"))
+                input = input.substring(1);
+
+            final Matcher matcher = SEMVER_REGEX.matcher(input);
+            if (!matcher.matches())
+                return Optional.empty();
+
+            try {
+                return Optional.of(new String[]{
+                    String.valueOf(Long.parseLong(matcher.group("major"))),
+                    String.valueOf(Long.parseLong(matcher.group("minor"))),
+                    String.valueOf(Long.parseLong(matcher.group("patch"))),
+                    Optional.ofNullable(matcher.group("prerelease")).orElse(""),
+                    Optional.ofNullable(matcher.group("meta")).orElse("")
+                });
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        private void assertSameAsRegex(String input) {
+            final Optional<String[]> expected = parseWithRegex(input);
+            final Optional<Version> actual = Version.ofOptional(input);
+
+            Assertions.assertEquals(expected.isPresent(), actual.isPresent(), () -> "Acceptance differs for \"" + input + "\"");
+            if (!expected.isPresent())
+                return;
+
+            final Version v = actual.get();
+            Assertions.assertArrayEquals(expected.get(), new String[]{
+                String.valueOf(v.getMajor()),
+                String.valueOf(v.getMinor()),
+                String.valueOf(v.getPatch()),
+                v.getPreRelease(),
+                v.getBuildMetadata()
+            }, () -> "Fields differ for \"" + input + "\"");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "", "v", "1.2.3", "v1.2.3", "V1.2.3", "vv1.2.3", "v1.2", "1.2.3-0", "1.2.3-00", "1.2.3-0a", "1.2.3-a.01",
+            "1.2.3--", "1.2.3-a-", "1.2.3+-", "1.2.3+01", "1.2.3-+a", "1.2.3+a+b", "1.2.3-a+b.", "1.2.3-a.+b",
+            "1.2.3\n", " 1.2.3", "1.2.3 ", "9223372036854775807.0.0", "9223372036854775808.0.0", "0.0.99999999999999999999",
+            "1.2.3-99999999999999999999", "1.2.\u0663", "1.2.3-\u00e9"
+        })
+        public void testEdgeCasesMatchRegex(String version) {
+            assertSameAsRegex(version);
+        }
+
+        @Test
+        public void testRandomInputsMatchRegex() {
+            final Random random = new Random(20240101L);
+            final StringBuilder builder = new StringBuilder();
+
+            for (int i = 0; i < 100_000; i++) {
+                builder.setLength(0);
+                final int fragments = random.nextInt(12);
+                for (int j = 0; j < fragments; j++)
+                    builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                assertSameAsRegex(builder.toString());
+            }
+        }
+
+        @Test
+        public void testStructuredInputsMatchRegex() {
+            final Random random = new Random(42L);
+            final StringBuilder builder = new StringBuilder();
+
+            for (int i = 0; i < 100_000; i++) {
+                builder.setLength(0);
+                if (random.nextInt(4) == 0)
+                    builder.append('v');
+                builder.append(FRAGMENTS[random.nextInt(8)]).append('.').append(FRAGMENTS[random.nextInt(8)]).append('.').append(FRAGMENTS[random.nextInt(8)]);
+                if (random.nextBoolean()) {
+                    builder.append('-');
+                    final int identifiers = random.nextInt(4);
+                    for (int j = 0; j < identifiers; j++)
+                        builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                }
+                if (random.nextBoolean()) {
+                    builder.append('+');
+                    final int identifiers = random.nextInt(4);
+                    for (int j = 0; j < identifiers; j++)
+                        builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                }
+                assertSameAsRegex(builder.toString());
+            }
+        }
+    }
+
     @Nested
     class ComparisonTests {
         @Test
@@ -158,6 +383,26 @@ public class SemVerTest {
             Assertions.assertTrue(Version.isOlder(v3, v4));
         }
 
+        @Test
+        public void testNaturalOrderIsAscending() {
+            Version v1 = Version.of("1.0.0-alpha");
+            Version v2 = Version.of("1.0.0");
+            Version v3 = Version.of("9223372036854775807.0.0");
+
+            Assertions.assertTrue(v1.compareTo(v2) < 0);
+            Assertions.assertTrue(v3.compareTo(v2) > 0);
+            Assertions.assertTrue(v2.compareTo(v3) < 0);
+            Assertions.assertEquals(0, Version.of("1.0.0+build.1").compareTo(Version.of("1.0.0+build.2")));
+
+            final Version[] versions = {v3, v2, v1};
+            Arrays.sort(versions);
+            Assertions.assertArrayEquals(new Version[]{v1, v2, v3}, versions);
+
+            final TreeSet<Version> set = new TreeSet<>(Arrays.asList(v2, v3, v1));
+            Assertions.assertSame(v1, set.first());
+            Assertions.assertSame(v3, set.last());
+        }
+
         @ParameterizedTest
         @MethodSource("provideVersionPairs")
         public void testVersionOrder(String olderVersion, String newerVersion) {
@@ -323,6 +568,31 @@ public class SemVerTest {
 
             Assertions.assertTrue(Version.isOlder(v3, v4));
         }
+
+        @Test
+        public void testLargeNumericIdentifiers() {
+            Version v1 = Version.of("1.0.0-2147483647");
+            Version v2 = Version.of("1.0.0-2147483648");
+            Version v3 = Version.of("1.0.0-9223372036854775807");
+            Version v4 = Version.of("1.0.0-9223372036854775808");
+            Version v5 = Version.of("1.0.0-10000000000000000000000");
+            Version v6 = Version.of("1.0.0-alpha");
+
+            Assertions.assertTrue(Version.isOlder(v1, v2));
+            Assertions.assertTrue(Version.isOlder(v2, v3));
+            Assertions.assertTrue(Version.isOlder(v3, v4));
+            Assertions.assertTrue(Version.isOlder(v4, v5));
+            Assertions.assertTrue(Version.isOlder(v5, v6));
+            Assertions.assertTrue(Version.isEqual(v5, Version.of("1.0.0-10000000000000000000000+build")));
+        }
+
+        @Test
+        public void testLeadingZeroIdentifiersFromBuilderAreAlphanumeric() {
+            Version v1 = Version.of(1, 0, 0, "5");
+            Version v2 = Version.of(1, 0, 0, "05");
+
+            Assertions.assertTrue(Version.isOlder(v1, v2));
+        }
     }
 
     @Nested
@@ -393,6 +663,81 @@ public class SemVerTest {
             Version v4 = Version.of("1.2.3-alpha+build.1");
             Assertions.assertEquals("1.2.3-alpha+build.1", v4.toString());
         }
+
+        @Test
+        public void testVersionString() {
+            Version v = Version.of("10.20.30-rc.1+build.1");
+            Assertions.assertEquals("10.20.30", v.getVersion());
+            Assertions.assertSame(v.getVersion(), v.getVersion());
+            Assertions.assertEquals("10.20.30-rc.1+build.1", v.getVersionFull());
+            Assertions.assertSame(v.getVersionFull(), v.getVersionFull());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0.0.0", "1.2.3", "10.20.30-rc.1+build.1", "99.100.101-alpha.beta", "1.0.0+exp.sha.5114f85", "9223372036854775807.1000000000000000000.999999999999999999-0"})
+        public void testWriteTo(String string) throws IOException {
+            // Fresh versions are formatted directly, cached strings are reused once created
+            final Version fresh = Version.of(string);
+            Assertions.assertEquals(string, fresh.writeTo(new StringBuilder()).toString());
+            Assertions.assertEquals(string, fresh.writeTo(new StringWriter()).toString());
+            Assertions.assertEquals("[" + string, Version.of(string).writeTo(new StringBuilder("[")).toString());
+            Assertions.assertEquals(string, fresh.toString());
+            Assertions.assertEquals(string, fresh.writeTo(new StringBuilder()).toString());
+
+            final ByteBuffer heap = ByteBuffer.allocate(string.length() + 4);
+            heap.put((byte) '[');
+            Version.of(string).writeTo(heap);
+            Assertions.assertEquals(string.length() + 1, heap.position());
+            Assertions.assertEquals("[" + string, new String(heap.array(), 0, heap.position(), StandardCharsets.US_ASCII));
+
+            final ByteBuffer direct = ByteBuffer.allocateDirect(string.length());
+            Version.of(string).writeTo(direct);
+            Assertions.assertFalse(direct.hasRemaining());
+            direct.flip();
+            Assertions.assertEquals(string, StandardCharsets.US_ASCII.decode(direct).toString());
+        }
+
+        @Test
+        public void testWriteToFullBuffer() {
+            final ByteBuffer buffer = ByteBuffer.allocate(8);
+            buffer.put((byte) 'x');
+            Assertions.assertThrows(BufferOverflowException.class, () -> Version.of("1.2.3-alpha").writeTo(buffer));
+            Assertions.assertEquals(1, buffer.position());
+            Assertions.assertThrows(ReadOnlyBufferException.class, () -> Version.of("1.2.3").writeTo(ByteBuffer.allocate(8).asReadOnlyBuffer()));
+        }
+
+        @Test
+        public void testWriteToRejectsNonAscii() throws IOException {
+            // The builder accepts any pre-release and build-metadata, which can't be written as single bytes
+            for (Version version : new Version[]{Version.of(1, 0, 0, "a\u0100b"), Version.of(1, 0, 0, "", "\u00e9")}) {
+                for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32)}) {
+                    buffer.put((byte) 'x');
+                    Assertions.assertThrows(IllegalArgumentException.class, () -> version.writeTo(buffer));
+                    Assertions.assertEquals(1, buffer.position());
+                    Assertions.assertEquals(0, buffer.get(1));
+                }
+
+                // Char targets have no such limit
+                Assertions.assertEquals(version.toString(), version.writeTo(new StringBuilder()).toString());
+                Assertions.assertEquals(version.toString(), version.writeTo(new StringWriter()).toString());
+            }
+        }
+
+        @Test
+        public void testQualifiers() {
+            Version alpha = Version.of("1.0.0-alpha.1");
+            Assertions.assertTrue(alpha.isAlpha());
+            Assertions.assertFalse(alpha.isBeta());
+
+            Version snapshot = Version.of("1.0.0-DEVELOP-SNAPSHOT");
+            Assertions.assertTrue(snapshot.isDev());
+            Assertions.assertTrue(snapshot.isSnapshot());
+            Assertions.assertFalse(snapshot.isRC());
+
+            Version release = Version.of("1.0.0");
+            Assertions.assertFalse(release.isAlpha() || release.isBeta() || release.isDev() || release.isRC() || release.isSnapshot());
+            Assertions.assertEquals(0, release.getPreReleaseIdentifiers().length);
+        }
     }
 
     @Nested
@@ -0,0 +1,102 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionBatchResult;
+import io.github.milkdrinkers.javasemver.VersionParseError;
+import io.github.milkdrinkers.javasemver.VersionParseResult;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+public class VersionBatchTest {
+    private static String[] corpus(int size) {
+        final Random random = new Random(size);
+        final String[] invalid = {"1.2", "01.2.3", "1.2.3-", "abc", "", "1.2.3+meta..x"};
+        final String[] strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = random.nextInt(10) == 0
+                ? invalid[random.nextInt(invalid.length)]
+                : random.nextInt(5) + "." + random.nextInt(30) + "." + random.nextInt(30) + (random.nextBoolean() ? "-rc." + random.nextInt(5) : "");
+        }
+        return strings;
+    }
+
+    private static void assertMatchesSequential(String[] strings, VersionBatchResult result) {
+        Assertions.assertEquals(strings.length, result.size());
+
+        int failures = 0;
+        for (int i = 0; i < strings.length; i++) {
+            final VersionParseResult expected = VersionParser.tryParse(strings[i]);
+            if (expected.isSuccess()) {
+                Assertions.assertTrue(result.isSuccess(i));
+                Assertions.assertEquals(expected.getVersion().getVersionFull(), result.getVersion(i).getVersionFull());
+            } else {
+                Assertions.assertFalse(result.isSuccess(i));
+                Assertions.assertEquals(i, result.getFailureIndex(failures));
+                Assertions.assertEquals(expected.getError(), result.getFailureError(failures));
+                Assertions.assertEquals(expected.getErrorIndex(), result.getFailureErrorIndex(failures));
+                Assertions.assertEquals(expected.getError(), result.getResult(i).getError());
+                failures++;
+            }
+        }
+        Assertions.assertEquals(failures, result.getFailureCount());
+        Assertions.assertEquals(strings.length - failures, result.getParsedVersions().size());
+    }
+
+    @Test
+    public void testParseAll() {
+        final String[] strings = corpus(100_000);
+        assertMatchesSequential(strings, VersionParser.parseAll(strings));
+    }
+
+    @Test
+    public void testParseAllOnForkJoinPool() {
+        final String[] strings = corpus(50_000);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertMatchesSequential(strings, VersionParser.parseAll(strings, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParseAllOnExecutor() {
+        final String[] strings = corpus(50_000);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertMatchesSequential(strings, VersionParser.parseAll(Arrays.asList(strings), executor));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertMatchesSequential(strings, VersionParser.parseAll(strings, Runnable::run));
+    }
+
+    @Test
+    public void testSmallBatches() {
+        final VersionBatchResult result = VersionParser.parseAll(Stream.of("1.0.0", "1.2", null, "v2.0.0-beta"));
+        Assertions.assertEquals(4, result.size());
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertEquals(2, result.getFailureCount());
+        Assertions.assertEquals(VersionParseError.UNEXPECTED_END, result.getFailureError(1));
+        Assertions.assertEquals(2, result.getFailureIndex(1));
+
+        final List<Version> versions = result.getVersions();
+        Assertions.assertEquals(Version.of("2.0.0-beta"), versions.get(3));
+        Assertions.assertNull(versions.get(1));
+
+        // Batches that fit in one chunk are parsed on the calling thread, without handing tasks to the executor
+        final String[] strings = corpus(1_000);
+        assertMatchesSequential(strings, VersionParser.parseAll(strings, task -> Assertions.fail("Small batch was handed to the executor.")));
+
+        Assertions.assertTrue(VersionParser.parseAll(new String[0]).isSuccess());
+        Assertions.assertEquals(0, VersionParser.parseAll(new String[0]).size());
+    }
+}
@@ -0,0 +1,111 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCache;
+import io.github.milkdrinkers.javasemver.VersionParseResult;
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class VersionCacheTest {
+    @Test
+    public void testReturnsSharedInstance() {
+        VersionCache cache = new VersionCache(16);
+        Version v1 = cache.parse("1.20.4");
+        Version v2 = cache.parse("1.20.4");
+
+        Assertions.assertSame(v1, v2);
+        Assertions.assertSame(v1, cache.tryParse("1.20.4").getVersion());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidVersionsAreNotCached() {
+        VersionCache cache = new VersionCache(16);
+        Assertions.assertThrows(VersionParseException.class, () -> cache.parse("1.2"));
+
+        VersionParseResult result = cache.tryParse("1.2");
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        VersionCache cache = new VersionCache(2, 1);
+        Version v1 = cache.parse("1.0.0");
+        cache.parse("2.0.0");
+        cache.parse("1.0.0"); // 2.0.0 is now the least recently used
+        cache.parse("3.0.0");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertSame(v1, cache.parse("1.0.0"));
+
+        long misses = cache.getMissCount();
+        cache.parse("2.0.0");
+        Assertions.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void testNeverExceedsMaximumSize() {
+        VersionCache cache = new VersionCache(100);
+        for (int i = 0; i < 1000; i++)
+            cache.parse("1." + i + ".0");
+
+        Assertions.assertTrue(cache.size() <= 100);
+        Assertions.assertEquals(1000 - cache.size(), cache.getEvictionCount());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VersionCache(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VersionCache(10, 0));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final int threads = 8;
+        final int iterations = 20_000;
+        final VersionCache cache = new VersionCache(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        // A working set larger than the cache forces concurrent evictions
+                        String string = "1." + ((i * 7 + seed) % 100) + ".0-rc." + (i % 3);
+                        Version version = cache.parse(string);
+                        Assertions.assertEquals(string, version.getVersionFull());
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals((long) threads * iterations, cache.getHitCount() + cache.getMissCount());
+        Assertions.assertTrue(cache.size() <= 64);
+    }
+}
@@ -0,0 +1,154 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCatalog;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class VersionCatalogTest {
+    private static VersionCatalog catalog(String... versions) {
+        final List<Version> list = new ArrayList<>();
+        for (String version : versions)
+            list.add(Version.of(version));
+        return VersionCatalog.of(list);
+    }
+
+    @Test
+    public void testSortsUnsortedBatch() {
+        final VersionCatalog catalog = catalog("2.0.0", "1.0.0-alpha", "1.0.0", "1.10.0", "1.2.0", "2.0.0-rc.1");
+        Assertions.assertEquals("[1.0.0-alpha, 1.0.0, 1.2.0, 1.10.0, 2.0.0-rc.1, 2.0.0]", catalog.toString());
+        Assertions.assertEquals(6, catalog.size());
+        Assertions.assertEquals(Version.of("1.0.0-alpha"), catalog.first());
+        Assertions.assertEquals(Version.of("2.0.0"), catalog.latest());
+    }
+
+    @Test
+    public void testNavigation() {
+        final VersionCatalog catalog = catalog("1.0.0", "1.1.0", "1.1.0+build", "1.3.0");
+
+        Assertions.assertEquals("1.1.0+build", catalog.floor(Version.of("1.2.0")).getVersionFull());
+        Assertions.assertEquals("1.1.0+build", catalog.floor(Version.of("1.1.0")).getVersionFull());
+        Assertions.assertEquals("1.0.0", catalog.lower(Version.of("1.1.0")).getVersionFull());
+        Assertions.assertEquals("1.1.0", catalog.ceiling(Version.of("1.1.0")).getVersionFull());
+        Assertions.assertEquals("1.3.0", catalog.ceiling(Version.of("1.2.0")).getVersionFull());
+        Assertions.assertEquals("1.3.0", catalog.higher(Version.of("1.1.0")).getVersionFull());
+        Assertions.assertNull(catalog.higher(Version.of("1.3.0")));
+        Assertions.assertNull(catalog.floor(Version.of("0.9.0")));
+        Assertions.assertTrue(catalog.contains(Version.of("1.1.0")));
+        Assertions.assertFalse(catalog.contains(Version.of("1.2.0")));
+    }
+
+    @Test
+    public void testLatestStableAndPreRelease() {
+        final VersionCatalog catalog = catalog("1.0.0", "2.0.0-beta", "1.5.0", "3.0.0-alpha", "2.1.0", "3.1.0-rc.1");
+        Assertions.assertEquals(Version.of("3.1.0-rc.1"), catalog.latest());
+        Assertions.assertEquals(Version.of("2.1.0"), catalog.latestStable());
+        Assertions.assertEquals(Version.of("3.1.0-rc.1"), catalog.latestPreRelease());
+
+        final VersionCatalog major2 = catalog.major(2);
+        Assertions.assertEquals("[2.0.0-beta, 2.1.0]", major2.toString());
+        Assertions.assertEquals(Version.of("2.1.0"), major2.latestStable());
+        Assertions.assertEquals(Version.of("2.0.0-beta"), major2.latestPreRelease());
+
+        final VersionCatalog major3 = catalog.major(3);
+        Assertions.assertNull(major3.latestStable());
+        Assertions.assertEquals(Version.of("3.1.0-rc.1"), major3.latestPreRelease());
+
+        Assertions.assertNull(catalog.major(1).latestPreRelease());
+        Assertions.assertEquals(Version.of("1.5.0"), catalog.major(1).latestStable());
+    }
+
+    @Test
+    public void testViews() {
+        final VersionCatalog catalog = catalog("1.0.0", "1.1.0", "1.1.5", "1.2.0", "2.0.0", "2.1.0");
+        Assertions.assertEquals("[1.1.0, 1.1.5]", catalog.minor(1, 1).toString());
+        Assertions.assertEquals("[1.1.0, 1.1.5]", catalog.major(1).minor(1, 1).toString());
+        Assertions.assertTrue(catalog.major(2).minor(1, 1).isEmpty());
+        Assertions.assertTrue(catalog.major(7).isEmpty());
+        Assertions.assertEquals(Version.of("1.2.0"), catalog.major(1).floor(Version.of("5.0.0")));
+        Assertions.assertNull(catalog.major(2).lower(Version.of("2.0.0")));
+        Assertions.assertEquals(Version.of("1.1.5"), catalog.minor(1, 1).get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> catalog.minor(1, 1).get(2));
+    }
+
+    @Test
+    public void testRanges() {
+        final VersionCatalog catalog = catalog("1.0.0", "1.1.0", "1.2.0-beta", "2.0.0", "2.1.0", "3.0.0");
+        Assertions.assertEquals(Version.of("1.2.0-beta"), catalog.latest(VersionRange.parse("^1.0")));
+        Assertions.assertEquals(Version.of("2.1.0"), catalog.latest(VersionRange.parse("1.x || 2.x")));
+        Assertions.assertNull(catalog.latest(VersionRange.parse(">3.0.0")));
+        Assertions.assertEquals(Arrays.asList(Version.of("2.0.0"), Version.of("2.1.0")), catalog.select(VersionRange.parse("~2")));
+    }
+
+    @Test
+    public void testWithAndWithout() {
+        final VersionCatalog catalog = catalog("1.0.0", "1.2.0");
+        final VersionCatalog added = catalog.with(Version.of("1.1.0-beta"));
+        Assertions.assertEquals("[1.0.0, 1.1.0-beta, 1.2.0]", added.toString());
+        Assertions.assertEquals(Version.of("1.1.0-beta"), added.latestPreRelease());
+        Assertions.assertEquals("[1.0.0, 1.2.0]", catalog.toString());
+
+        Assertions.assertEquals("[1.0.0, 1.2.0]", added.without(Version.of("1.1.0-beta")).toString());
+        Assertions.assertSame(added, added.without(Version.of("3.0.0")));
+        Assertions.assertEquals("[1.2.0, 1.3.0]", catalog.major(1).minor(1, 2).with(Version.of("1.3.0")).toString());
+    }
+
+    @Test
+    public void testWithAll() {
+        final VersionCatalog catalog = catalog("1.0.0", "1.2.0+build.1", "2.0.0");
+        final VersionCatalog added = catalog.withAll(Arrays.asList(Version.of("3.0.0"), Version.of("1.2.0+build.2"), Version.of("0.1.0"), Version.of("1.1.0-beta")));
+        Assertions.assertEquals("[0.1.0, 1.0.0, 1.1.0-beta, 1.2.0+build.1, 1.2.0+build.2, 2.0.0, 3.0.0]", added.toString());
+        Assertions.assertEquals(Version.of("3.0.0"), added.latestStable());
+        Assertions.assertEquals(Version.of("1.1.0-beta"), added.latestPreRelease());
+        Assertions.assertSame(catalog, catalog.withAll(Collections.emptyList()));
+        Assertions.assertEquals("[1.2.0+build.1, 1.3.0]", catalog.major(1).minor(1, 2).withAll(Collections.singletonList(Version.of("1.3.0"))).toString());
+
+        // Merging matches adding one version at a time
+        final Random random = new Random(7);
+        VersionCatalog expected = catalog;
+        final List<Version> batch = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final Version version = Version.of(random.nextInt(3) + "." + random.nextInt(5) + "." + random.nextInt(5) + (random.nextBoolean() ? "" : "-rc." + random.nextInt(3)));
+            batch.add(version);
+            expected = expected.with(version);
+        }
+        Assertions.assertEquals(expected.asList(), catalog.withAll(batch).asList());
+    }
+
+    @Test
+    public void testEmpty() {
+        final VersionCatalog catalog = VersionCatalog.of(Collections.emptyList());
+        Assertions.assertTrue(catalog.isEmpty());
+        Assertions.assertNull(catalog.latest());
+        Assertions.assertNull(catalog.latestStable());
+        Assertions.assertNull(catalog.floor(Version.of("1.0.0")));
+        Assertions.assertFalse(catalog.iterator().hasNext());
+    }
+
+    @Test
+    public void testMatchesSortedList() {
+        final Random random = new Random(3);
+        final List<Version> versions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            versions.add(Version.of(random.nextInt(4) + "." + random.nextInt(4) + "." + random.nextInt(4) + (random.nextBoolean() ? "-rc." + random.nextInt(3) : "")));
+
+        final VersionCatalog catalog = VersionCatalog.of(versions);
+        Collections.sort(versions);
+        Assertions.assertEquals(versions, catalog.asList());
+
+        for (int major = 0; major < 4; major++) {
+            final long m = major;
+            Version expected = null;
+            for (Version version : versions) {
+                if (version.getMajor() == m && !version.hasPreRelease())
+                    expected = version;
+            }
+            Assertions.assertEquals(expected, catalog.major(major).latestStable());
+        }
+    }
+}
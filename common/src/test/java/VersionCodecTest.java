@@ -0,0 +1,129 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCodec;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class VersionCodecTest {
+    private static final String[] VERSIONS = {
+        "0.0.0",
+        "1.2.3",
+        "9223372036854775807.0.1",
+        "1.0.0-SNAPSHOT",
+        "1.0.0-rc.1",
+        "1.0.0-alpha.beta.0.7+build.5",
+        "2.0.0+exp.sha.5114f85",
+        "1.0.0-99999999999999999999999.x",
+        "1.0.0-a-b--c.0x"
+    };
+
+    private static void assertSame(Version expected, Version actual) {
+        Assertions.assertEquals(expected.getVersionFull(), actual.getVersionFull());
+        Assertions.assertEquals(expected.getPreRelease(), actual.getPreRelease());
+        Assertions.assertArrayEquals(expected.getPreReleaseIdentifiers(), actual.getPreReleaseIdentifiers());
+        Assertions.assertEquals(expected.getBuildMetadata(), actual.getBuildMetadata());
+        Assertions.assertEquals(0, expected.compareTo(actual));
+        for (String other : VERSIONS)
+            Assertions.assertEquals(Integer.signum(expected.compareTo(VersionParser.parse(other))), Integer.signum(actual.compareTo(VersionParser.parse(other))));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (String string : VERSIONS) {
+            final Version version = VersionParser.parse(string);
+            assertSame(version, VersionCodec.decode(VersionCodec.encode(version)));
+        }
+    }
+
+    @Test
+    public void testCompactness() {
+        Assertions.assertEquals(5, VersionCodec.encode(VersionParser.parse("1.2.3")).length);
+        Assertions.assertEquals(9, VersionCodec.encode(VersionParser.parse("1.2.3-rc.1")).length);
+        Assertions.assertTrue(VersionCodec.encode(VersionParser.parse("1.20.4-SNAPSHOT")).length < "1.20.4-SNAPSHOT".length());
+    }
+
+    @Test
+    public void testByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        for (String string : VERSIONS)
+            VersionCodec.encode(VersionParser.parse(string), buffer);
+        buffer.flip();
+
+        for (String string : VERSIONS)
+            assertSame(VersionParser.parse(string), VersionCodec.decode(buffer));
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testDataStreams() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        for (String string : VERSIONS)
+            VersionCodec.encode(VersionParser.parse(string), output);
+
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (String string : VERSIONS)
+            assertSame(VersionParser.parse(string), VersionCodec.decode(input));
+        Assertions.assertThrows(EOFException.class, () -> VersionCodec.decode(input));
+    }
+
+    @Test
+    public void testBatch() throws IOException {
+        final Random random = new Random(16);
+        final String[] qualifiers = {"", "-SNAPSHOT", "-rc.1", "-beta.2+build.7", "+build.7", "-alpha.beta"};
+        final List<Version> versions = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++)
+            versions.add(VersionParser.parse(random.nextInt(3) + "." + random.nextInt(100) + "." + random.nextInt(100) + qualifiers[random.nextInt(qualifiers.length)]));
+        for (String string : VERSIONS)
+            versions.add(VersionParser.parse(string));
+
+        final byte[] encoded = VersionCodec.encodeBatch(versions);
+        final List<Version> decoded = VersionCodec.decodeBatch(encoded);
+        Assertions.assertEquals(versions.size(), decoded.size());
+        for (int i = 0; i < versions.size(); i++)
+            assertSame(versions.get(i), decoded.get(i));
+
+        // Repeated strings are stored once, and shared by the decoded versions
+        int singles = 0;
+        for (Version version : versions)
+            singles += VersionCodec.encode(version).length;
+        Assertions.assertTrue(encoded.length < singles);
+        final List<String> metas = new ArrayList<>();
+        for (Version version : decoded) {
+            if (version.getBuildMetadata().equals("build.7"))
+                metas.add(version.getBuildMetadata());
+        }
+        Assertions.assertTrue(metas.size() > 1);
+        Assertions.assertSame(metas.get(0), metas.get(metas.size() - 1));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        VersionCodec.encodeBatch(versions, new DataOutputStream(bytes));
+        Assertions.assertArrayEquals(encoded, bytes.toByteArray());
+        Assertions.assertEquals(versions.size(), VersionCodec.decodeBatch(new DataInputStream(new ByteArrayInputStream(encoded))).size());
+
+        final ByteBuffer buffer = ByteBuffer.allocate(encoded.length);
+        VersionCodec.encodeBatch(versions, buffer);
+        buffer.flip();
+        Assertions.assertEquals(versions.size(), VersionCodec.decodeBatch(buffer).size());
+    }
+
+    @Test
+    public void testMalformed() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionCodec.decodeBatch(new byte[]{2, 0, 0}));
+        final byte[] overlong = new byte[12];
+        Arrays.fill(overlong, (byte) 0x80);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionCodec.decode(overlong));
+    }
+}
@@ -0,0 +1,75 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionEquivalence;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class VersionEquivalenceTest {
+    @Test
+    public void testEqualsComparesPreRelease() {
+        Assertions.assertNotEquals(Version.of("1.0.0-alpha"), Version.of("1.0.0-beta"));
+        Assertions.assertNotEquals(Version.of("1.0.0-alpha"), Version.of("1.0.0"));
+        Assertions.assertNotEquals(Version.of("1.0.0+build.1"), Version.of("1.0.0+build.2"));
+        Assertions.assertEquals(Version.of("1.0.0-rc.1+build.1"), Version.of("v1.0.0-rc.1+build.1"));
+        Assertions.assertEquals(Version.of("1.0.0-rc.1+build.1").hashCode(), Version.of("v1.0.0-rc.1+build.1").hashCode());
+        Assertions.assertNotEquals(Version.of("1.0.0"), "1.0.0");
+
+        final Set<Version> set = new HashSet<>();
+        set.add(Version.of("1.0.0-alpha"));
+        set.add(Version.of("1.0.0-beta"));
+        set.add(Version.of("1.0.0-beta"));
+        Assertions.assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testPrecedenceEquivalence() {
+        final Version build1 = Version.of("1.0.0-rc.1+build.1");
+        final Version build2 = Version.of("1.0.0-rc.1+build.2");
+        Assertions.assertTrue(VersionEquivalence.PRECEDENCE.equivalent(build1, build2));
+        Assertions.assertEquals(VersionEquivalence.PRECEDENCE.hash(build1), VersionEquivalence.PRECEDENCE.hash(build2));
+        Assertions.assertFalse(VersionEquivalence.EXACT.equivalent(build1, build2));
+        Assertions.assertFalse(VersionEquivalence.PRECEDENCE.equivalent(build1, Version.of("1.0.0-rc.2+build.1")));
+
+        Assertions.assertEquals(VersionEquivalence.PRECEDENCE.wrap(build1), VersionEquivalence.PRECEDENCE.wrap(build2));
+        Assertions.assertNotEquals(VersionEquivalence.EXACT.wrap(build1), VersionEquivalence.EXACT.wrap(build2));
+        Assertions.assertNotEquals(VersionEquivalence.EXACT.wrap(build1), VersionEquivalence.PRECEDENCE.wrap(build1));
+        Assertions.assertSame(build1, VersionEquivalence.PRECEDENCE.wrap(build1).get());
+    }
+
+    @Test
+    public void testConsistentWithCompareTo() {
+        final Random random = new Random(22);
+        final String[] qualifiers = {"", "-alpha", "-alpha.1", "-beta", "-rc.1", "+build.1", "+build.2", "-rc.1+build.1"};
+        final Version[] versions = new Version[500];
+        for (int i = 0; i < versions.length; i++)
+            versions[i] = VersionParser.parse(random.nextInt(2) + "." + random.nextInt(3) + ".0" + qualifiers[random.nextInt(qualifiers.length)]);
+
+        for (Version a : versions) {
+            for (Version b : versions) {
+                Assertions.assertEquals(a.compareTo(b) == 0, VersionEquivalence.PRECEDENCE.equivalent(a, b));
+                Assertions.assertEquals(a.getVersionFull().equals(b.getVersionFull()), a.equals(b));
+                if (a.equals(b))
+                    Assertions.assertEquals(a.hashCode(), b.hashCode());
+                if (a.compareTo(b) == 0)
+                    Assertions.assertEquals(VersionEquivalence.PRECEDENCE.hash(a), VersionEquivalence.PRECEDENCE.hash(b));
+            }
+        }
+    }
+
+    @Test
+    public void testGroupingByPrecedence() {
+        final Map<VersionEquivalence.Key, Integer> counts = new HashMap<>();
+        for (String string : new String[]{"1.0.0+a", "1.0.0+b", "1.0.0", "1.0.0-rc.1", "1.0.0-rc.1+c"})
+            counts.merge(VersionEquivalence.PRECEDENCE.wrap(Version.of(string)), 1, Integer::sum);
+
+        Assertions.assertEquals(2, counts.size());
+        Assertions.assertEquals(3, counts.get(VersionEquivalence.PRECEDENCE.wrap(Version.of("1.0.0"))));
+        Assertions.assertEquals(2, counts.get(VersionEquivalence.PRECEDENCE.wrap(Version.of("1.0.0-rc.1"))));
+    }
+}
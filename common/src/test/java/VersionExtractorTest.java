@@ -0,0 +1,98 @@
+import io.github.milkdrinkers.javasemver.VersionExtractor;
+import io.github.milkdrinkers.javasemver.VersionMatch;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class VersionExtractorTest {
+    private static List<String> extract(String text) {
+        final List<String> versions = new ArrayList<>();
+        for (VersionMatch match : VersionExtractor.findAll(text)) {
+            // The match region always parses to the matched version
+            Assertions.assertEquals(match.getVersion().getVersionFull(), VersionParser.parse(text.substring(match.getStart(), match.getEnd())).getVersionFull());
+            versions.add(text.substring(match.getStart(), match.getEnd()));
+        }
+        return versions;
+    }
+
+    @Test
+    public void testFileNames() {
+        Assertions.assertEquals(List.of("2.4.1-SNAPSHOT"), extract("plugin-2.4.1-SNAPSHOT.jar"));
+        Assertions.assertEquals(List.of("2.4.1"), extract("plugin-2.4.1.jar"));
+        Assertions.assertEquals(List.of("1.0.0+build.7"), extract("lib_v2-1.0.0+build.7.tar.gz"));
+        Assertions.assertEquals(List.of("v3.0.0-rc.1"), extract("release v3.0.0-rc.1.zip"));
+    }
+
+    @Test
+    public void testBanners() {
+        Assertions.assertEquals(List.of("1.20.4", "5.1.0-beta"), extract("Server running Paper 1.20.4 (Java 17, API 5.1.0-beta)."));
+        Assertions.assertEquals(List.of("1.0.0", "2.0.0"), extract("Upgrade from 1.0.0, to 2.0.0."));
+        Assertions.assertEquals(List.of("1.0.0"), extract("1.0.0"));
+    }
+
+    @Test
+    public void testTokenBoundaries() {
+        Assertions.assertTrue(extract("1.2.3.4").isEmpty());
+        Assertions.assertTrue(extract("abc1.2.3").isEmpty());
+        Assertions.assertTrue(extract("dev1.2.3").isEmpty());
+        Assertions.assertTrue(extract("1.2.3abc").isEmpty());
+        Assertions.assertTrue(extract("1.2.3_01").isEmpty());
+        Assertions.assertTrue(extract("01.2.3 1.2 1..2.3").isEmpty());
+        Assertions.assertEquals(List.of("1.2.3"), extract("(1.2.3)"));
+        Assertions.assertEquals(List.of("1.2.3"), extract("version=1.2.3;"));
+    }
+
+    @Test
+    public void testLongestValidPrefix() {
+        Assertions.assertEquals(List.of("1.2.3-beta"), extract("1.2.3-beta..1"));
+        Assertions.assertEquals(List.of("1.2.3"), extract("1.2.3-"));
+        Assertions.assertEquals(List.of("1.2.3"), extract("1.2.3+"));
+        Assertions.assertEquals(List.of("1.2.3"), extract("1.2.3-01"));
+        Assertions.assertEquals(List.of("1.2.3-rc"), extract("1.2.3-rc+"));
+        Assertions.assertEquals(List.of("1.2.3-alpha"), extract("1.2.3-alpha.01 ok"));
+        Assertions.assertEquals(List.of("1.2.3-alpha.1"), extract("1.2.3-alpha.1.02"));
+        Assertions.assertEquals(List.of("1.2.3-rc+build"), extract("1.2.3-rc+build..7"));
+    }
+
+    @Test
+    public void testOffsets() {
+        final VersionMatch match = VersionExtractor.find("see 1.2.3 and 4.5.6", 0);
+        Assertions.assertEquals(4, match.getStart());
+        Assertions.assertEquals(9, match.getEnd());
+        Assertions.assertEquals("4.5.6", VersionExtractor.find("see 1.2.3 and 4.5.6", 9).getVersion().getVersion());
+        Assertions.assertNull(VersionExtractor.find("see 1.2.3 and 4.5.6", 15));
+    }
+
+    @Test
+    public void testBytes() {
+        final byte[] bytes = "xx plugin-2.4.1-SNAPSHOT.jar und 3.0.0 \u2713".getBytes(StandardCharsets.UTF_8);
+        final List<VersionMatch> matches = VersionExtractor.findAll(bytes, 2, bytes.length - 2);
+        Assertions.assertEquals(2, matches.size());
+        Assertions.assertEquals("2.4.1-SNAPSHOT", matches.get(0).getVersion().getVersionFull());
+        Assertions.assertEquals(10, matches.get(0).getStart());
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        Assertions.assertEquals("3.0.0", VersionExtractor.findAll(buffer).get(1).getVersion().getVersionFull());
+        Assertions.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testMatchesAreValidOnRandomText() {
+        final Random random = new Random(5);
+        final String alphabet = "0123456789..--+ vab_x";
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder text = new StringBuilder();
+            final int length = random.nextInt(30);
+            for (int j = 0; j < length; j++)
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            extract(text.toString());
+        }
+    }
+}
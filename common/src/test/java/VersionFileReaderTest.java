@@ -0,0 +1,112 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionFileReader;
+import io.github.milkdrinkers.javasemver.VersionLineHandler;
+import io.github.milkdrinkers.javasemver.VersionParseError;
+import io.github.milkdrinkers.javasemver.VersionParseResult;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public class VersionFileReaderTest {
+    @TempDir
+    Path directory;
+
+    private Path write(String content) throws IOException {
+        final Path file = directory.resolve("versions.txt");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void testIterator() throws IOException {
+        final Path file = write("1.0.0\r\n  2.0.0-beta+build  \n\nnot a version\n\t3.1.4");
+
+        final List<String> versions = new ArrayList<>();
+        try (VersionFileReader reader = VersionFileReader.open(file)) {
+            while (reader.hasNext())
+                versions.add(reader.next().getVersionFull());
+            Assertions.assertEquals(1, reader.getFailureCount());
+        }
+        Assertions.assertEquals(List.of("1.0.0", "2.0.0-beta+build", "3.1.4"), versions);
+    }
+
+    @Test
+    public void testHandlerReportsFailures() throws IOException {
+        final Path file = write("1.0.0\n  1.2\n01.0.0\n");
+        final Map<Long, String> lines = new TreeMap<>();
+        VersionFileReader.forEach(file, new VersionLineHandler() {
+            @Override
+            public void onVersion(long offset, @NotNull Version version) {
+                lines.put(offset, version.getVersionFull());
+            }
+
+            @Override
+            public void onFailure(long offset, @NotNull VersionParseError error, int errorIndex) {
+                lines.put(offset, error + "@" + errorIndex);
+            }
+        });
+
+        Assertions.assertEquals("{0=1.0.0, 8=UNEXPECTED_END@3, 12=LEADING_ZERO@0}", lines.toString());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        final Path file = write("");
+        try (VersionFileReader reader = VersionFileReader.open(file)) {
+            Assertions.assertFalse(reader.hasNext());
+        }
+        VersionFileReader.parallelForEach(file, (offset, version) -> Assertions.fail());
+    }
+
+    @Test
+    public void testParallelMatchesSequential() throws IOException {
+        final Random random = new Random(11);
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300_000; i++) {
+            if (random.nextInt(50) == 0) {
+                content.append("garbage-").append(i);
+            } else {
+                content.append(random.nextInt(5)).append('.').append(random.nextInt(100)).append('.').append(i);
+                if (random.nextBoolean())
+                    content.append("-rc.").append(random.nextInt(9));
+            }
+            content.append(random.nextInt(10) == 0 ? "\r\n" : "\n");
+        }
+        final Path file = write(content.toString());
+
+        final Map<Long, String> sequential = new TreeMap<>();
+        VersionFileReader.forEach(file, (offset, version) -> sequential.put(offset, version.getVersionFull()));
+
+        final Map<Long, String> parallel = new ConcurrentHashMap<>();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            VersionFileReader.parallelForEach(file, (offset, version) -> parallel.put(offset, version.getVersionFull()), pool);
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertEquals(sequential, new TreeMap<>(parallel));
+
+        // Every line parses the same as parsing its string
+        final String text = content.toString();
+        for (Map.Entry<Long, String> entry : sequential.entrySet()) {
+            final int start = entry.getKey().intValue();
+            int end = text.indexOf('\n', start);
+            final VersionParseResult result = VersionParser.tryParse(text.substring(start, end).trim());
+            Assertions.assertEquals(entry.getValue(), result.getVersion().getVersionFull());
+        }
+    }
+}
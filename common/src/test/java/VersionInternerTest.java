@@ -0,0 +1,88 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionInterner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class VersionInternerTest {
+    @Test
+    public void testReturnsCanonicalInstance() {
+        VersionInterner interner = new VersionInterner();
+        Version v1 = interner.intern(Version.of("1.2.3-rc.1+build.5"));
+        Version v2 = interner.intern(Version.of("v1.2.3-rc.1+build.5"));
+        Version v3 = interner.parse("1.2.3-rc.1+build.5");
+
+        Assertions.assertSame(v1, v2);
+        Assertions.assertSame(v1, v3);
+        Assertions.assertEquals(1, interner.size());
+        Assertions.assertEquals(0, v1.compareTo(v2));
+    }
+
+    @Test
+    public void testDistinctVersionsStayDistinct() {
+        VersionInterner interner = new VersionInterner();
+        Version alpha = interner.parse("1.0.0-alpha");
+        Version beta = interner.parse("1.0.0-beta");
+        Version build1 = interner.parse("1.0.0+build.1");
+        Version build2 = interner.parse("1.0.0+build.2");
+
+        Assertions.assertNotSame(alpha, beta);
+        Assertions.assertNotSame(build1, build2);
+        Assertions.assertEquals(4, interner.size());
+    }
+
+    @Test
+    public void testUnusedVersionsAreCollected() throws InterruptedException {
+        VersionInterner interner = new VersionInterner();
+        WeakReference<Version> reference = new WeakReference<>(interner.parse("9.9.9"));
+
+        for (int i = 0; i < 50 && (reference.get() != null || interner.size() != 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        Assertions.assertNull(reference.get());
+        Assertions.assertEquals(0, interner.size());
+        Assertions.assertNotNull(interner.parse("9.9.9"));
+        Assertions.assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testConcurrentInterning() throws Exception {
+        final int threads = 8;
+        final VersionInterner interner = new VersionInterner();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Version[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Version[] versions = new Version[1000];
+                    for (int i = 0; i < versions.length; i++)
+                        versions[i] = interner.parse("1." + i + ".0-SNAPSHOT");
+                    return versions;
+                }));
+            }
+
+            start.countDown();
+            Version[] first = futures.get(0).get(1, TimeUnit.MINUTES);
+            for (Future<Version[]> future : futures) {
+                Version[] versions = future.get(1, TimeUnit.MINUTES);
+                for (int i = 0; i < versions.length; i++)
+                    Assertions.assertSame(first[i], versions[i]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCheckResult;
+import io.github.milkdrinkers.javasemver.VersionCompare;
+import io.github.milkdrinkers.javasemver.VersionKey;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class VersionKeyTest {
+    private static final String[] IDENTIFIERS = {"0", "1", "2", "11", "255", "256", "65536", "9223372036854775807", "99999999999999999999", "100000000000000000000", "a", "alpha", "alphabet", "beta", "rc", "RC", "-", "0a", "x01", "x-y"};
+
+    private static int signum(VersionCheckResult result) {
+        return result == VersionCheckResult.EQUAL ? 0 : result == VersionCheckResult.NEWER ? 1 : -1;
+    }
+
+    private static List<Version> randomVersions(int size) {
+        final Random random = new Random(size);
+        final long[] numbers = {0, 1, 2, 127, 128, 255, 256, 70_000, Integer.MAX_VALUE, Long.MAX_VALUE};
+        final List<Version> versions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final StringBuilder builder = new StringBuilder();
+            builder.append(numbers[random.nextInt(3)]).append('.').append(numbers[random.nextInt(numbers.length)]).append('.').append(numbers[random.nextInt(numbers.length)]);
+            final int identifiers = random.nextInt(4);
+            for (int n = 0; n < identifiers; n++)
+                builder.append(n == 0 ? '-' : '.').append(IDENTIFIERS[random.nextInt(IDENTIFIERS.length)]);
+            if (random.nextInt(4) == 0)
+                builder.append("+build.").append(random.nextInt(3));
+            versions.add(VersionParser.parse(builder.toString()));
+        }
+        return versions;
+    }
+
+    @Test
+    public void testKeyOrderMatchesPrecedence() {
+        final List<Version> versions = randomVersions(600);
+        final List<byte[]> keys = new ArrayList<>();
+        for (Version version : versions)
+            keys.add(VersionKey.encode(version));
+
+        for (int i = 0; i < versions.size(); i++) {
+            for (int j = 0; j < versions.size(); j++) {
+                final int expected = signum(VersionCompare.compare(versions.get(i), versions.get(j)));
+                final int actual = Integer.signum(VersionKey.compare(keys.get(i), keys.get(j)));
+                if (expected != 0) {
+                    Assertions.assertEquals(expected, actual, versions.get(i) + " vs " + versions.get(j));
+                } else {
+                    // Equal precedence only has equal keys if the build-metadata is equal too
+                    Assertions.assertEquals(versions.get(i).getBuildMetadata().equals(versions.get(j).getBuildMetadata()), actual == 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSpecOrder() {
+        final String[] ordered = {"1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta", "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "1.0.1", "1.1.0", "2.0.0", "256.0.0"};
+        for (int i = 1; i < ordered.length; i++)
+            Assertions.assertTrue(VersionKey.compare(VersionKey.encode(VersionParser.parse(ordered[i - 1])), VersionKey.encode(VersionParser.parse(ordered[i]))) < 0, ordered[i]);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (Version version : randomVersions(2_000)) {
+            final byte[] key = VersionKey.encode(version);
+            Assertions.assertEquals(VersionKey.length(version), key.length);
+
+            final Version decoded = VersionKey.decode(key);
+            Assertions.assertEquals(version.getVersionFull(), decoded.getVersionFull());
+            Assertions.assertArrayEquals(version.getPreReleaseIdentifiers(), decoded.getPreReleaseIdentifiers());
+            Assertions.assertEquals(VersionCheckResult.EQUAL, VersionCompare.compare(version, decoded));
+        }
+    }
+
+    @Test
+    public void testBuffers() {
+        final List<Version> versions = randomVersions(300);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (int i = 1; i < versions.size(); i++) {
+                final ByteBuffer a = ByteBuffer.allocateDirect(128).order(order);
+                final ByteBuffer b = ByteBuffer.allocate(128).order(order);
+                a.position(3);
+                VersionKey.encode(versions.get(i - 1), a);
+                VersionKey.encode(versions.get(i), b);
+                a.limit(a.position()).position(3);
+                b.flip();
+
+                final int expected = Integer.signum(VersionKey.compare(VersionKey.encode(versions.get(i - 1)), VersionKey.encode(versions.get(i))));
+                Assertions.assertEquals(expected, Integer.signum(VersionKey.compare(a, b)));
+                Assertions.assertEquals(3, a.position());
+            }
+        }
+    }
+
+    @Test
+    public void testSortedStore() {
+        final List<Version> versions = randomVersions(1_000);
+        final List<byte[]> keys = new ArrayList<>();
+        for (Version version : versions)
+            keys.add(VersionKey.encode(version));
+        keys.sort(VersionKey.comparator());
+
+        for (int i = 1; i < keys.size(); i++)
+            Assertions.assertNotEquals(VersionCheckResult.NEWER, VersionCompare.compare(VersionKey.decode(keys.get(i - 1)), VersionKey.decode(keys.get(i))));
+    }
+
+    @Test
+    public void testRejectsCharsOutsideSemVer() {
+        // The builder accepts any pre-release and build-metadata, so keys must reject what they can't encode
+        final char[] chars = {'a', 'Z', '0', '7', '-', '\u0100', '\u00e9', '\u2713', '_', ' ', '\u0000', '\uD83D'};
+        final Random random = new Random(17);
+        final List<Version> encodable = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            final String preRelease = randomIdentifiers(random, chars);
+            final String meta = randomIdentifiers(random, chars);
+            final Version version = Version.of(1, 0, 0, preRelease, meta);
+
+            boolean valid = preRelease.isEmpty() || !(preRelease.startsWith(".") || preRelease.endsWith(".") || preRelease.contains(".."));
+            for (char c : (preRelease + meta).toCharArray())
+                valid &= c < 0x80 && (Character.isLetterOrDigit(c) || c == '-' || c == '.');
+
+            if (valid) {
+                final Version decoded = VersionKey.decode(VersionKey.encode(version));
+                Assertions.assertEquals(version, decoded);
+                Assertions.assertEquals(version.getVersionFull(), decoded.getVersionFull());
+                encodable.add(version);
+            } else {
+                Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.encode(version), version::getVersionFull);
+                final ByteBuffer buffer = ByteBuffer.allocate(64);
+                Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.encode(version, buffer));
+                Assertions.assertEquals(0, buffer.position());
+            }
+        }
+
+        Assertions.assertFalse(encodable.isEmpty());
+        for (Version version : encodable) {
+            for (Version other : encodable) {
+                final int expected = Integer.signum(version.compareTo(other));
+                if (expected != 0)
+                    Assertions.assertEquals(expected, Integer.signum(VersionKey.compare(VersionKey.encode(version), VersionKey.encode(other))));
+            }
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.encode(Version.of(1, 0, 0, "a\u0100b")));
+
+        // Empty identifiers are dropped from the identifiers, so "a..b" would otherwise get the same key as "a.b"
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.encode(Version.of(1, 0, 0, "a..b")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.encode(Version.of(1, 0, 0, ".a")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.encode(Version.of(1, 0, 0, "a.")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionKey.length(Version.of(1, 0, 0, ".")));
+        Assertions.assertEquals(Version.of(1, 0, 0, "a.b", "x..y"), VersionKey.decode(VersionKey.encode(Version.of(1, 0, 0, "a.b", "x..y"))));
+    }
+
+    private static String randomIdentifiers(Random random, char[] chars) {
+        final StringBuilder builder = new StringBuilder();
+        final int identifiers = random.nextInt(3);
+        for (int n = 0; n < identifiers; n++) {
+            if (n > 0)
+                builder.append('.');
+            final int length = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(3);
+            for (int i = 0; i < length; i++)
+                builder.append(chars[random.nextInt(random.nextInt(3) == 0 ? chars.length : 5)]);
+        }
+        return builder.toString();
+    }
+}
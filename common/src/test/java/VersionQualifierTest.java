@@ -0,0 +1,86 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionQualifier;
+import io.github.milkdrinkers.javasemver.VersionQualifierRanking;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class VersionQualifierTest {
+    @Test
+    public void testClassify() {
+        Assertions.assertTrue(Version.of("1.0.0-RC2").isRC());
+        Assertions.assertTrue(Version.of("1.0.0-alpha1").isAlpha());
+        Assertions.assertTrue(Version.of("1.0.0-beta.3").isBeta());
+        Assertions.assertTrue(Version.of("1.0.0-devel").isDev());
+
+        final Version snapshot = Version.of("1.0.0-develop-SNAPSHOT");
+        Assertions.assertTrue(snapshot.hasQualifier(VersionQualifier.DEVELOPMENT));
+        Assertions.assertTrue(snapshot.hasQualifier(VersionQualifier.SNAPSHOT));
+        Assertions.assertFalse(snapshot.hasQualifier(VersionQualifier.ALPHA));
+    }
+
+    @Test
+    public void testClassifyMatchesWholeWords() {
+        Assertions.assertFalse(Version.of("1.0.0-source").isRC());
+        Assertions.assertFalse(Version.of("1.0.0-devops").isDev());
+        Assertions.assertFalse(Version.of("1.0.0-alphabet").isAlpha());
+        Assertions.assertFalse(Version.of("1.0.0-rc").isAlpha());
+        Assertions.assertFalse(Version.of("1.0.0+alpha").isAlpha());
+        Assertions.assertFalse(Version.of("1.0.0").isDev());
+    }
+
+    @Test
+    public void testDefaultRanking() {
+        final VersionQualifierRanking ranking = VersionQualifierRanking.DEFAULT;
+        Assertions.assertEquals(0, ranking.rank(Version.of("1.0.0-1")));
+        Assertions.assertEquals(ranking.rank(VersionQualifier.DEVELOPMENT), ranking.rank(Version.of("1.0.0-develop-SNAPSHOT")));
+        Assertions.assertTrue(ranking.rank(Version.of("1.0.0-dev")) < ranking.rank(Version.of("1.0.0-alpha")));
+        Assertions.assertTrue(ranking.rank(Version.of("1.0.0-alpha")) < ranking.rank(Version.of("1.0.0-beta")));
+        Assertions.assertTrue(ranking.rank(Version.of("1.0.0-beta")) < ranking.rank(Version.of("1.0.0-rc.1")));
+        Assertions.assertEquals(ranking.releaseRank(), ranking.rank(Version.of("1.0.0")));
+        Assertions.assertEquals(6, ranking.releaseRank());
+    }
+
+    @Test
+    public void testCustomRanking() {
+        final VersionQualifierRanking ranking = VersionQualifierRanking.of(VersionQualifier.BETA, VersionQualifier.ALPHA);
+        Assertions.assertTrue(ranking.rank(Version.of("1.0.0-beta")) < ranking.rank(Version.of("1.0.0-alpha")));
+        Assertions.assertEquals(0, ranking.rank(Version.of("1.0.0-rc.1")));
+        Assertions.assertEquals(-1, ranking.rank(VersionQualifier.RELEASE_CANDIDATE));
+        Assertions.assertEquals(3, ranking.releaseRank());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VersionQualifierRanking.of(VersionQualifier.BETA, VersionQualifier.BETA));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ranking.isAtLeast(Version.of("1.0.0"), VersionQualifier.RELEASE_CANDIDATE));
+    }
+
+    @Test
+    public void testChannelFilter() {
+        final List<Version> versions = versions("1.0.0-dev.1", "1.0.0-alpha.1", "1.0.0-beta.1", "1.0.0-rc.1", "1.0.0", "1.1.0-SNAPSHOT");
+        final List<String> filtered = versions.stream()
+            .filter(version -> VersionQualifierRanking.DEFAULT.isAtLeast(version, VersionQualifier.BETA))
+            .map(Version::getVersionFull)
+            .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList("1.0.0-beta.1", "1.0.0-rc.1", "1.0.0"), filtered);
+    }
+
+    @Test
+    public void testChannelSort() {
+        final List<Version> versions = versions("2.0.0-alpha", "1.0.0", "1.0.0-rc.2", "2.0.0", "1.1.0-rc.1", "1.0.0-rc.1", "3.0.0-dev");
+        versions.sort(VersionQualifierRanking.DEFAULT.comparator());
+        Assertions.assertEquals(
+            Arrays.asList("3.0.0-dev", "2.0.0-alpha", "1.0.0-rc.1", "1.0.0-rc.2", "1.1.0-rc.1", "1.0.0", "2.0.0"),
+            versions.stream().map(Version::getVersionFull).collect(Collectors.toList())
+        );
+    }
+
+    private static List<Version> versions(String... versions) {
+        final List<Version> list = new ArrayList<>();
+        for (String version : versions)
+            list.add(Version.of(version));
+        return list;
+    }
+}
@@ -0,0 +1,108 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.VersionRangeIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class VersionRangeIndexTest {
+    private static final String[] OPERATORS = {"", "=", "<", "<=", ">", ">=", "~", "^"};
+    private static final String[] PRE_RELEASES = {"", "-alpha", "-beta.1", "-0", "-rc.2"};
+
+    private static String randomVersion(Random random) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(random.nextInt(4));
+        if (random.nextInt(4) > 0) {
+            builder.append('.').append(random.nextInt(4));
+            if (random.nextInt(3) > 0)
+                builder.append('.').append(random.nextInt(4)).append(PRE_RELEASES[random.nextInt(PRE_RELEASES.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String randomRange(Random random) {
+        final StringBuilder builder = new StringBuilder();
+        final int sets = 1 + random.nextInt(3);
+        for (int set = 0; set < sets; set++) {
+            if (set > 0)
+                builder.append(" || ");
+            if (random.nextInt(10) == 0) {
+                builder.append(randomVersion(random)).append(" - ").append(randomVersion(random));
+                continue;
+            }
+            final int comparators = 1 + random.nextInt(2);
+            for (int i = 0; i < comparators; i++)
+                builder.append(i > 0 ? " " : "").append(OPERATORS[random.nextInt(OPERATORS.length)]).append(randomVersion(random));
+        }
+        return builder.toString();
+    }
+
+    private static Version randomFullVersion(Random random) {
+        return Version.of(random.nextInt(5) + "." + random.nextInt(5) + "." + random.nextInt(5) + PRE_RELEASES[random.nextInt(PRE_RELEASES.length)]);
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        final Random random = new Random(42);
+        final Map<String, VersionRange> ranges = new LinkedHashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            final String range = randomRange(random);
+            ranges.put(range, VersionRange.parse(range));
+        }
+        final VersionRangeIndex<String> index = VersionRangeIndex.of(ranges);
+        Assertions.assertEquals(ranges.size(), index.size());
+
+        for (int i = 0; i < 2000; i++) {
+            final Version version = randomFullVersion(random);
+
+            final Set<String> expected = new HashSet<>();
+            for (Map.Entry<String, VersionRange> entry : ranges.entrySet()) {
+                if (entry.getValue().contains(version))
+                    expected.add(entry.getKey());
+            }
+
+            final List<String> actual = index.query(version);
+            Assertions.assertEquals(expected.size(), actual.size(), "Duplicate or missing matches for " + version);
+            Assertions.assertEquals(expected, new HashSet<>(actual), "Matches for " + version);
+        }
+    }
+
+    @Test
+    public void testUnboundedRanges() {
+        final VersionRangeIndex<String> index = VersionRangeIndex.of(Arrays.asList("*", "<1.0.0", ">=1.0.0", ">2 <1"), VersionRange::parse);
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("*", "<1.0.0")), new HashSet<>(index.query(Version.of("0.5.0"))));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("*", ">=1.0.0")), new HashSet<>(index.query(Version.of("1.0.0"))));
+        Assertions.assertTrue(VersionRangeIndex.of(Collections.<String>emptyList(), VersionRange::parse).query(Version.of("1.0.0")).isEmpty());
+    }
+
+    @Test
+    public void testSelect() {
+        final Random random = new Random(7);
+        final List<Version> versions = new ArrayList<>();
+        for (int i = 0; i < 500; i++)
+            versions.add(randomFullVersion(random));
+        Collections.sort(versions);
+
+        for (int i = 0; i < 500; i++) {
+            final VersionRange range = VersionRange.parse(randomRange(random));
+
+            final List<Version> expected = new ArrayList<>();
+            for (Version version : versions) {
+                if (range.contains(version))
+                    expected.add(version);
+            }
+
+            Assertions.assertEquals(expected, VersionRangeIndex.select(versions, range), range.toString());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.exception.VersionParseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VersionRangeTest {
+    private static void assertMatches(String range, String... versions) {
+        final VersionRange versionRange = VersionRange.parse(range);
+        for (String version : versions)
+            Assertions.assertTrue(versionRange.contains(Version.of(version)), range + " should contain " + version);
+    }
+
+    private static void assertNotMatches(String range, String... versions) {
+        final VersionRange versionRange = VersionRange.parse(range);
+        for (String version : versions)
+            Assertions.assertFalse(versionRange.contains(Version.of(version)), range + " should not contain " + version);
+    }
+
+    @Test
+    public void testComparators() {
+        assertMatches(">=1.0.0", "1.0.0", "1.0.1", "2.0.0");
+        assertNotMatches(">=1.0.0", "0.9.9", "1.0.0-alpha");
+        assertMatches(">1.0.0", "1.0.1", "1.0.1-alpha");
+        assertNotMatches(">1.0.0", "1.0.0", "1.0.0+build");
+        assertMatches("<1.0.0", "0.9.9", "1.0.0-rc.1");
+        assertMatches("<=1.0.0", "1.0.0", "1.0.0+build");
+        assertMatches("=1.2.3", "1.2.3");
+        assertMatches("1.2.3", "1.2.3", "v1.2.3");
+        assertNotMatches("1.2.3", "1.2.4", "1.2.3-alpha");
+    }
+
+    @Test
+    public void testPartialVersions() {
+        assertMatches("1.x", "1.0.0", "1.9.9", "1.0.0-alpha");
+        assertNotMatches("1.x", "2.0.0-alpha", "0.9.9");
+        assertMatches("v1.x", "1.0.0", "1.9.9");
+        assertMatches("1.2", "1.2.0", "1.2.99");
+        assertNotMatches("1.2", "1.3.0", "1.1.9");
+        assertMatches("*", "0.0.0", "99.99.99");
+        assertMatches(">1.2", "1.3.0", "1.3.0-alpha");
+        assertNotMatches(">1.2", "1.2.9");
+        assertMatches("<=1.2", "1.2.9");
+        assertNotMatches("<=1.2", "1.3.0-alpha");
+        assertNotMatches("<1.2", "1.2.0-alpha", "1.2.0");
+        Assertions.assertTrue(VersionRange.parse("<*").isEmpty());
+        Assertions.assertTrue(VersionRange.parse(">*").isEmpty());
+    }
+
+    @Test
+    public void testTildeRanges() {
+        assertMatches("~1.2.3", "1.2.3", "1.2.9");
+        assertNotMatches("~1.2.3", "1.2.2", "1.3.0", "1.3.0-alpha");
+        assertMatches("~>1.2.3", "1.2.9");
+        assertMatches("~1.2", "1.2.0", "1.2.9");
+        assertNotMatches("~1.2", "1.3.0");
+        assertMatches("~1", "1.0.0", "1.9.0");
+        assertNotMatches("~1", "2.0.0");
+    }
+
+    @Test
+    public void testCaretRanges() {
+        assertMatches("^1.2.3", "1.2.3", "1.9.0");
+        assertNotMatches("^1.2.3", "1.2.2", "2.0.0", "2.0.0-alpha");
+        assertMatches("^0.2.3", "0.2.3", "0.2.9");
+        assertNotMatches("^0.2.3", "0.3.0");
+        assertMatches("^0.0.3", "0.0.3");
+        assertNotMatches("^0.0.3", "0.0.4");
+        assertMatches("^1.2", "1.2.0", "1.9.9");
+        assertNotMatches("^1.2", "1.1.9", "2.0.0");
+        assertMatches("^0.2", "0.2.0", "0.2.9");
+        assertNotMatches("^0.2", "0.3.0");
+    }
+
+    @Test
+    public void testHyphenRanges() {
+        assertMatches("1.2.3 - 2.3.4", "1.2.3", "2.3.4", "2.0.0");
+        assertNotMatches("1.2.3 - 2.3.4", "1.2.2", "2.3.5");
+        assertMatches("1.2 - 2.3", "1.2.0", "2.3.9");
+        assertNotMatches("1.2 - 2.3", "2.4.0");
+        Assertions.assertTrue(VersionRange.parse("2.0.0 - 1.0.0").isEmpty());
+    }
+
+    @Test
+    public void testIntersectionAndUnion() {
+        assertMatches(">=1.0 <2.0 || 3.x", "1.0.0", "1.9.9", "3.5.0");
+        assertNotMatches(">=1.0 <2.0 || 3.x", "0.9.0", "2.0.0", "2.5.0", "4.0.0");
+        assertMatches(">= 1.0, < 2.0", "1.5.0");
+        assertNotMatches(">= 1.0, < 2.0", "2.0.0");
+        Assertions.assertTrue(VersionRange.parse(">2.0.0 <1.0.0").isEmpty());
+        Assertions.assertTrue(VersionRange.parse("").isAny());
+    }
+
+    @Test
+    public void testNormalization() {
+        Assertions.assertEquals(">=1.0.0-0 <3.0.0-0", VersionRange.parse("2.x || 1.x").toString());
+        Assertions.assertEquals(">=1.0.0 <=3.0.0", VersionRange.parse(">=1.0.0 <2.0.0 || >=2.0.0 <=3.0.0").toString());
+        Assertions.assertEquals(">=1.0.0 <2.0.0 || >2.0.0 <3.0.0", VersionRange.parse(">=1.0.0 <2.0.0 || >2.0.0 <3.0.0").toString());
+        Assertions.assertEquals("1.2.3", VersionRange.parse(">=1.2.3 <=1.2.3").toString());
+        Assertions.assertEquals("*", VersionRange.parse("* || 1.x").toString());
+        Assertions.assertEquals("<2.0.0", VersionRange.parse("<1.0.0 || <2.0.0").toString());
+        Assertions.assertEquals("<0.0.0-0", VersionRange.parse(">2 <1").toString());
+
+        // The empty range string parses back to an empty range
+        final VersionRange empty = VersionRange.parse(">2.0.0 <1.0.0");
+        final VersionRange reparsed = VersionRange.parse(empty.toString());
+        Assertions.assertEquals(empty, reparsed);
+        Assertions.assertTrue(reparsed.isEmpty());
+        Assertions.assertEquals(empty.toString(), reparsed.toString());
+        Assertions.assertTrue(VersionRange.parse("<0").isEmpty());
+        Assertions.assertTrue(VersionRange.parse("<0.0.0-0 || <0.0.0-0").isEmpty());
+        Assertions.assertFalse(VersionRange.parse("<=0.0.0-0").isEmpty());
+        Assertions.assertEquals("1.0.0", VersionRange.parse("1.0.0 || <0.0.0-0").toString());
+        Assertions.assertEquals(VersionRange.parse("^1.2.3"), VersionRange.parse(">=1.2.3 <2.0.0-0"));
+        Assertions.assertEquals(VersionRange.parse("^1.2.3").hashCode(), VersionRange.parse(">=1.2.3+build <2.0.0-0").hashCode());
+    }
+
+    @Test
+    public void testManyIntervals() {
+        final StringBuilder range = new StringBuilder();
+        for (int i = 0; i < 100; i += 2)
+            range.append(i == 0 ? "" : " || ").append(i).append(".x");
+
+        final VersionRange versionRange = VersionRange.parse(range.toString());
+        for (int i = 0; i < 100; i++)
+            Assertions.assertEquals(i % 2 == 0, versionRange.contains(Version.of(i + ".5.0")), "Major " + i);
+    }
+
+    @Test
+    public void testExactly() {
+        final VersionRange range = VersionRange.exactly(Version.of("1.2.3-beta+build"));
+        Assertions.assertTrue(range.contains(Version.of("1.2.3-beta")));
+        Assertions.assertFalse(range.contains(Version.of("1.2.3")));
+        Assertions.assertEquals("1.2.3-beta", range.toString());
+    }
+
+    @Test
+    public void testLargeNumbers() {
+        assertMatches("^" + Long.MAX_VALUE + ".0.0", Long.MAX_VALUE + ".5.0");
+        Assertions.assertTrue(VersionRange.parse(">" + Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void testInvalidRanges() {
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse(">="));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("1.2.3 -"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("1.2.3 - 2 - 3"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("=>1.2.3"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("1.x.3"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("01.2"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("1.2.3.4"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("1.2-beta"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("abc"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("v"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse(">=v"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("<v"));
+        Assertions.assertThrows(VersionParseException.class, () -> VersionRange.parse("~V"));
+    }
+}
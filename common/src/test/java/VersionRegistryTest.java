@@ -0,0 +1,129 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCatalog;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.VersionRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class VersionRegistryTest {
+    @Test
+    public void testPublishAndLookup() {
+        final VersionRegistry<String> registry = new VersionRegistry<>();
+        Assertions.assertTrue(registry.get("plugin").isEmpty());
+        Assertions.assertNull(registry.latest("plugin"));
+
+        registry.publish("plugin", Version.of("1.0.0"));
+        registry.publish("plugin", Version.of("2.0.0-beta"));
+        registry.publish("plugin", Version.of("1.1.0"));
+
+        Assertions.assertEquals(Version.of("2.0.0-beta"), registry.latest("plugin"));
+        Assertions.assertEquals(Version.of("1.1.0"), registry.latestStable("plugin"));
+        Assertions.assertEquals(Version.of("1.1.0"), registry.latest("plugin", VersionRange.parse("^1.0")));
+        Assertions.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testSnapshotsAreImmutable() {
+        final VersionRegistry<String> registry = new VersionRegistry<>();
+        final VersionCatalog before = registry.publish("plugin", Version.of("1.0.0"));
+        registry.publish("plugin", Version.of("1.1.0"));
+
+        Assertions.assertEquals(1, before.size());
+        Assertions.assertEquals(2, registry.get("plugin").size());
+    }
+
+    @Test
+    public void testRepublishAndRetract() {
+        final VersionRegistry<String> registry = new VersionRegistry<>();
+        final VersionCatalog catalog = registry.publishAll("plugin", Arrays.asList(Version.of("1.0.0"), Version.of("1.1.0"), Version.of("1.2.0")));
+        Assertions.assertSame(catalog, registry.publish("plugin", Version.of("1.1.0")));
+        Assertions.assertSame(catalog, registry.publishAll("plugin", Arrays.asList(Version.of("1.0.0"), Version.of("1.2.0+build.1"))));
+
+        // Versions of equal precedence to a published version, or to an earlier version of the batch, are skipped
+        final VersionCatalog updated = registry.publishAll("plugin", Arrays.asList(Version.of("1.3.0+build.1"), Version.of("1.1.0"), Version.of("1.3.0+build.2"), Version.of("0.9.0")));
+        Assertions.assertEquals("[0.9.0, 1.0.0, 1.1.0, 1.2.0, 1.3.0+build.1]", updated.toString());
+        Assertions.assertSame(updated, registry.get("plugin"));
+
+        registry.retract("plugin", Version.of("1.3.0"));
+        registry.retract("plugin", Version.of("1.2.0"));
+        Assertions.assertEquals(Version.of("1.1.0"), registry.latest("plugin"));
+
+        Assertions.assertTrue(registry.retract("other", Version.of("1.0.0")).isEmpty());
+        Assertions.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testConcurrentPublishAndLookup() throws Exception {
+        final VersionRegistry<String> registry = new VersionRegistry<>();
+        final String[] keys = {"a", "b", "c"};
+        final int writers = 4;
+        final int readers = 4;
+        final int versionsPerWriter = 500;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            final List<Future<?>> writerFutures = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                final int w = writer;
+                writerFutures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < versionsPerWriter; i++)
+                        registry.publish(keys[i % keys.length], Version.of(w + "." + i + ".0"));
+                    return null;
+                }));
+            }
+
+            final List<Future<?>> readerFutures = new ArrayList<>();
+            for (int reader = 0; reader < readers; reader++) {
+                readerFutures.add(executor.submit(() -> {
+                    start.await();
+                    final int[] lastSize = new int[keys.length];
+                    while (writing.get()) {
+                        for (int k = 0; k < keys.length; k++) {
+                            // Snapshots only ever grow and are always sorted
+                            final VersionCatalog catalog = registry.get(keys[k]);
+                            Assertions.assertTrue(catalog.size() >= lastSize[k]);
+                            lastSize[k] = catalog.size();
+
+                            Version previous = null;
+                            for (Version version : catalog) {
+                                if (previous != null)
+                                    Assertions.assertTrue(previous.compareTo(version) < 0);
+                                previous = version;
+                            }
+                            Assertions.assertSame(previous, catalog.latest());
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : writerFutures)
+                future.get(30, TimeUnit.SECONDS);
+            writing.set(false);
+            for (Future<?> future : readerFutures)
+                future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = 0;
+        for (String key : keys)
+            total += registry.get(key).size();
+        Assertions.assertEquals(writers * versionsPerWriter, total);
+        Assertions.assertEquals(Version.of((writers - 1) + "." + (versionsPerWriter - 1) + ".0"), registry.latest(keys[(versionsPerWriter - 1) % keys.length]));
+    }
+}
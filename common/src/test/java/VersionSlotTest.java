@@ -0,0 +1,125 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionParseError;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.VersionSlot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class VersionSlotTest {
+    private static final String[] VERSIONS = {
+        "0.0.0", "1.0.0", "1.0.1", "1.1.0", "2.0.0", "v1.0.0",
+        "1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta", "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1",
+        "1.0.0-0", "1.0.0-x01", "1.0.0-99999999999999999999", "1.0.0-99999999999999999998", "1.0.0-9223372036854775807",
+        "1.0.0-alpha+build.1", "1.0.0+build.2", "1.0.0-a.b.c.d.e.f.g.h.i.j", "9223372036854775807.0.0",
+    };
+
+    @Test
+    public void testCompareLikeVersion() {
+        final VersionSlot slot = new VersionSlot();
+        for (String string : VERSIONS) {
+            Assertions.assertTrue(slot.tryParse(string), string);
+            final Version version = Version.of(string);
+            for (String otherString : VERSIONS) {
+                final Version other = Version.of(otherString);
+                Assertions.assertEquals(Integer.signum(version.compareTo(other)), Integer.signum(slot.compareTo(other)), () -> string + " <=> " + otherString);
+            }
+            Assertions.assertEquals(Version.isNewer(version, Version.of("1.0.0")), slot.isNewerThan(Version.of("1.0.0")));
+            Assertions.assertEquals(Version.isOlder(version, Version.of("1.0.0")), slot.isOlderThan(Version.of("1.0.0")));
+        }
+    }
+
+    @Test
+    public void testToVersion() {
+        final VersionSlot slot = new VersionSlot();
+        for (String string : VERSIONS) {
+            Assertions.assertTrue(slot.tryParse(string));
+            final Version version = slot.toVersion();
+            Assertions.assertEquals(Version.of(string), version);
+            Assertions.assertArrayEquals(Version.of(string).getPreReleaseIdentifiers(), version.getPreReleaseIdentifiers());
+            Assertions.assertEquals(Version.of(string).toString(), slot.toString());
+            Assertions.assertEquals(0, slot.compareTo(version));
+
+            Assertions.assertEquals(version, new VersionSlot().set(version).toVersion());
+        }
+    }
+
+    @Test
+    public void testSetBuilderPreRelease() {
+        // The builder keeps empty identifiers in the pre-release, but leaves them out of the identifiers
+        for (String preRelease : new String[]{"a..b", ".a", "a.", "1..2.beta", "."}) {
+            final Version version = Version.of(1, 0, 0, preRelease);
+            final VersionSlot slot = new VersionSlot().set(version);
+            final Version copy = slot.toVersion();
+            Assertions.assertEquals(version, copy, preRelease);
+            Assertions.assertArrayEquals(version.getPreReleaseIdentifiers(), copy.getPreReleaseIdentifiers(), preRelease);
+            Assertions.assertEquals(0, copy.compareTo(version), preRelease);
+            Assertions.assertEquals(0, slot.compareTo(version), preRelease);
+            for (String string : VERSIONS) {
+                final Version other = Version.of(string);
+                Assertions.assertEquals(Integer.signum(version.compareTo(other)), Integer.signum(slot.compareTo(other)), () -> preRelease + " <=> " + string);
+            }
+        }
+    }
+
+    @Test
+    public void testWithinRange() {
+        final VersionRange range = VersionRange.parse(">=1.0.0-beta <1.1.0 || >=2.0.0");
+        final VersionSlot slot = new VersionSlot();
+        for (String string : VERSIONS) {
+            Assertions.assertTrue(slot.tryParse(string));
+            Assertions.assertEquals(range.contains(Version.of(string)), slot.isWithin(range), string);
+        }
+    }
+
+    @Test
+    public void testParseRegions() {
+        final VersionSlot slot = new VersionSlot();
+        Assertions.assertTrue(slot.tryParse("version=1.2.3-rc.1;", 8, 10));
+        Assertions.assertEquals(Version.of("1.2.3-rc.1"), slot.toVersion());
+
+        final byte[] bytes = "[1.2.4+build.5]".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertTrue(slot.tryParse(bytes, 1, 13));
+        Assertions.assertEquals(Version.of("1.2.4+build.5"), slot.toVersion());
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put("2.0.0-beta".getBytes(StandardCharsets.US_ASCII)).flip();
+        Assertions.assertTrue(slot.tryParse(buffer));
+        Assertions.assertEquals(Version.of("2.0.0-beta"), slot.toVersion());
+        Assertions.assertEquals(0, buffer.position());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> slot.tryParse("1.0.0", 2, 10));
+    }
+
+    @Test
+    public void testFailedParseEmptiesSlot() {
+        final VersionSlot slot = new VersionSlot();
+        Assertions.assertFalse(slot.isPresent());
+        Assertions.assertThrows(IllegalStateException.class, slot::toVersion);
+
+        Assertions.assertTrue(slot.tryParse("1.0.0"));
+        Assertions.assertTrue(slot.isPresent());
+        Assertions.assertNull(slot.getError());
+
+        Assertions.assertFalse(slot.tryParse("1.02.3"));
+        Assertions.assertFalse(slot.isPresent());
+        Assertions.assertEquals(VersionParseError.LEADING_ZERO, slot.getError());
+        Assertions.assertEquals(2, slot.getErrorIndex());
+        Assertions.assertThrows(IllegalStateException.class, () -> slot.compareTo(Version.of("1.0.0")));
+
+        Assertions.assertTrue(slot.tryParse("1.0.0-alpha"));
+        Assertions.assertFalse(slot.clear().isPresent());
+    }
+
+    @Test
+    public void testReuseOverwritesPreviousValue() {
+        final VersionSlot slot = new VersionSlot();
+        Assertions.assertTrue(slot.tryParse("1.0.0-" + String.join(".", java.util.Collections.nCopies(40, "alpha")) + "+meta"));
+        Assertions.assertTrue(slot.tryParse("1.0.0"));
+        Assertions.assertFalse(slot.hasPreRelease());
+        Assertions.assertFalse(slot.hasBuildMetadata());
+        Assertions.assertEquals(Version.of("1.0.0"), slot.toVersion());
+    }
+}
@@ -0,0 +1,77 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import io.github.milkdrinkers.javasemver.VersionSorter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class VersionSorterTest {
+    private static final Comparator<Version> ASCENDING = Comparator.naturalOrder();
+
+    private static Version[] versions(int size, long maxMinor) {
+        final Random random = new Random(size);
+        final String[] qualifiers = {"", "", "-SNAPSHOT", "-rc.1", "-rc.2", "-rc.10", "-beta", "-beta.1", "+build.7", "-alpha+build.9", "+build.8"};
+        final Version[] versions = new Version[size];
+        for (int i = 0; i < size; i++) {
+            final long minor = random.nextInt(4) == 0 ? maxMinor - random.nextInt(3) : random.nextInt(40);
+            versions[i] = VersionParser.parse(random.nextInt(3) + "." + minor + "." + random.nextInt(300) + qualifiers[random.nextInt(qualifiers.length)]);
+        }
+        return versions;
+    }
+
+    private static void assertSortsLikeComparison(Version[] versions, boolean parallel) {
+        final Version[] expected = versions.clone();
+        Arrays.sort(expected, ASCENDING);
+
+        final Version[] actual = versions.clone();
+        if (parallel) {
+            final ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                VersionSorter.parallelSort(actual, pool);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            VersionSorter.sort(actual);
+        }
+
+        // Versions of equal precedence keep their order, so the exact same instances are in the same places
+        for (int i = 0; i < expected.length; i++)
+            Assertions.assertSame(expected[i], actual[i], () -> "Mismatch in array of " + versions.length);
+    }
+
+    @Test
+    public void testSort() {
+        for (int size : new int[]{0, 1, 10, 63, 64, 1_000, 50_000})
+            assertSortsLikeComparison(versions(size, 40), false);
+    }
+
+    @Test
+    public void testParallelSort() {
+        assertSortsLikeComparison(versions(200_000, 2_097_151), true);
+        assertSortsLikeComparison(versions(1_000, 40), true);
+        final Version[] versions = versions(100, 40);
+        VersionSorter.parallelSort(versions);
+        for (int i = 1; i < versions.length; i++)
+            Assertions.assertTrue(ASCENDING.compare(versions[i - 1], versions[i]) <= 0);
+    }
+
+    @Test
+    public void testOversizedComponents() {
+        assertSortsLikeComparison(versions(5_000, Long.MAX_VALUE), false);
+        assertSortsLikeComparison(versions(100_000, 2_097_152), true);
+    }
+
+    @Test
+    public void testAlreadySorted() {
+        final Version[] versions = versions(10_000, 40);
+        Arrays.sort(versions, ASCENDING.reversed());
+        assertSortsLikeComparison(versions, false);
+        Arrays.sort(versions, ASCENDING);
+        assertSortsLikeComparison(versions, false);
+    }
+}
@@ -0,0 +1,120 @@
+import io.github.milkdrinkers.javasemver.Version;
+import io.github.milkdrinkers.javasemver.VersionCheckResult;
+import io.github.milkdrinkers.javasemver.VersionCompare;
+import io.github.milkdrinkers.javasemver.VersionParser;
+import io.github.milkdrinkers.javasemver.VersionRange;
+import io.github.milkdrinkers.javasemver.VersionTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class VersionTableTest {
+    private static List<Version> fleet(int size) {
+        final Random random = new Random(size);
+        final String[] qualifiers = {"", "", "", "-SNAPSHOT", "-rc.1", "-rc.2", "+build.7", "-beta+build.9"};
+        final List<Version> versions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            versions.add(VersionParser.parse(random.nextInt(3) + "." + random.nextInt(22) + "." + random.nextInt(6) + qualifiers[random.nextInt(qualifiers.length)]));
+        return versions;
+    }
+
+    private static void assertMatchesLinearScan(List<Version> versions) {
+        final VersionTable table = VersionTable.of(versions);
+        Assertions.assertEquals(versions.size(), table.size());
+
+        final Version pivot = VersionParser.parse("1.20.0");
+        final VersionRange range = VersionRange.parse(">=1.5.0 <1.10.0 || ^2.3.0-rc.1");
+        long newer = 0;
+        long older = 0;
+        final List<Integer> inRange = new ArrayList<>();
+        for (int i = 0; i < versions.size(); i++) {
+            final VersionCheckResult result = VersionCompare.compare(versions.get(i), pivot);
+            if (result == VersionCheckResult.NEWER)
+                newer++;
+            if (result == VersionCheckResult.OLDER)
+                older++;
+            if (range.contains(versions.get(i)))
+                inRange.add(i);
+        }
+
+        Assertions.assertEquals(newer, table.countNewerThan(pivot));
+        Assertions.assertEquals(older, table.countOlderThan(pivot));
+        Assertions.assertEquals(newer, table.rowsNewerThan(pivot).length);
+        Assertions.assertEquals(older, table.rowsOlderThan(pivot).length);
+        Assertions.assertEquals(inRange.size(), table.count(range));
+        Assertions.assertArrayEquals(inRange.stream().mapToInt(Integer::intValue).toArray(), table.rows(range));
+
+        final Map<Long, Long> byMajor = new TreeMap<>();
+        for (Version version : versions)
+            byMajor.merge(version.getMajor(), 1L, Long::sum);
+        Assertions.assertEquals(new ArrayList<>(byMajor.entrySet()), new ArrayList<>(table.countByMajor().entrySet()));
+
+        long total = 0;
+        Version previous = null;
+        for (Map.Entry<Version, Long> entry : table.countByMinor().entrySet()) {
+            if (previous != null)
+                Assertions.assertEquals(VersionCheckResult.OLDER, VersionCompare.compare(previous, entry.getKey()));
+            previous = entry.getKey();
+            final long expected = versions.stream().filter(v -> v.getMajor() == entry.getKey().getMajor() && v.getMinor() == entry.getKey().getMinor()).count();
+            Assertions.assertEquals(expected, entry.getValue());
+            total += entry.getValue();
+        }
+        Assertions.assertEquals(versions.size(), total);
+
+        final Map<String, Long> byPrecedence = new TreeMap<>();
+        for (Version version : versions)
+            byPrecedence.merge(version.getVersion() + (version.hasPreRelease() ? "-" + version.getPreRelease() : ""), 1L, Long::sum);
+
+        final long[] byRank = table.countByRank();
+        Assertions.assertEquals(table.getRankCount(), byRank.length);
+        for (int rank = 0; rank < byRank.length; rank++)
+            Assertions.assertEquals(byPrecedence.get(table.getRankedVersion(rank).getVersionFull()), byRank[rank]);
+    }
+
+    @Test
+    public void testSmallTable() {
+        assertMatchesLinearScan(fleet(5_000));
+    }
+
+    @Test
+    public void testParallelScans() {
+        assertMatchesLinearScan(fleet(300_000));
+    }
+
+    @Test
+    public void testColumns() {
+        final List<Version> versions = fleet(2_000);
+        final VersionTable table = VersionTable.of(versions);
+        for (int i = 0; i < versions.size(); i++) {
+            final Version version = versions.get(i);
+            Assertions.assertEquals(version.getVersionFull(), table.get(i).getVersionFull());
+            Assertions.assertEquals(version.getMajor(), table.getMajor(i));
+            Assertions.assertEquals(version.getMinor(), table.getMinor(i));
+            Assertions.assertEquals(version.getPatch(), table.getPatch(i));
+            Assertions.assertEquals(version.getPreRelease(), table.getPreRelease(i));
+            Assertions.assertEquals(version.getBuildMetadata(), table.getBuildMetadata(i));
+        }
+
+        // Ranks compare like the versions of their rows
+        for (int i = 1; i < versions.size(); i++) {
+            final VersionCheckResult expected = VersionCompare.compare(versions.get(i - 1), versions.get(i));
+            final int actual = Integer.compare(table.getRank(i - 1), table.getRank(i));
+            Assertions.assertEquals(expected == VersionCheckResult.EQUAL ? 0 : expected == VersionCheckResult.NEWER ? 1 : -1, actual);
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(versions.size()));
+    }
+
+    @Test
+    public void testEmpty() {
+        final VersionTable table = VersionTable.builder().build();
+        Assertions.assertEquals(0, table.size());
+        Assertions.assertEquals(0, table.countNewerThan(VersionParser.parse("1.0.0")));
+        Assertions.assertEquals(0, table.rows(VersionRange.parse("*")).length);
+        Assertions.assertTrue(table.countByMinor().isEmpty());
+    }
+}
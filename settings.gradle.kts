@@ -15,4 +15,5 @@ enableFeaturePreview("TYPESAFE_PROJECT_ACCESSORS")
 
 include(
     "common",
+    "benchmarks",
 )
\ No newline at end of file